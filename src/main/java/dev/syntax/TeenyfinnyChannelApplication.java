@@ -6,7 +6,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.TimeZone;
 
-@EnableScheduling // Redis 없이 DB로 카카오 임시 토큰을 관리하기 때문에 사용
+@EnableScheduling // 만료 데이터 정리, 월간 리포트 생성 등 주기 작업에 사용
 @SpringBootApplication
 public class TeenyfinnyChannelApplication {
 
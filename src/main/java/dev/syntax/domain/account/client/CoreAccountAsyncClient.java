@@ -0,0 +1,73 @@
+package dev.syntax.domain.account.client;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
+import dev.syntax.domain.account.dto.core.CoreCreateAccountReq;
+import dev.syntax.domain.account.dto.core.CoreGoalAccountReq;
+import dev.syntax.domain.account.dto.core.CoreInvestmentAccountRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionDetailItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionHistoryRes;
+import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
+import dev.syntax.global.core.CoreAsyncExecutor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link CoreAccountClient}의 비동기 버전입니다.
+ * <p>
+ * 각 메서드는 동일한 이름의 동기 메서드를 Core 호출 전용 실행 풀에서 실행하고
+ * {@link CompletableFuture}로 반환합니다. 독립적인 Core 호출을 병렬로 보낼 때 사용합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CoreAccountAsyncClient {
+
+	private final CoreAccountClient coreAccountClient;
+	private final CoreAsyncExecutor coreAsyncExecutor;
+
+	/** @see CoreAccountClient#getUserAccounts() */
+	public CompletableFuture<CoreUserAccountListRes> getUserAccounts() {
+		return coreAsyncExecutor.supply(coreAccountClient::getUserAccounts);
+	}
+
+	/** @see CoreAccountClient#getUserAccounts(Long) */
+	public CompletableFuture<CoreUserAccountListRes> getUserAccounts(Long coreUserId) {
+		return coreAsyncExecutor.supply(() -> coreAccountClient.getUserAccounts(coreUserId));
+	}
+
+	/** @see CoreAccountClient#getLatestUserAccounts(Long) */
+	public CompletableFuture<CoreUserAccountListRes> getLatestUserAccounts(Long coreUserId) {
+		return coreAsyncExecutor.supply(() -> coreAccountClient.getLatestUserAccounts(coreUserId));
+	}
+
+	/** @see CoreAccountClient#createInvestmentAccount(Long) */
+	public CompletableFuture<CoreInvestmentAccountRes> createInvestmentAccount(Long userId) {
+		return coreAsyncExecutor.supply(() -> coreAccountClient.createInvestmentAccount(userId));
+	}
+
+	/** @see CoreAccountClient#createGoalAccount(CoreGoalAccountReq) */
+	public CompletableFuture<CoreAccountItemRes> createGoalAccount(CoreGoalAccountReq req) {
+		return coreAsyncExecutor.supply(() -> coreAccountClient.createGoalAccount(req));
+	}
+
+	/** @see CoreAccountClient#createChildAccount(CoreCreateAccountReq) */
+	public CompletableFuture<CoreAccountItemRes> createChildAccount(CoreCreateAccountReq req) {
+		return coreAsyncExecutor.supply(() -> coreAccountClient.createChildAccount(req));
+	}
+
+	/** @see CoreAccountClient#getAccountTransactionsByPeriod(String, LocalDate, LocalDate) */
+	public CompletableFuture<CoreTransactionHistoryRes> getAccountTransactionsByPeriod(
+		String accountNo, LocalDate startDate, LocalDate endDate) {
+		return coreAsyncExecutor.supply(
+			() -> coreAccountClient.getAccountTransactionsByPeriod(accountNo, startDate, endDate));
+	}
+
+	/** @see CoreAccountClient#getTransactionDetail(Long) */
+	public CompletableFuture<CoreTransactionDetailItemRes> getTransactionDetail(Long transactionId) {
+		return coreAsyncExecutor.supply(() -> coreAccountClient.getTransactionDetail(transactionId));
+	}
+}
@@ -1,5 +1,9 @@
 package dev.syntax.domain.account.client;
 
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
@@ -9,10 +13,17 @@ import dev.syntax.domain.account.dto.core.CoreGoalAccountReq;
 import dev.syntax.domain.account.dto.core.CoreInvestmentAccountRes;
 import dev.syntax.domain.account.dto.core.CoreTransactionDetailItemRes;
 import dev.syntax.domain.account.dto.core.CoreTransactionHistoryRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
 import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
 import dev.syntax.global.core.CoreApiProperties;
-import lombok.RequiredArgsConstructor;
+import dev.syntax.global.core.CoreUserIdResolver;
+import dev.syntax.global.core.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Core 뱅킹 서버의 계좌 조회 API를 호출하는 클라이언트입니다.
@@ -21,29 +32,111 @@ import java.time.LocalDate;
  * </p>
  */
 @Service
-@RequiredArgsConstructor
 public class CoreAccountClient {
 	private final RestTemplate coreRestTemplate;
 	private final CoreApiProperties properties;
 
+	private final CoreAccountSnapshotCache snapshotCache;
+	private final CoreTransactionMonthStore transactionMonthStore;
+	private final CoreTransactionStreamReader transactionStreamReader;
+
+	/** 같은 Core 사용자의 동시 계좌 조회를 하나의 Core 요청으로 병합 */
+	private final SingleFlight<Long, CoreUserAccountListRes> userAccountsFlight;
+
+	public CoreAccountClient(
+		RestTemplate coreRestTemplate,
+		CoreApiProperties properties,
+		CoreAccountSnapshotCache snapshotCache,
+		CoreTransactionMonthStore transactionMonthStore,
+		CoreTransactionStreamReader transactionStreamReader,
+		MeterRegistry meterRegistry
+	) {
+		this.coreRestTemplate = coreRestTemplate;
+		this.properties = properties;
+		this.snapshotCache = snapshotCache;
+		this.transactionMonthStore = transactionMonthStore;
+		this.transactionStreamReader = transactionStreamReader;
+		this.userAccountsFlight = new SingleFlight<>(
+			meterRegistry.counter("core.client.coalesced", "endpoint", ACCOUNT_URL));
+	}
+
 	/** Core 서버의 계좌 조회 API 엔드포인트 */
 	private static final String ACCOUNT_URL = "/core/banking/account";
-	private static final String INVESTMENT_ACCOUNT_URL = "/core/banking/account/investment";
+	private static final String INVESTMENT_ACCOUNT_URL = "/core/banking/account/investment?userId={userId}";
 	private static final String ALLOWANCE_ACCOUNT_URL = "/core/banking/account/create";
 	/**
 	 * Core 서버에서 사용자의 전체 계좌 정보를 조회합니다.
 	 * <p>
 	 * 부모 사용자일 경우 자녀의 계좌 정보도 함께 반환됩니다.
+	 * 응답은 {@link CoreAccountSnapshotCache}에 Core User ID 단위로 캐시되며,
+	 * 같은 Core 사용자(X-Core-User-Id)에 대해 동시에 진행 중인 조회가 있으면
+	 * 새 요청을 보내지 않고 해당 응답을 공유합니다.
 	 * </p>
 	 *
 	 * @return 사용자 계좌 목록 (부모일 경우 자녀 계좌 포함)
 	 * @throws dev.syntax.global.exception.CoreApiException Core 서버 API 호출 중 에러 발생 시
 	 */
 	public CoreUserAccountListRes getUserAccounts() {
-		return coreRestTemplate.getForObject(
+		Long coreUserId = CoreUserIdResolver.currentCoreUserId();
+		if (coreUserId == null) {
+			return fetchUserAccounts(null);
+		}
+		return snapshotCache.get(coreUserId, this::loadUserAccounts);
+	}
+
+	/**
+	 * 지정한 Core 사용자의 전체 계좌 정보를 조회합니다.
+	 * <p>
+	 * 로그인 사용자가 아닌 가족 단위로 잔액을 모아 조회할 때 사용하며,
+	 * {@link #getUserAccounts()}와 같은 스냅샷 캐시를 공유합니다.
+	 * </p>
+	 *
+	 * @param coreUserId 조회할 Core User ID
+	 * @return 사용자 계좌 목록 (부모일 경우 자녀 계좌 포함)
+	 * @throws dev.syntax.global.exception.CoreApiException Core 서버 API 호출 중 에러 발생 시
+	 */
+	public CoreUserAccountListRes getUserAccounts(Long coreUserId) {
+		return snapshotCache.get(coreUserId, this::loadUserAccounts);
+	}
+
+	/**
+	 * 스냅샷 캐시를 거치지 않고 지정한 Core 사용자의 계좌 목록을 Core 서버에서 조회합니다.
+	 * <p>
+	 * 스냅샷 캐시는 갱신이 실패하면 {@code max-stale}까지 이전 스냅샷을 응답하므로,
+	 * 잔액처럼 Core 쪽 변경(카드 결제, 예약 이체 등)을 짧은 시간 안에 반영해야 하는 경우에 사용합니다.
+	 * 같은 Core 사용자에 대해 진행 중인 조회가 있으면 해당 응답을 공유합니다.
+	 * </p>
+	 *
+	 * @param coreUserId 조회할 Core User ID
+	 * @return 사용자 계좌 목록 (부모일 경우 자녀 계좌 포함)
+	 * @throws dev.syntax.global.exception.CoreApiException Core 서버 API 호출 중 에러 발생 시
+	 */
+	public CoreUserAccountListRes getLatestUserAccounts(Long coreUserId) {
+		return loadUserAccounts(coreUserId);
+	}
+
+	private CoreUserAccountListRes loadUserAccounts(Long coreUserId) {
+		return userAccountsFlight.execute(coreUserId, () -> fetchUserAccounts(coreUserId));
+	}
+
+	/**
+	 * Core 서버에서 계좌 목록을 조회합니다.
+	 * <p>
+	 * 백그라운드 갱신은 SecurityContext가 없는 스레드에서 실행되므로
+	 * X-Core-User-Id 헤더를 명시적으로 지정합니다.
+	 * </p>
+	 */
+	private CoreUserAccountListRes fetchUserAccounts(Long coreUserId) {
+		HttpHeaders headers = new HttpHeaders();
+		if (coreUserId != null) {
+			headers.set(CoreUserIdResolver.HEADER, String.valueOf(coreUserId));
+		}
+		return coreRestTemplate.exchange(
 			properties.getBaseUrl() + ACCOUNT_URL,
+			HttpMethod.GET,
+			new HttpEntity<>(headers),
 			CoreUserAccountListRes.class
-		);
+		).getBody();
 	}
 
 	/**
@@ -53,9 +146,10 @@ public class CoreAccountClient {
 	 */
 	public CoreInvestmentAccountRes createInvestmentAccount(Long userId) {
 		return coreRestTemplate.postForObject(
-			properties.getBaseUrl() + INVESTMENT_ACCOUNT_URL + "?userId=" + userId,
+			properties.getBaseUrl() + INVESTMENT_ACCOUNT_URL,
 			null,
-			CoreInvestmentAccountRes.class
+			CoreInvestmentAccountRes.class,
+			userId
 		);
 	}
 
@@ -84,6 +178,10 @@ public class CoreAccountClient {
 
 	/**
 	 * 특정 계좌의 기간별 거래내역을 조회합니다.
+	 * <p>
+	 * 마감된 달의 거래내역은 {@link CoreTransactionMonthStore}에 보관된 내역으로 응답하고,
+	 * 아직 마감되지 않은 달만 Core 서버에서 조회합니다.
+	 * </p>
 	 *
 	 * @param accountNo 계좌 번호
 	 * @param startDate 조회 시작일
@@ -91,9 +189,44 @@ public class CoreAccountClient {
 	 * @return 거래내역 리스트 (CoreTransactionHistoryRes)
 	 */
 	public CoreTransactionHistoryRes getAccountTransactionsByPeriod(String accountNo, LocalDate startDate, LocalDate endDate) {
-		return coreRestTemplate.getForObject(
+		List<CoreTransactionItemRes> transactions = new ArrayList<>();
+		CoreTransactionStreamRes res = forEachTransactionByPeriod(accountNo, startDate, endDate, transactions::add);
+		return res == null ? null : new CoreTransactionHistoryRes(transactions, res.balance());
+	}
+
+	/**
+	 * 특정 계좌의 기간별 거래내역을 한 건씩 전달합니다.
+	 * <p>
+	 * Core 응답 본문을 토큰 단위로 읽으면서 거래를 바로 전달하므로, 거래 건수가 많아도
+	 * 전체 목록을 메모리에 올리지 않습니다. 집계나 변환만 필요한 경우
+	 * {@link #getAccountTransactionsByPeriod(String, LocalDate, LocalDate)} 대신 사용합니다.
+	 * </p>
+	 *
+	 * @param accountNo 계좌 번호
+	 * @param startDate 조회 시작일
+	 * @param endDate   조회 종료일
+	 * @param sink      거래 내역을 받을 Consumer (Core 응답 순서대로 호출)
+	 * @return 전달한 건수와 잔액 (Core가 null을 응답한 경우 null)
+	 */
+	public CoreTransactionStreamRes forEachTransactionByPeriod(String accountNo, LocalDate startDate, LocalDate endDate,
+		Consumer<CoreTransactionItemRes> sink) {
+		return transactionMonthStore.forEach(accountNo, startDate, endDate, this::streamTransactionsByPeriod, sink);
+	}
+
+	/**
+	 * Core 응답 본문을 읽으면서 거래를 전달합니다.
+	 * <p>
+	 * 동시 호출 한도와 벌크헤드 자리는 응답이 닫힐 때(추출기가 끝난 뒤) 반납되므로 본문을 읽는 동안에도 유지되며,
+	 * 읽는 중 발생한 읽기 타임아웃/연결 재설정은 Core 실패로 기록됩니다.
+	 * </p>
+	 */
+	private CoreTransactionStreamRes streamTransactionsByPeriod(String accountNo, LocalDate startDate, LocalDate endDate,
+		Consumer<CoreTransactionItemRes> sink) {
+		return coreRestTemplate.execute(
 				properties.getBaseUrl() + "/core/transaction/account/{accountNo}/period?startDate={startDate}&endDate={endDate}",
-				CoreTransactionHistoryRes.class,
+				HttpMethod.GET,
+				request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+				response -> transactionStreamReader.read(response.getBody(), sink),
 				accountNo, startDate, endDate);
 	}
 
@@ -0,0 +1,221 @@
+package dev.syntax.domain.account.client;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
+import dev.syntax.domain.user.entity.User;
+import dev.syntax.domain.user.entity.UserRelationship;
+import dev.syntax.global.core.CoreApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Core 계좌 목록({@link CoreUserAccountListRes}) 스냅샷을 Core User ID 단위로 보관하는 캐시입니다.
+ * <p>
+ * 계좌 목록은 돈이 움직일 때만 바뀌므로, 홈/요약/잔액 조회마다 Core를 호출하지 않고
+ * 최근 스냅샷을 응답합니다. 동작 방식은 stale-while-revalidate 입니다.
+ * </p>
+ * <ul>
+ *   <li>{@code refresh-after} 이내: 캐시된 스냅샷을 그대로 응답</li>
+ *   <li>{@code refresh-after} 경과: 캐시된 스냅샷을 응답하고 백그라운드에서 Core 재조회</li>
+ *   <li>재조회 실패(Core 장애): {@code max-stale}까지 마지막 스냅샷을 계속 응답</li>
+ *   <li>캐시 미존재: 호출 스레드에서 Core 조회 후 저장</li>
+ * </ul>
+ * <p>
+ * 채널에서 계좌 잔액/구성이 바뀌는 작업(계좌 개설, 자동이체 변경, 목표 입금 이벤트 등)은
+ * {@link #evictFamily(User)}로 해당 가족의 스냅샷을 명시적으로 무효화해야 합니다.
+ * 적중률은 {@code core.account.snapshot.hit.ratio} 게이지로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CoreAccountSnapshotCache {
+
+	private static final String METRIC_PREFIX = "core.account.snapshot";
+
+	private final CoreApiProperties.AccountCache config;
+	private final Executor refreshExecutor;
+	private final Cache<Long, Snapshot> cache;
+
+	/** 백그라운드 갱신이 진행 중인 Core User ID */
+	private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Core User ID별 무효화 세대. 해당 사용자의 조회 도중 무효화가 일어나면 조회 결과를 저장하지 않습니다.
+	 * 다른 사용자의 무효화는 영향을 주지 않습니다. (무효화된 적 있는 사용자만 항목을 가짐)
+	 */
+	private final ConcurrentHashMap<Long, Long> generations = new ConcurrentHashMap<>();
+
+	/** 스냅샷에서 파생된 값을 따로 캐시하는 곳에 무효화를 전달 */
+	private final List<Consumer<Long>> evictionListeners = new CopyOnWriteArrayList<>();
+
+	private final Counter staleServed;
+	private final Counter refreshFailures;
+
+	public CoreAccountSnapshotCache(
+		CoreApiProperties properties,
+		@Qualifier("appExecutor") Executor refreshExecutor,
+		MeterRegistry meterRegistry
+	) {
+		this.config = properties.getAccountCache();
+		this.refreshExecutor = refreshExecutor;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(config.getMaxSize())
+			.expireAfterWrite(config.getMaxStale())
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_PREFIX);
+		Gauge.builder(METRIC_PREFIX + ".hit.ratio", cache, c -> c.stats().hitRate())
+			.description("Core 계좌 목록 스냅샷 캐시 적중률")
+			.register(meterRegistry);
+		this.staleServed = meterRegistry.counter(METRIC_PREFIX + ".stale.served");
+		this.refreshFailures = meterRegistry.counter(METRIC_PREFIX + ".refresh.failures");
+	}
+
+	/**
+	 * Core User ID에 해당하는 계좌 목록 스냅샷을 반환합니다.
+	 *
+	 * @param coreUserId Core User ID
+	 * @param loader     Core 서버에서 계좌 목록을 조회하는 함수 (백그라운드 스레드에서도 호출될 수 있음)
+	 * @return 계좌 목록 스냅샷
+	 */
+	public CoreUserAccountListRes get(Long coreUserId, Function<Long, CoreUserAccountListRes> loader) {
+		if (!config.isEnabled()) {
+			return loader.apply(coreUserId);
+		}
+
+		Snapshot snapshot = cache.getIfPresent(coreUserId);
+		if (snapshot == null) {
+			return load(coreUserId, loader);
+		}
+
+		if (snapshot.isOlderThan(config.getRefreshAfter().toNanos())) {
+			staleServed.increment();
+			refreshInBackground(coreUserId, loader);
+		}
+		return snapshot.value();
+	}
+
+	/**
+	 * 주어진 Core User ID들의 스냅샷을 무효화합니다.
+	 *
+	 * @param coreUserIds 무효화할 Core User ID (null은 무시)
+	 */
+	public void evict(Long... coreUserIds) {
+		Arrays.stream(coreUserIds)
+			.filter(Objects::nonNull)
+			.forEach(coreUserId -> {
+				generations.merge(coreUserId, 1L, Long::sum);
+				cache.invalidate(coreUserId);
+				evictionListeners.forEach(listener -> listener.accept(coreUserId));
+			});
+	}
+
+	/**
+	 * 스냅샷이 무효화될 때 호출될 리스너를 등록합니다.
+	 * <p>
+	 * 스냅샷에서 계산한 값(사용자별 잔액 등)을 따로 캐시하는 경우, 무효화를 함께 반영하기 위해 사용합니다.
+	 * </p>
+	 *
+	 * @param listener 무효화된 Core User ID를 받는 리스너
+	 */
+	public void addEvictionListener(Consumer<Long> listener) {
+		evictionListeners.add(listener);
+	}
+
+	/**
+	 * 사용자와 그 가족(부모/자녀)의 스냅샷을 무효화합니다.
+	 * <p>
+	 * 부모의 스냅샷은 자녀 계좌까지 포함하므로, 자녀 계좌가 바뀌면 부모 스냅샷도 함께 무효화해야 합니다.
+	 * </p>
+	 *
+	 * @param user 계좌 정보가 바뀐 사용자
+	 */
+	public void evictFamily(User user) {
+		if (user == null) {
+			return;
+		}
+		Stream<Long> parents = user.getParents() == null ? Stream.empty() : user.getParents().stream()
+			.map(UserRelationship::getParent)
+			.filter(Objects::nonNull)
+			.map(User::getCoreUserId);
+		Stream<Long> children = user.getChildren() == null ? Stream.empty() : user.getChildren().stream()
+			.map(UserRelationship::getChild)
+			.filter(Objects::nonNull)
+			.map(User::getCoreUserId);
+
+		evict(Stream.concat(Stream.of(user.getCoreUserId()), Stream.concat(parents, children))
+			.toArray(Long[]::new));
+	}
+
+	private CoreUserAccountListRes load(Long coreUserId, Function<Long, CoreUserAccountListRes> loader) {
+		long startGeneration = generationOf(coreUserId);
+		CoreUserAccountListRes loaded = loader.apply(coreUserId);
+		store(coreUserId, loaded, startGeneration);
+		return loaded;
+	}
+
+	private void refreshInBackground(Long coreUserId, Function<Long, CoreUserAccountListRes> loader) {
+		if (!refreshing.add(coreUserId)) {
+			return;
+		}
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					load(coreUserId, loader);
+				} catch (Exception e) {
+					refreshFailures.increment();
+					log.warn("[Core 계좌 스냅샷 갱신 실패] coreUserId={}, 기존 스냅샷 유지: {}", coreUserId, e.getMessage());
+				} finally {
+					refreshing.remove(coreUserId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshing.remove(coreUserId);
+			log.warn("[Core 계좌 스냅샷 갱신 생략] coreUserId={}, 실행기 포화", coreUserId);
+		}
+	}
+
+	private void store(Long coreUserId, CoreUserAccountListRes value, long startGeneration) {
+		if (value == null || generationOf(coreUserId) != startGeneration) {
+			return;
+		}
+		Snapshot snapshot = new Snapshot(value, System.nanoTime());
+		cache.put(coreUserId, snapshot);
+		// 확인과 저장 사이에 무효화되었다면 방금 저장한 스냅샷을 되돌림
+		if (generationOf(coreUserId) != startGeneration) {
+			cache.asMap().remove(coreUserId, snapshot);
+		}
+	}
+
+	private long generationOf(Long coreUserId) {
+		return generations.getOrDefault(coreUserId, 0L);
+	}
+
+	private record Snapshot(CoreUserAccountListRes value, long fetchedAtNanos) {
+
+		boolean isOlderThan(long nanos) {
+			return System.nanoTime() - fetchedAtNanos > nanos;
+		}
+	}
+}
@@ -0,0 +1,304 @@
+package dev.syntax.domain.account.client;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
+import dev.syntax.domain.account.entity.TransactionMonthSnapshot;
+import dev.syntax.domain.account.repository.TransactionMonthSnapshotRepository;
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.GzipJsonCodec;
+import dev.syntax.global.core.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마감된 달의 계좌 거래 내역을 (계좌번호, 연월) 단위로 보관하는 저장소입니다.
+ * <p>
+ * 지난 달의 거래 내역은 다시 바뀌지 않으므로 Core에서 한 달 전체를 한 번만 조회해
+ * {@code transaction_month_snapshot} 테이블에 GZIP JSON으로 저장하고,
+ * 이후에는 메모리(LRU) → DB 순으로 응답합니다.
+ * 메모리는 보관 중인 거래 건수의 합({@code memory-max-items})으로 제한합니다.
+ * </p>
+ * <p>
+ * 임의의 기간 조회는 마감된 달은 보관본에서 잘라 쓰고, 아직 마감되지 않은 달(이번 달 이후)만
+ * Core에서 스트리밍으로 조회해 이어서 전달합니다. 이때 {@link CoreTransactionStreamRes#balance()}는
+ * Core를 실제로 호출한 경우에만 채워지며, 마감된 달만 조회하면 {@code null}입니다.
+ * </p>
+ * <ul>
+ *   <li>{@code core.transaction.store.calls.avoided}: 보관본으로 대신한 Core 월 조회 수</li>
+ *   <li>{@code core.transaction.store.bytes.saved}: 보관본으로 대신한 Core 응답 크기(압축 전 JSON, byte)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CoreTransactionMonthStore {
+
+	private static final String METRIC_PREFIX = "core.transaction.store";
+	private static final TypeReference<List<CoreTransactionItemRes>> ITEMS_TYPE = new TypeReference<>() {
+	};
+
+	/**
+	 * Core 서버에서 기간별 거래 내역을 조회해 한 건씩 전달하는 함수입니다.
+	 */
+	@FunctionalInterface
+	public interface PeriodStreamer {
+		CoreTransactionStreamRes stream(String accountNo, LocalDate startDate, LocalDate endDate,
+			Consumer<CoreTransactionItemRes> sink);
+	}
+
+	private final TransactionMonthSnapshotRepository snapshotRepository;
+	private final GzipJsonCodec codec;
+	private final CoreApiProperties.TransactionStore config;
+	private final MeterRegistry meterRegistry;
+
+	/** 리포트 생성 등 호출부 트랜잭션과 분리해서 저장 (중복 저장 실패가 호출부를 롤백시키지 않도록) */
+	private final TransactionTemplate persistTemplate;
+
+	private final Cache<Key, Month> memory;
+	private final SingleFlight<Key, Month> loadFlight;
+
+	private final Counter callsAvoided;
+	private final Counter bytesSaved;
+
+	public CoreTransactionMonthStore(
+		TransactionMonthSnapshotRepository snapshotRepository,
+		GzipJsonCodec codec,
+		CoreApiProperties properties,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry
+	) {
+		this.snapshotRepository = snapshotRepository;
+		this.codec = codec;
+		this.config = properties.getTransactionStore();
+		this.meterRegistry = meterRegistry;
+		this.persistTemplate = new TransactionTemplate(transactionManager);
+		this.persistTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		this.memory = Caffeine.newBuilder()
+			.maximumWeight(config.getMemoryMaxItems())
+			.weigher((Key key, Month month) -> month.weight())
+			.recordStats()
+			.build();
+		this.loadFlight = new SingleFlight<>(meterRegistry.counter(METRIC_PREFIX + ".coalesced"));
+
+		CaffeineCacheMetrics.monitor(meterRegistry, memory, METRIC_PREFIX);
+		this.callsAvoided = meterRegistry.counter(METRIC_PREFIX + ".calls.avoided");
+		this.bytesSaved = meterRegistry.counter(METRIC_PREFIX + ".bytes.saved");
+	}
+
+	/**
+	 * 기간별 거래 내역을 한 건씩 전달합니다.
+	 * <p>
+	 * 거래는 Core 응답과 같은 순서(최신순 또는 과거순)로 전달되며,
+	 * 아직 마감되지 않은 달의 거래는 리스트로 모으지 않고 Core 응답을 읽는 대로 전달합니다.
+	 * </p>
+	 *
+	 * @param accountNo 계좌번호
+	 * @param startDate 조회 시작일 (포함)
+	 * @param endDate   조회 종료일 (포함)
+	 * @param streamer  Core 서버 조회 함수
+	 * @param sink      거래 내역을 받을 Consumer
+	 * @return 전달한 건수와 잔액 (Core가 null을 응답한 경우 null, 이때 일부 거래가 이미 전달되었을 수 있음)
+	 */
+	public CoreTransactionStreamRes forEach(String accountNo, LocalDate startDate, LocalDate endDate,
+		PeriodStreamer streamer, Consumer<CoreTransactionItemRes> sink) {
+
+		if (!config.isEnabled() || startDate == null || endDate == null || startDate.isAfter(endDate)) {
+			return streamer.stream(accountNo, startDate, endDate, sink);
+		}
+
+		LocalDate openStart = firstOpenMonth().atDay(1);
+		if (!startDate.isBefore(openStart)) {
+			return streamer.stream(accountNo, startDate, endDate, sink);
+		}
+
+		// 1. 마감된 달: 보관본에서 요청 기간만큼 잘라 사용 (과거 → 최근 순)
+		LocalDate closedEnd = endDate.isBefore(openStart) ? endDate : openStart.minusDays(1);
+		List<List<CoreTransactionItemRes>> closed = new ArrayList<>();
+		for (YearMonth ym = YearMonth.from(startDate); !ym.isAfter(YearMonth.from(closedEnd)); ym = ym.plusMonths(1)) {
+			Month month = getMonth(accountNo, ym, streamer);
+			if (month == null) {
+				return null;
+			}
+			closed.add(slice(month.items(), ym, startDate, closedEnd));
+		}
+
+		// 2. Core 응답 순서에 맞춰 마감된 달과 마감되지 않은 달(Core 조회)을 이어서 전달
+		boolean hasOpen = !endDate.isBefore(openStart);
+		int count = 0;
+		BigDecimal balance = null;
+
+		if (isNewestFirst(closed)) {
+			if (hasOpen) {
+				CoreTransactionStreamRes live = streamer.stream(accountNo, openStart, endDate, sink);
+				if (live == null) {
+					return null;
+				}
+				count += live.count();
+				balance = live.balance();
+			}
+			for (int i = closed.size() - 1; i >= 0; i--) {
+				count += emit(closed.get(i), sink);
+			}
+		} else {
+			for (List<CoreTransactionItemRes> segment : closed) {
+				count += emit(segment, sink);
+			}
+			if (hasOpen) {
+				CoreTransactionStreamRes live = streamer.stream(accountNo, openStart, endDate, sink);
+				if (live == null) {
+					return null;
+				}
+				count += live.count();
+				balance = live.balance();
+			}
+		}
+		return new CoreTransactionStreamRes(count, balance);
+	}
+
+	private static int emit(List<CoreTransactionItemRes> items, Consumer<CoreTransactionItemRes> sink) {
+		items.forEach(sink);
+		return items.size();
+	}
+
+	private Month getMonth(String accountNo, YearMonth ym, PeriodStreamer streamer) {
+		Key key = new Key(accountNo, ym);
+		Month cached = memory.getIfPresent(key);
+		if (cached != null) {
+			saved(cached);
+			record("memory");
+			return cached;
+		}
+		return loadFlight.execute(key, () -> loadMonth(key, streamer));
+	}
+
+	private Month loadMonth(Key key, PeriodStreamer streamer) {
+		Month stored = snapshotRepository
+			.findByAccountNoAndYearAndMonth(key.accountNo(), key.yearMonth().getYear(), key.yearMonth().getMonthValue())
+			.map(snapshot -> new Month(codec.decode(snapshot.getPayload(), ITEMS_TYPE), snapshot.getRawSize()))
+			.orElse(null);
+		if (stored != null) {
+			saved(stored);
+			record("database");
+			memory.put(key, stored);
+			return stored;
+		}
+
+		// 보관본을 만들기 위해 한 달 전체를 모음 (달마다 최초 한 번만)
+		record("core");
+		List<CoreTransactionItemRes> items = new ArrayList<>();
+		CoreTransactionStreamRes fetched = streamer.stream(
+			key.accountNo(), key.yearMonth().atDay(1), key.yearMonth().atEndOfMonth(), items::add);
+		if (fetched == null) {
+			return null;
+		}
+		GzipJsonCodec.Encoded encoded = codec.encode(items);
+		persist(key, items.size(), encoded);
+
+		Month month = new Month(items, encoded.rawSize());
+		memory.put(key, month);
+		return month;
+	}
+
+	private void persist(Key key, int itemCount, GzipJsonCodec.Encoded encoded) {
+		try {
+			persistTemplate.executeWithoutResult(status -> snapshotRepository.save(TransactionMonthSnapshot.builder()
+				.accountNo(key.accountNo())
+				.year(key.yearMonth().getYear())
+				.month(key.yearMonth().getMonthValue())
+				.itemCount(itemCount)
+				.payload(encoded.payload())
+				.rawSize(encoded.rawSize())
+				.build()));
+		} catch (DataIntegrityViolationException e) {
+			// 다른 인스턴스가 먼저 저장한 경우 (마감된 달이므로 내용은 동일)
+			log.debug("[거래 내역 보관] 이미 저장된 스냅샷: accountNo={}, {}", key.accountNo(), key.yearMonth());
+		}
+	}
+
+	/**
+	 * 월 전체 거래 중 요청 기간에 해당하는 거래만 남깁니다. 월 전체를 요청한 경우 그대로 반환합니다.
+	 */
+	private static List<CoreTransactionItemRes> slice(List<CoreTransactionItemRes> items, YearMonth ym,
+		LocalDate startDate, LocalDate endDate) {
+
+		if (!startDate.isAfter(ym.atDay(1)) && !endDate.isBefore(ym.atEndOfMonth())) {
+			return items;
+		}
+		return items.stream()
+			.filter(item -> {
+				LocalDateTime at = item.transactionDate();
+				if (at == null) {
+					return false;
+				}
+				LocalDate date = at.toLocalDate();
+				return !date.isBefore(startDate) && !date.isAfter(endDate);
+			})
+			.toList();
+	}
+
+	/**
+	 * 마감된 달의 거래로 Core 응답이 최신순인지 판단합니다.
+	 * 판단할 수 없으면 Core 거래 내역 API의 기본 정렬(최신순)을 따릅니다.
+	 */
+	private static boolean isNewestFirst(List<List<CoreTransactionItemRes>> segments) {
+		for (List<CoreTransactionItemRes> segment : segments) {
+			if (segment.size() < 2) {
+				continue;
+			}
+			LocalDateTime first = segment.get(0).transactionDate();
+			LocalDateTime last = segment.get(segment.size() - 1).transactionDate();
+			if (first != null && last != null && !first.isEqual(last)) {
+				return first.isAfter(last);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 아직 마감되지 않은 첫 번째 달을 반환합니다.
+	 * 월이 바뀐 직후 {@code settle-grace} 동안은 지난 달도 마감되지 않은 것으로 봅니다.
+	 */
+	private YearMonth firstOpenMonth() {
+		return YearMonth.from(LocalDateTime.now().minus(config.getSettleGrace()));
+	}
+
+	private void saved(Month month) {
+		callsAvoided.increment();
+		bytesSaved.increment(month.rawSize());
+	}
+
+	private void record(String source) {
+		meterRegistry.counter(METRIC_PREFIX + ".lookup", "source", source).increment();
+	}
+
+	private record Key(String accountNo, YearMonth yearMonth) {
+	}
+
+	private record Month(List<CoreTransactionItemRes> items, int rawSize) {
+
+		/** 메모리 제한에 반영할 무게 (거래가 없는 달도 1로 계산) */
+		int weight() {
+			return items.size() + 1;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package dev.syntax.domain.account.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import dev.syntax.domain.account.dto.core.CoreTransactionHistoryRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
+
+/**
+ * Core 거래내역 응답({@link CoreTransactionHistoryRes} 형식)을 토큰 단위로 읽는 리더입니다.
+ * <p>
+ * {@code transactions} 배열을 리스트로 만들지 않고 거래 한 건씩 역직렬화하여 Consumer로 전달하므로,
+ * 거래 건수와 관계없이 한 번에 한 건만 메모리에 올라갑니다.
+ * </p>
+ */
+@Component
+public class CoreTransactionStreamReader {
+
+	private static final String TRANSACTIONS_FIELD = "transactions";
+	private static final String BALANCE_FIELD = "balance";
+
+	private final ObjectMapper objectMapper;
+
+	/** RestTemplate 기본 메시지 컨버터와 마찬가지로 모르는 필드는 무시 */
+	private final ObjectReader itemReader;
+	private final ObjectReader balanceReader;
+
+	public CoreTransactionStreamReader(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		this.itemReader = objectMapper.readerFor(CoreTransactionItemRes.class)
+			.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		this.balanceReader = objectMapper.readerFor(BigDecimal.class);
+	}
+
+	/**
+	 * 응답 본문을 읽으며 거래 내역을 한 건씩 전달합니다.
+	 *
+	 * @param body 응답 본문
+	 * @param sink 거래 내역을 받을 Consumer
+	 * @return 전달한 건수와 잔액 (본문이 비어 있거나 {@code null}이면 null)
+	 * @throws IOException 본문을 읽을 수 없거나 형식이 올바르지 않은 경우
+	 */
+	public CoreTransactionStreamRes read(InputStream body, Consumer<CoreTransactionItemRes> sink) throws IOException {
+		try (JsonParser parser = objectMapper.createParser(body)) {
+			JsonToken token = parser.nextToken();
+			if (token == null || token == JsonToken.VALUE_NULL) {
+				return null;
+			}
+			if (token != JsonToken.START_OBJECT) {
+				throw new IOException("Core 거래내역 응답이 JSON 객체가 아닙니다: " + token);
+			}
+
+			int count = 0;
+			BigDecimal balance = null;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+
+				if (TRANSACTIONS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+					while (parser.nextToken() != JsonToken.END_ARRAY) {
+						sink.accept(itemReader.readValue(parser));
+						count++;
+					}
+				} else if (BALANCE_FIELD.equals(field) && value != JsonToken.VALUE_NULL) {
+					balance = balanceReader.readValue(parser);
+				} else {
+					parser.skipChildren();
+				}
+			}
+			return new CoreTransactionStreamRes(count, balance);
+		}
+	}
+}
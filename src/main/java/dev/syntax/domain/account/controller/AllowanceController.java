@@ -50,7 +50,7 @@ public class AllowanceController {
 	@PostMapping("/accounts")
 	public ResponseEntity<?> createAccount(@CurrentUser UserContext userContext,
 		@RequestBody CreateChildAccountReq req) {
-		bankAccountService.createChildAllowanceAccount(userContext.getUser(), req);
+		bankAccountService.createChildAllowanceAccount(userContext, req);
 		return ApiResponseUtil.success(SuccessCode.CREATED);
 	}
 
@@ -0,0 +1,19 @@
+package dev.syntax.domain.account.dto.core;
+
+import java.math.BigDecimal;
+
+/**
+ * 거래내역을 스트리밍으로 조회한 결과 요약 DTO
+ * <p>
+ * 거래 내역 자체는 조회 중 호출부의 Consumer로 한 건씩 전달되며,
+ * 이 응답에는 전달한 건수와 현재 잔액만 담깁니다.
+ * </p>
+ *
+ * @param count 전달한 거래 내역 건수
+ * @param balance 현재 계좌 잔액 (마감된 달만 조회한 경우 null)
+ */
+public record CoreTransactionStreamRes(
+        int count,
+        BigDecimal balance
+) {
+}
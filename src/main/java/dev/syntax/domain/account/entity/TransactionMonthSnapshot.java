@@ -0,0 +1,62 @@
+package dev.syntax.domain.account.entity;
+
+import dev.syntax.global.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감된 달의 계좌 거래 내역 스냅샷입니다.
+ * <p>
+ * 지난 달의 거래 내역은 다시 바뀌지 않으므로 Core 응답의 거래 목록을
+ * GZIP 압축한 JSON으로 (계좌번호, 연, 월) 단위로 한 번만 저장합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "transaction_month_snapshot", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_transaction_month_snapshot_account_ym",
+		columnNames = {"account_no", "year", "month"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TransactionMonthSnapshot extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "transaction_month_snapshot_id")
+	private Long id;
+
+	@Column(name = "account_no", nullable = false, length = 50)
+	private String accountNo;
+
+	@Column(name = "year", nullable = false)
+	private Integer year;
+
+	@Column(name = "month", nullable = false)
+	private Integer month;
+
+	/** 해당 월의 거래 건수 */
+	@Column(name = "item_count", nullable = false)
+	private Integer itemCount;
+
+	/** GZIP 압축된 거래 목록(List&lt;CoreTransactionItemRes&gt;) JSON */
+	@Lob
+	@Column(name = "payload", nullable = false, columnDefinition = "MEDIUMBLOB")
+	private byte[] payload;
+
+	/** 압축 전 JSON 크기 (byte) */
+	@Column(name = "raw_size", nullable = false)
+	private Integer rawSize;
+}
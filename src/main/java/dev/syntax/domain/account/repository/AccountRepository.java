@@ -2,6 +2,7 @@ package dev.syntax.domain.account.repository;
 
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -22,6 +23,8 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     /**
      * 특정 타입의 모든 계좌 조회 (배치 작업용)
+     * 트랜잭션 밖에서 소유자의 Core User ID를 읽을 수 있도록 사용자를 함께 조회
      */
+    @EntityGraph(attributePaths = "user")
     List<Account> findAllByType(AccountType type);
 }
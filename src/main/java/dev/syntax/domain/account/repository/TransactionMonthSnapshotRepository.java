@@ -0,0 +1,18 @@
+package dev.syntax.domain.account.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import dev.syntax.domain.account.entity.TransactionMonthSnapshot;
+
+/**
+ * 마감된 달의 계좌 거래 내역 스냅샷 Repository
+ */
+public interface TransactionMonthSnapshotRepository extends JpaRepository<TransactionMonthSnapshot, Long> {
+
+	/**
+	 * 계좌번호 + 연/월로 스냅샷 조회
+	 */
+	Optional<TransactionMonthSnapshot> findByAccountNoAndYearAndMonth(String accountNo, Integer year, Integer month);
+}
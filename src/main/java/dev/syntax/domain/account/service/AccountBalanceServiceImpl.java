@@ -4,11 +4,13 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
-import dev.syntax.domain.account.client.CoreAccountClient;
+import dev.syntax.domain.account.client.CoreAccountAsyncClient;
 import dev.syntax.domain.account.dto.AccountBalanceRes;
 import dev.syntax.domain.account.dto.AccountSummaryRes;
 import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
@@ -20,10 +22,13 @@ import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
+import dev.syntax.global.core.CoreAsyncExecutor;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorBaseCode;
 import dev.syntax.global.service.BalanceProvider;
 import dev.syntax.global.service.Utils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,12 +39,21 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
 
     private final AccountRepository accountRepository;
     private final CardRepository cardRepository;
-    private final CoreAccountClient coreAccountClient;
+    private final CoreAccountAsyncClient coreAccountAsyncClient;
     private final BalanceProvider balanceProvider;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    /** 계좌 요약 조회 단계별 소요 시간 타이머 이름 (step 태그로 구분) */
+    private static final String SUMMARY_STEP_TIMER = "account.summary.step";
 
     /**
      * 특정 자녀의 계좌 잔액 요약 조회 (부모가 자녀 계좌 조회)
+     * <p>
+     * 가장 느린 Core 계좌 조회를 먼저 비동기로 보내고, 그동안 요청 스레드에서 자녀 조회와
+     * 카드 보유 여부(Channel DB)를 확인한 뒤 Core 응답과 합칩니다.
+     * 각 단계의 소요 시간은 {@code account.summary.step}(step 태그) 타이머로 기록합니다.
+     * </p>
      */
     @Override
     public AccountSummaryRes getSummary(UserContext ctx, Long targetUserId) {
@@ -47,17 +61,29 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
         // 1. 부모 권한 검증
         validateParentAccess(ctx, targetUserId);
 
-        // 2. 자녀 정보 조회 (CoreUserId 필요)
-        User targetUser = userRepository.findById(targetUserId)
-                .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
+        Timer.Sample total = Timer.start(meterRegistry);
+
+        // 2. Core API에서 전체 계좌 정보 조회 (비동기, DB 조회와 병렬 진행)
+        Timer.Sample coreSample = Timer.start(meterRegistry);
+        CompletableFuture<CoreUserAccountListRes> coreAccountsFuture = coreAccountAsyncClient.getUserAccounts()
+                .whenComplete((res, ex) -> coreSample.stop(stepTimer("core_accounts")));
+
+        // 3. 자녀 정보 조회 (CoreUserId 필요)
+        User targetUser = timed("user_lookup", () -> userRepository.findById(targetUserId)
+                .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY)));
 
         log.info("=== 자녀 계좌 조회 - parentId: {}, childId: {}, coreUserId: {} ===", 
                 ctx.getId(), targetUserId, targetUser.getCoreUserId());
 
-        // 3. Core API에서 전체 계좌 정보 조회
-        CoreUserAccountListRes coreAccounts = coreAccountClient.getUserAccounts();
+        // 4. 카드 보유 여부 확인 (Channel DB 기준)
+        boolean hasCard = timed("card_lookup", () -> accountRepository.findByUserIdAndType(targetUserId, AccountType.ALLOWANCE)
+                .map(acc -> cardRepository.existsByAccountId(acc.getId()))
+                .orElse(false));
+
+        // 5. Core 응답 대기
+        CoreUserAccountListRes coreAccounts = CoreAsyncExecutor.join(coreAccountsFuture);
         
-        // 4. 대상 자녀의 계좌 목록 추출 (CoreUserId 기준)
+        // 6. 대상 자녀의 계좌 목록 추출 (CoreUserId 기준)
         List<CoreAccountItemRes> targetAccounts = extractTargetAccounts(coreAccounts, targetUser.getCoreUserId());
         
         if (targetAccounts == null) {
@@ -69,28 +95,24 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
                 targetAccounts.size(), 
                 targetAccounts.stream().map(CoreAccountItemRes::accountType).collect(Collectors.toList()));
 
-        // 5. 계좌 타입별로 그룹핑
+        // 7. 계좌 타입별로 그룹핑
         Map<AccountType, BigDecimal> balancesByType = groupBalancesByAccountType(targetAccounts);
 
-        // 6. 각 타입별 잔액 설정
+        // 8. 각 타입별 잔액 설정
         String allowanceBalance = formatBalance(balancesByType, AccountType.ALLOWANCE);
         String investBalance = formatBalance(balancesByType, AccountType.INVEST);
         String goalBalance = formatBalance(balancesByType, AccountType.GOAL);
 
-        // 7. total 계산 (DEPOSIT 제외)
+        // 9. total 계산 (DEPOSIT 제외)
         BigDecimal totalAmount = targetAccounts.stream()
                 .filter(acc -> acc.accountType() != AccountType.DEPOSIT)
                 .map(CoreAccountItemRes::balance)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        // 8. 카드 보유 여부 확인 (Channel DB 기준)
-        boolean hasCard = accountRepository.findByUserIdAndType(targetUserId, AccountType.ALLOWANCE)
-                .map(acc -> cardRepository.existsByAccountId(acc.getId()))
-                .orElse(false);
-
         log.info("조회 결과 - Total: {}, ALLOWANCE: {}, INVEST: {}, GOAL: {}, HasCard: {}", 
                 format(totalAmount), allowanceBalance, investBalance, goalBalance, hasCard);
 
+        total.stop(stepTimer("total"));
         return new AccountSummaryRes(
                 format(totalAmount),
                 allowanceBalance,
@@ -108,8 +130,8 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
 
         validateParentAccess(ctx, targetUserId); // Use the new validation method
 
-        // User 엔티티 조회
-        User targetUser = userRepository.findById(targetUserId)
+        // User 엔티티 조회 (부모 기준으로 가족 잔액을 한 번에 조회하도록 부모 관계까지 로드)
+        User targetUser = userRepository.findByIdWithParents(targetUserId)
                 .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
 
         // BalanceProvider를 사용하여 특정 타입 잔액 조회
@@ -118,6 +140,25 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
         return new AccountBalanceRes(format(BigDecimal.valueOf(balance)));
     }
 
+    /**
+     * 계좌 요약 조회의 한 단계를 실행하고 소요 시간을 기록
+     */
+    private <T> T timed(String step, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return action.get();
+        } finally {
+            sample.stop(stepTimer(step));
+        }
+    }
+
+    private Timer stepTimer(String step) {
+        return Timer.builder(SUMMARY_STEP_TIMER)
+                .tag("step", step)
+                .description("계좌 요약 조회 단계별 소요 시간")
+                .register(meterRegistry);
+    }
+
     /**
      * 응답값 포맷팅
      */
@@ -176,7 +217,7 @@ public class AccountBalanceServiceImpl implements AccountBalanceService {
         }
 
         // 자녀 목록에 포함되어 있는지 확인
-        if (!ctx.getChildren().contains(targetUserId)) {
+        if (!ctx.hasChild(targetUserId)) {
             throw new BusinessException(ErrorBaseCode.UNAUTHORIZED);
         }
 
@@ -3,8 +3,8 @@ package dev.syntax.domain.account.service;
 import dev.syntax.domain.account.client.CoreAccountClient;
 import dev.syntax.domain.account.dto.AccountHistoryReq;
 import dev.syntax.domain.account.dto.AccountHistoryRes;
-import dev.syntax.domain.account.dto.core.CoreTransactionHistoryRes;
 import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.account.repository.AccountRepository;
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,6 +34,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AccountHistoryServiceImpl implements AccountHistoryService {
 
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final AccountRepository accountRepository;
     private final CoreAccountClient coreAccountClient;
 
@@ -46,16 +49,16 @@ public class AccountHistoryServiceImpl implements AccountHistoryService {
                 .findByUserIdAndType(userId, AccountType.ALLOWANCE)
                 .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
 
-        // 3. Core 서버 호출
-        // 3. Core 서버 호출
-        CoreTransactionHistoryRes coreRes = coreAccountClient.getAccountTransactionsByPeriod(
-                account.getAccountNo(), req.startDate(), req.endDate());
-        if (coreRes == null || coreRes.transactions() == null) {
+        // 3. Core 서버 호출 (거래를 한 건씩 받아 바로 응답 형식으로 변환)
+        List<AccountHistoryRes> histories = new ArrayList<>();
+        CoreTransactionStreamRes coreRes = coreAccountClient.forEachTransactionByPeriod(
+                account.getAccountNo(), req.startDate(), req.endDate(),
+                item -> histories.add(convertToAccountHistoryRes(item)));
+        if (coreRes == null) {
             throw new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY);
         }
 
-        // 4. 응답 변환 (Core → Channel)
-        return convertToAccountHistoryRes(coreRes.transactions());
+        return histories;
     }
 
     private void validateUserAccess(Long targetUserId, UserContext ctx) {
@@ -72,31 +75,29 @@ public class AccountHistoryServiceImpl implements AccountHistoryService {
             return;
         }
 
-        if (!ctx.getChildren().contains(targetUserId)) {
+        if (!ctx.hasChild(targetUserId)) {
             throw new BusinessException(ErrorBaseCode.UNAUTHORIZED);
         }
     }
 
     /**
-     * Core 서버 응답을 Channel 응답 형식으로 변환합니다.
+     * Core 서버의 거래 한 건을 Channel 응답 형식으로 변환합니다.
      * <p>
      * - amount가 양수면 "deposit", 음수면 "withdrawal"
      * - 금액은 절대값으로 변환하고 천단위 콤마 적용
      * - 날짜는 "yyyy-MM-dd HH:mm" 형식으로 변환
      * </p>
      */
-    private List<AccountHistoryRes> convertToAccountHistoryRes(List<CoreTransactionItemRes> items) {
-        return items.stream()
-                .map(item -> new AccountHistoryRes(
-                        item.transactionId(),
-                        item.code(),
-                        item.merchantName(),
-                        Utils.NumberFormattingService(item.amount().abs()), // 프론트에서 문자열 원함
-                        Utils.NumberFormattingService(item.balanceAfter()), // 프론트에서 문자열 원함
-                        item.category().getKoreanName(),
-                        item.transactionDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) // timestamp로 전달
-                ))
-                .toList();
+    private AccountHistoryRes convertToAccountHistoryRes(CoreTransactionItemRes item) {
+        return new AccountHistoryRes(
+                item.transactionId(),
+                item.code(),
+                item.merchantName(),
+                Utils.NumberFormattingService(item.amount().abs()), // 프론트에서 문자열 원함
+                Utils.NumberFormattingService(item.balanceAfter()), // 프론트에서 문자열 원함
+                item.category().getKoreanName(),
+                item.transactionDate().format(TIMESTAMP_FORMAT) // timestamp로 전달
+        );
     }
 
-}
\ No newline at end of file
+}
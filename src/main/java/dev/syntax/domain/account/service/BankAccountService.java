@@ -3,6 +3,7 @@ package dev.syntax.domain.account.service;
 import dev.syntax.domain.account.dto.CreateChildAccountReq;
 import dev.syntax.domain.user.dto.CoreParentInitRes;
 import dev.syntax.domain.user.entity.User;
+import dev.syntax.global.auth.dto.UserContext;
 
 /**
  * 계좌 관련 비즈니스 로직을 처리하는 서비스 인터페이스
@@ -17,8 +18,8 @@ public interface BankAccountService {
 
 	/**
 	 * 자녀의 용돈 계좌를 생성합니다.
-	 * @param user 부모 사용자 정보
+	 * @param parent 부모 사용자 정보
 	 * @param req 자녀 계좌 생성 요청
 	 */
-	void createChildAllowanceAccount(User user, CreateChildAccountReq req);
+	void createChildAllowanceAccount(UserContext parent, CreateChildAccountReq req);
 }
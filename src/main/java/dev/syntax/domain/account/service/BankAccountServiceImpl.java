@@ -1,6 +1,7 @@
 package dev.syntax.domain.account.service;
 
 import dev.syntax.domain.account.client.CoreAccountClient;
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
 import dev.syntax.domain.account.dto.CreateChildAccountReq;
 import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
 import dev.syntax.domain.account.dto.core.CoreCreateAccountReq;
@@ -11,6 +12,7 @@ import dev.syntax.domain.user.dto.CoreParentInitRes;
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.auth.dto.UserContext;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorAuthCode;
 import dev.syntax.global.response.error.ErrorBaseCode;
@@ -34,6 +36,7 @@ public class BankAccountServiceImpl implements BankAccountService {
 	private final AccountRepository accountRepository;
 	private final CoreAccountClient coreAccountClient;
 	private final UserRepository userRepository;
+	private final CoreAccountSnapshotCache accountSnapshotCache;
 
 	@Override
 	public void createParentAccount(User user, CoreParentInitRes res) {
@@ -56,8 +59,8 @@ public class BankAccountServiceImpl implements BankAccountService {
 	}
 
 	@Override
-	public void createChildAllowanceAccount(User parent, CreateChildAccountReq req) {
-		if (parent.getRole() != Role.PARENT){
+	public void createChildAllowanceAccount(UserContext parent, CreateChildAccountReq req) {
+		if (!Role.PARENT.name().equals(parent.getRole())) {
 			throw new BusinessException(ErrorAuthCode.ACCESS_DENIED);
 		}
 
@@ -78,9 +81,7 @@ public class BankAccountServiceImpl implements BankAccountService {
 			throw new BusinessException(ErrorBaseCode.ACCOUNT_ALREADY_EXISTS);
 		}
 
-		boolean isChildOfParent = parent.getChildren().stream()
-				.anyMatch(relationship -> relationship.getChild().getId().equals(child.getId()));
-		if (!isChildOfParent) {
+		if (!parent.hasChild(child.getId())) {
 			throw new BusinessException(ErrorBaseCode.INVALID_CHILD);
 		}
 
@@ -98,5 +99,8 @@ public class BankAccountServiceImpl implements BankAccountService {
 			.build();
 		log.info("자녀 용돈 통장 개설 완료: userId={}", child.getId());
 		accountRepository.save(account);
+
+		// 자녀/부모의 Core 계좌 목록 스냅샷 무효화
+		accountSnapshotCache.evictFamily(child);
 	}
 }
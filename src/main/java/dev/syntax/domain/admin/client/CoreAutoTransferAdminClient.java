@@ -1,6 +1,8 @@
 package dev.syntax.domain.admin.client;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -24,6 +26,7 @@ public class CoreAutoTransferAdminClient {
 	private final CoreApiProperties properties;
 
 	private static final String ADMIN_AUTO_TRANSFER_URL = "/core/banking/admin/auto-transfer";
+	private static final String ADMIN_AUTO_TRANSFER_EXECUTE_URL = ADMIN_AUTO_TRANSFER_URL + "/{autoTransferId}/execute";
 
 	public PageResponse<CoreAutoTransferListRes> getAutoTransferList(
 		String status,
@@ -34,43 +37,53 @@ public class CoreAutoTransferAdminClient {
 	) {
 		String url = properties.getBaseUrl() + ADMIN_AUTO_TRANSFER_URL;
 
+		// 메트릭 태그가 요청 값마다 달라지지 않도록 쿼리 값은 URI 템플릿 변수로 전달
+		Map<String, Object> uriVariables = new HashMap<>();
+		uriVariables.put("page", page);
+		uriVariables.put("size", size);
+		uriVariables.put("sort", "createdAt,desc");
+
 		UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(url)
-			.queryParam("page", page)
-			.queryParam("size", size)
-			.queryParam("sort", "createdAt,desc");
+			.queryParam("page", "{page}")
+			.queryParam("size", "{size}")
+			.queryParam("sort", "{sort}");
 
 		if (status != null && !status.isEmpty()) {
-			builder.queryParam("status", status);
+			builder.queryParam("status", "{status}");
+			uriVariables.put("status", status);
 		}
 		if (startDate != null) {
-			builder.queryParam("startDate", startDate.toString());
+			builder.queryParam("startDate", "{startDate}");
+			uriVariables.put("startDate", startDate.toString());
 		}
 		if (endDate != null) {
-			builder.queryParam("endDate", endDate.toString());
+			builder.queryParam("endDate", "{endDate}");
+			uriVariables.put("endDate", endDate.toString());
 		}
 
-		String finalUrl = builder.toUriString();
-		log.info("[CORE ADMIN API] 자동이체 목록 조회: {}", finalUrl);
+		String uriTemplate = builder.build().toUriString();
+		log.info("[CORE ADMIN API] 자동이체 목록 조회: {} {}", uriTemplate, uriVariables);
 
 		ResponseEntity<PageResponse<CoreAutoTransferListRes>> response =
 			coreRestTemplate.exchange(
-				finalUrl,
+				uriTemplate,
 				HttpMethod.GET,
 				null,
-				new ParameterizedTypeReference<PageResponse<CoreAutoTransferListRes>>() {}
+				new ParameterizedTypeReference<PageResponse<CoreAutoTransferListRes>>() {},
+				uriVariables
 			);
 
 		return java.util.Objects.requireNonNull(response.getBody(), "[CORE ADMIN API] 자동이체 목록 조회 Body가 null입니다.");
 	}
 
 	public void executeAutoTransfer(Long autoTransferId) {
-		String url = properties.getBaseUrl()
-			+ ADMIN_AUTO_TRANSFER_URL
-			+ "/" + autoTransferId
-			+ "/execute";
-
 		log.info("[CORE ADMIN API] 자동이체 수동 실행: {}", autoTransferId);
 
-		coreRestTemplate.postForEntity(url, null, Void.class);
+		coreRestTemplate.postForEntity(
+			properties.getBaseUrl() + ADMIN_AUTO_TRANSFER_EXECUTE_URL,
+			null,
+			Void.class,
+			autoTransferId
+		);
 	}
 }
@@ -31,21 +31,24 @@ public class CoreTransactionAdminClient {
 	) {
 		String url = properties.getBaseUrl() + ADMIN_FAILED_TRANSACTION_URL;
 
-		String finalUrl = UriComponentsBuilder.fromHttpUrl(url)
-			.queryParam("autoTransferOnly", autoTransferOnly)
-			.queryParam("page", page)
-			.queryParam("size", size)
-			.queryParam("sort", "transactionDate,desc")
+		// 메트릭 태그가 요청 값마다 달라지지 않도록 쿼리 값은 URI 템플릿 변수로 전달
+		String uriTemplate = UriComponentsBuilder.fromHttpUrl(url)
+			.queryParam("autoTransferOnly", "{autoTransferOnly}")
+			.queryParam("page", "{page}")
+			.queryParam("size", "{size}")
+			.queryParam("sort", "{sort}")
+			.build()
 			.toUriString();
 
-		log.info("[CORE ADMIN API] 실패 거래 조회: {}", finalUrl);
+		log.info("[CORE ADMIN API] 실패 거래 조회: autoTransferOnly={}, page={}, size={}", autoTransferOnly, page, size);
 
 		ResponseEntity<PageResponse<CoreFailedTransactionListRes>> response =
 			coreRestTemplate.exchange(
-				finalUrl,
+				uriTemplate,
 				HttpMethod.GET,
 				null,
-				new ParameterizedTypeReference<PageResponse<CoreFailedTransactionListRes>>() {}
+				new ParameterizedTypeReference<PageResponse<CoreFailedTransactionListRes>>() {},
+				autoTransferOnly, page, size, "transactionDate,desc"
 			);
 
 		return java.util.Objects.requireNonNull(response.getBody(), "[CORE ADMIN API] 자동이체 실패 목록 조회 Body가 null입니다.");
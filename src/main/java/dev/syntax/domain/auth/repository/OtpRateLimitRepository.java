@@ -3,17 +3,40 @@ package dev.syntax.domain.auth.repository;
 import java.time.LocalDateTime;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import dev.syntax.domain.auth.entity.OtpRateLimit;
 
 public interface OtpRateLimitRepository extends JpaRepository<OtpRateLimit, Long> {
 
+	/**
+	 * 최근 10분, 1분 동안의 요청 수를 한 번에 집계
+	 */
 	@Query("""
-        SELECT COUNT(o)
+        SELECT COUNT(o) AS count10Min,
+               COALESCE(SUM(CASE WHEN o.requestedAt >= :oneMinAgo THEN 1 ELSE 0 END), 0) AS count1Min
         FROM OtpRateLimit o
         WHERE o.userId = :userId
-          AND o.requestedAt >= :after
+          AND o.requestedAt >= :tenMinAgo
     """)
-	long countRecentRequests(Long userId, LocalDateTime after);
+	RecentRequestCounts countRecentRequests(
+		@Param("userId") Long userId,
+		@Param("tenMinAgo") LocalDateTime tenMinAgo,
+		@Param("oneMinAgo") LocalDateTime oneMinAgo
+	);
+
+	/**
+	 * 보관 기간이 지난 요청 기록 삭제
+	 */
+	@Modifying
+	@Query("DELETE FROM OtpRateLimit o WHERE o.requestedAt < :before")
+	int deleteRequestedBefore(@Param("before") LocalDateTime before);
+
+	interface RecentRequestCounts {
+		long getCount10Min();
+
+		long getCount1Min();
+	}
 }
@@ -2,6 +2,7 @@ package dev.syntax.domain.auth.scheduler;
 
 import java.time.LocalDateTime;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +15,11 @@ import lombok.extern.slf4j.Slf4j;
  * 카카오 임시 토큰 정리 스케줄러
  * 
  * 만료된 임시 토큰을 주기적으로 삭제하여 DB 용량을 관리합니다.
+ * 임시 토큰을 DB에 보관할 때({@code auth.kakao-temp-token.store=jpa})만 동작합니다.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "auth.kakao-temp-token.store", havingValue = "jpa")
 @RequiredArgsConstructor
 public class KakaoTempTokenCleanupScheduler {
 
@@ -0,0 +1,51 @@
+package dev.syntax.domain.auth.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.syntax.domain.auth.repository.OtpRateLimitRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OTP 요청 기록 정리 스케줄러
+ * 
+ * 요청 제한 검사(최대 10분)에 더 이상 쓰이지 않는 {@code otp_rate_limit} 행을 주기적으로 삭제하여
+ * 테이블이 계속 커지지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class OtpRateLimitCleanupScheduler {
+
+	/** 요청 제한의 가장 긴 윈도우 */
+	private static final Duration MIN_RETENTION = Duration.ofMinutes(10);
+
+	private final OtpRateLimitRepository otpRateLimitRepository;
+	private final Duration retention;
+
+	public OtpRateLimitCleanupScheduler(
+		OtpRateLimitRepository otpRateLimitRepository,
+		@Value("${auth.otp-rate-limit.retention:1h}") Duration retention
+	) {
+		this.otpRateLimitRepository = otpRateLimitRepository;
+		this.retention = retention.compareTo(MIN_RETENTION) < 0 ? MIN_RETENTION : retention;
+	}
+
+	/**
+	 * 매 10분마다 보관 기간이 지난 요청 기록 삭제
+	 */
+	@Scheduled(cron = "0 5-59/10 * * * *")
+	@Transactional
+	public void cleanupExpiredRequests() {
+		try {
+			int deleted = otpRateLimitRepository.deleteRequestedBefore(LocalDateTime.now().minus(retention));
+			log.info("[OTP 요청 기록 정리] 삭제 {}건", deleted);
+		} catch (Exception e) {
+			log.error("[OTP 요청 기록 정리 실패] error: {}", e.getMessage());
+		}
+	}
+}
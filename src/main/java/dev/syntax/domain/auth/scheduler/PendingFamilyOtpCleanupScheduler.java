@@ -0,0 +1,43 @@
+package dev.syntax.domain.auth.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.syntax.domain.user.repository.UserRelationshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 가족 등록 OTP 정리 스케줄러
+ * 
+ * 자녀가 입력하지 않은 채 만료된 대기 중인 UserRelationship(child가 null)을 한 번의 쿼리로 삭제합니다.
+ * 만료 직후 입력한 자녀에게는 시간 초과 응답을 줄 수 있도록 일정 시간 보관한 뒤 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingFamilyOtpCleanupScheduler {
+
+	/** 생성 후 삭제까지의 보관 시간 (OTP 유효 시간 1분 + 시간 초과 응답 기간) */
+	private static final Duration RETENTION = Duration.ofMinutes(10);
+
+	private final UserRelationshipRepository userRelationshipRepository;
+
+	/**
+	 * 매 10분마다 만료된 대기 중 관계 삭제
+	 */
+	@Scheduled(cron = "0 */10 * * * *")
+	@Transactional
+	public void cleanupExpiredPendingRelationships() {
+		try {
+			int deleted = userRelationshipRepository.deletePendingCreatedBefore(LocalDateTime.now().minus(RETENTION));
+			log.info("[가족 OTP 정리] 만료된 대기 관계 삭제 {}건", deleted);
+		} catch (Exception e) {
+			log.error("[가족 OTP 정리 실패] error: {}", e.getMessage());
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package dev.syntax.domain.auth.service;
 
+import java.util.List;
+
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +24,7 @@ import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
 import dev.syntax.global.auth.jwt.JwtTokenProvider;
+import dev.syntax.global.auth.service.UserContextCache;
 import dev.syntax.global.auth.validator.IdentityValidator;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorAuthCode;
@@ -37,6 +40,7 @@ public class AuthServiceImpl implements AuthService {
 	private final UserRepository userRepository;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final PasswordEncoder passwordEncoder;
+	private final UserContextCache userContextCache;
 
 	@Override
 	public void checkEmailDuplicate(EmailValidationReq request) {
@@ -48,12 +52,14 @@ public class AuthServiceImpl implements AuthService {
 
 	@Override
 	public RefreshTokenRes refreshToken(Long userId) {
-		// 최신 User 정보 조회 (가족 관계 포함)
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new BusinessException(ErrorAuthCode.UNAUTHORIZED));
+		// 최신 사용자 정보 조회 (가족 관계 포함, 한 번의 projection 쿼리)
+		List<UserRepository.PrincipalView> rows = userRepository.findPrincipalRowsById(userId);
+		if (rows.isEmpty()) {
+			throw new BusinessException(ErrorAuthCode.UNAUTHORIZED);
+		}
 
 		// 최신 정보로 UserContext 생성
-		UserContext userContext = new UserContext(user);
+		UserContext userContext = UserContext.of(rows);
 		Authentication authentication = new UsernamePasswordAuthenticationToken(
 			userContext,
 			null,
@@ -69,6 +75,7 @@ public class AuthServiceImpl implements AuthService {
 	}
 
 	@Override
+	@Transactional
 	public PasswordVerifyRes verifyPassword(Long userId, PasswordVerifyReq request) {
 
 		// 1. 사용자 조회
@@ -83,11 +90,17 @@ public class AuthServiceImpl implements AuthService {
 			// == "AUTH04", "패스워드를 확인해주세요."
 		}
 
-		// 3. 성공 시 반환
+		// 3. 저장된 해시의 cost가 설정보다 낮으면 다시 해시하여 저장 (rehash-on-verify)
+		if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+			user.updatePassword(passwordEncoder.encode(request.password()));
+		}
+
+		// 4. 성공 시 반환
 		return new PasswordVerifyRes(true);
 	}
 
 	@Override
+	@Transactional
 	public PasswordVerifyRes verifySimplePassword(Long userId, SimplePasswordVerifyReq request) {
 
 		// 사용자 조회
@@ -101,6 +114,11 @@ public class AuthServiceImpl implements AuthService {
 			throw new BusinessException(ErrorAuthCode.SIMPLE_PASSWORD_MISMATCH); // 새 에러코드
 		}
 
+		// 저장된 해시의 cost가 설정보다 낮으면 다시 해시하여 저장 (rehash-on-verify)
+		if (passwordEncoder.upgradeEncoding(user.getSimplePassword())) {
+			user.updateSimplePassword(passwordEncoder.encode(request.password()));
+		}
+
 		return new PasswordVerifyRes(true);
 	}
 
@@ -120,6 +138,8 @@ public class AuthServiceImpl implements AuthService {
 		// 새 비밀번호 암호화 및 업데이트
 		String encodedNewPassword = passwordEncoder.encode(request.newPassword());
 		user.updatePassword(encodedNewPassword);
+		user.increaseSecurityVersion();
+		userContextCache.invalidate(user.getId());
 
 		log.info("[비밀번호 변경 성공] userId: {}", user.getId());
 	}
@@ -134,6 +154,7 @@ public class AuthServiceImpl implements AuthService {
 		// 간편 비밀번호 암호화 및 업데이트
 		String encodedSimplePassword = passwordEncoder.encode(request.password());
 		user.updateSimplePassword(encodedSimplePassword);
+		userContextCache.invalidate(user.getId());
 
 		log.info("[간편 비밀번호 변경 성공] userId: {}", user.getId());
 	}
@@ -152,6 +173,7 @@ public class AuthServiceImpl implements AuthService {
 		if (request.nightPushEnabled() != null) {
 			user.updateNightPushEnabled(request.nightPushEnabled());
 		}
+		userContextCache.invalidate(user.getId());
 
 		log.info("[푸시 알림 설정 변경 성공] userId: {}, pushEnabled: {}, nightPushEnabled: {}",
 			user.getId(), user.getPushEnabled(), user.getNightPushEnabled());
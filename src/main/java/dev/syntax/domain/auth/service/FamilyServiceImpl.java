@@ -16,6 +16,7 @@ import dev.syntax.domain.user.entity.UserRelationship;
 import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRelationshipRepository;
 import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.auth.service.UserContextCache;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorAuthCode;
 import dev.syntax.global.response.error.ErrorBaseCode;
@@ -30,8 +31,11 @@ public class FamilyServiceImpl implements FamilyService {
     private final UserRelationshipRepository relationshipRepository;
     private final OtpRateLimitService otpRateLimitService;
     private final NotificationService notificationService;
+    private final UserContextCache userContextCache;
+    private final PendingFamilyOtpIndex pendingOtpIndex;
     private static final SecureRandom RANDOM = new SecureRandom();
-    private static final long OTP_EXPIRATION_MINUTES = 1;
+    // 사용 중인 OTP와 겹치지 않는 코드를 찾는 최대 시도 횟수
+    private static final int OTP_GENERATE_ATTEMPTS = 5;
 
     /**
      * 부모 사용자를 위한 6자리 OTP를 생성하고 UserRelationship에 저장합니다.
@@ -53,10 +57,16 @@ public class FamilyServiceImpl implements FamilyService {
 
         // 기존 pending OTP가 있으면 삭제 (createdAt 갱신을 위해)
         Optional<UserRelationship> existingPending = relationshipRepository.findByParentAndChildIsNull(parent);
-        existingPending.ifPresent(relationshipRepository::delete);
-
-        // 6자리 랜덤 OTP 생성
-        String otp = String.format("%06d", RANDOM.nextInt(1000000));
+        existingPending.ifPresent(pending -> {
+            pendingOtpIndex.remove(pending.getFamilyOtp(), pending.getId());
+            relationshipRepository.delete(pending);
+        });
+
+        // 6자리 랜덤 OTP 생성 (대기 중인 다른 OTP와 겹치지 않도록)
+        String otp = newOtp();
+        for (int attempt = 1; attempt < OTP_GENERATE_ATTEMPTS && pendingOtpIndex.contains(otp); attempt++) {
+            otp = newOtp();
+        }
 
         // 새로운 pending relationship 생성
         UserRelationship pendingRelationship = UserRelationship.builder()
@@ -65,6 +75,7 @@ public class FamilyServiceImpl implements FamilyService {
                 .familyOtp(otp)
                 .build();
         relationshipRepository.save(pendingRelationship);
+        pendingOtpIndex.register(otp, pendingRelationship.getId());
 
         return OtpGenerateRes.builder()
                 .familyOtp(otp)
@@ -88,19 +99,7 @@ public class FamilyServiceImpl implements FamilyService {
             throw new BusinessException(ErrorBaseCode.CONFLICT);
         }
 
-        // OTP로 child가 null인 UserRelationship 찾기
-        UserRelationship pendingRelationship = relationshipRepository
-                .findByFamilyOtpAndChildIsNull(request.familyOtp())
-                .orElseThrow(() -> new BusinessException(ErrorAuthCode.FAMILY_OTP_MISMATCH));
-
-        // 생성 시간 검증 (1분 이내)
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime createdAt = pendingRelationship.getCreatedAt();
-        LocalDateTime expirationTime = createdAt.plusMinutes(OTP_EXPIRATION_MINUTES);
-
-        if (now.isAfter(expirationTime)) {
-            throw new BusinessException(ErrorAuthCode.FAMILY_OTP_TIMEOUT);
-        }
+        UserRelationship pendingRelationship = findPendingRelationship(request.familyOtp());
 
         User parent = pendingRelationship.getParent();
 
@@ -113,6 +112,12 @@ public class FamilyServiceImpl implements FamilyService {
                 .build();
         
         relationshipRepository.save(updatedRelationship);
+        pendingOtpIndex.remove(request.familyOtp(), pendingRelationship.getId());
+
+        // 부모의 자녀 목록, 자녀의 부모 정보가 바뀌었으므로 기존 토큰의 가족 정보를 무효화하고 인증 캐시 무효화
+        parent.increaseSecurityVersion();
+        child.increaseSecurityVersion();
+        userContextCache.invalidate(parent.getId(), child.getId());
 
         // 가족 등록 완료 알림 전송
         notificationService.sendFamilyRegistrationNotice(parent, child.getName());
@@ -123,4 +128,34 @@ public class FamilyServiceImpl implements FamilyService {
                 .parentId(parent.getId())
                 .build();
     }
+
+    /**
+     * OTP로 child가 null인 UserRelationship을 찾습니다.
+     * 메모리 인덱스에 있으면 ID로 조회하고, 없으면(재시작, 다른 서버에서 발급 등) OTP로 DB를 조회해 생성 시간을 검증합니다.
+     */
+    private UserRelationship findPendingRelationship(String otp) {
+        Optional<PendingFamilyOtpIndex.Pending> indexed = pendingOtpIndex.find(otp);
+        if (indexed.isPresent()) {
+            return relationshipRepository.findById(indexed.get().relationshipId())
+                    .filter(relationship -> relationship.getChild() == null)
+                    .orElseThrow(() -> new BusinessException(ErrorAuthCode.FAMILY_OTP_MISMATCH));
+        }
+
+        UserRelationship pendingRelationship = relationshipRepository
+                .findByFamilyOtpAndChildIsNull(otp)
+                .orElseThrow(() -> new BusinessException(ErrorAuthCode.FAMILY_OTP_MISMATCH));
+
+        // 생성 시간 검증 (1분 이내)
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expirationTime = pendingRelationship.getCreatedAt().plus(PendingFamilyOtpIndex.TTL);
+
+        if (now.isAfter(expirationTime)) {
+            throw new BusinessException(ErrorAuthCode.FAMILY_OTP_TIMEOUT);
+        }
+        return pendingRelationship;
+    }
+
+    private static String newOtp() {
+        return String.format("%06d", RANDOM.nextInt(1000000));
+    }
 }
@@ -1,7 +1,7 @@
 package dev.syntax.domain.auth.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
@@ -20,8 +20,8 @@ import dev.syntax.domain.auth.dto.oauth.KakaoLoginRes;
 import dev.syntax.domain.auth.dto.oauth.KakaoSignupReq;
 import dev.syntax.domain.auth.dto.oauth.KakaoTokenRes;
 import dev.syntax.domain.auth.dto.oauth.KakaoUserInfo;
-import dev.syntax.domain.auth.entity.KakaoTempToken;
-import dev.syntax.domain.auth.repository.KakaoTempTokenRepository;
+import dev.syntax.domain.auth.store.TempTokenStore;
+import dev.syntax.domain.auth.store.TempTokenStore.TempToken;
 import dev.syntax.domain.user.client.CoreUserClient;
 import dev.syntax.domain.user.dto.CoreInitRes;
 import dev.syntax.domain.user.dto.CoreParentInitRes;
@@ -31,6 +31,7 @@ import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
 import dev.syntax.global.auth.jwt.JwtTokenProvider;
+import dev.syntax.global.auth.service.UserContextCache;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorAuthCode;
 import dev.syntax.global.response.error.ErrorBaseCode;
@@ -47,14 +48,15 @@ public class KakaoOAuthServiceImpl implements KakaoOAuthService {
 
 	private final KakaoOAuthClient kakaoOAuthClient;
 	private final UserRepository userRepository;
-	private final KakaoTempTokenRepository kakaoTempTokenRepository;
+	private final TempTokenStore tempTokenStore;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final CoreUserClient coreUserClient;
 	private final BankAccountService accountService;
+	private final UserContextCache userContextCache;
 
 	private static final String DEFAULT_TOKEN_TYPE = "Bearer";
-	private static final int TEMP_TOKEN_EXPIRATION_MINUTES = 5; // 10분 → 5분으로 단축
+	private static final Duration TEMP_TOKEN_TTL = Duration.ofMinutes(5); // 10분 → 5분으로 단축
 
 	@Override
 	@Transactional
@@ -86,18 +88,12 @@ public class KakaoOAuthServiceImpl implements KakaoOAuthService {
 	@Override
 	@Transactional
 	public LoginRes signupWithKakao(KakaoSignupReq request) {
-		// 1. 임시 토큰 검증 및 조회
-		KakaoTempToken tempToken = kakaoTempTokenRepository.findByToken(request.tempToken())
+		// 1. 임시 토큰 검증 및 조회 (만료된 토큰은 조회되지 않음)
+		TempToken tempToken = tempTokenStore.find(request.tempToken())
 			.orElseThrow(() -> new BusinessException(ErrorBaseCode.UNAUTHORIZED));
 
-		// 만료 확인
-		if (tempToken.isExpired()) {
-			kakaoTempTokenRepository.delete(tempToken);
-			throw new BusinessException(ErrorBaseCode.UNAUTHORIZED);
-		}
-
 		// 2. providerId 중복 확인
-		if (userRepository.findByProviderIdWithChildren(tempToken.getProviderId()).isPresent()) {
+		if (userRepository.findByProviderIdWithChildren(tempToken.providerId()).isPresent()) {
 			throw new BusinessException(ErrorAuthCode.KAKAO_PROVIDER_CONFLICT);
 		}
 
@@ -133,6 +129,7 @@ public class KakaoOAuthServiceImpl implements KakaoOAuthService {
 				log.info("[Core 자녀 사용자 생성 완료] channel_user_id: {}, core_user_id: {}",
 						savedUser.getId(), savedUser.getCoreUserId());
 			}
+			userContextCache.invalidate(savedUser.getId());
 		} catch (Exception e) {
 			log.error("[Core 사용자 생성 실패] user_id: {}, error: {}",
 				savedUser.getId(), e.getMessage());
@@ -140,7 +137,7 @@ public class KakaoOAuthServiceImpl implements KakaoOAuthService {
 		}
 
 		// 6. 임시 토큰 삭제
-		kakaoTempTokenRepository.delete(tempToken);
+		tempTokenStore.delete(tempToken.token());
 
 		// 7. JWT 발급
 		log.info("[카카오 회원가입 완료] user_id: {}, providerId: {}",
@@ -176,20 +173,17 @@ public class KakaoOAuthServiceImpl implements KakaoOAuthService {
 	 */
 	private KakaoLoginRes createNewUserResponse(KakaoUserInfo kakaoUserInfo) {
 		String tokenValue = UUID.randomUUID().toString();
-		
-		// 기존 providerId의 토큰 삭제 (중복 방지)
-		kakaoTempTokenRepository.deleteByProviderId(kakaoUserInfo.getProviderId());
-		
-		// DB에 임시 토큰 저장
-		KakaoTempToken tempToken = KakaoTempToken.builder()
-			.token(tokenValue)
-			.providerId(kakaoUserInfo.getProviderId())
-			.kakaoEmail(kakaoUserInfo.getEmail())
-			.kakaoName(kakaoUserInfo.getNickname())
-			.expiresAt(LocalDateTime.now().plusMinutes(TEMP_TOKEN_EXPIRATION_MINUTES))
-			.build();
-		
-		kakaoTempTokenRepository.save(tempToken);
+
+		// 임시 토큰 저장 (같은 providerId의 기존 토큰은 삭제됨)
+		tempTokenStore.save(
+			new TempToken(
+				tokenValue,
+				kakaoUserInfo.getProviderId(),
+				kakaoUserInfo.getEmail(),
+				kakaoUserInfo.getNickname()
+			),
+			TEMP_TOKEN_TTL
+		);
 
 		return KakaoLoginRes.forNewUser(
 			tokenValue,
@@ -201,7 +195,7 @@ public class KakaoOAuthServiceImpl implements KakaoOAuthService {
 	/**
 	 * 카카오 사용자 엔티티 생성
 	 */
-	private User createKakaoUser(KakaoSignupReq request, KakaoTempToken tempToken) {
+	private User createKakaoUser(KakaoSignupReq request, TempToken tempToken) {
 		// 비밀번호: 카카오 로그인은 비밀번호 불필요하므로 랜덤 생성
 		String randomPassword = UUID.randomUUID().toString();
 
@@ -214,7 +208,7 @@ public class KakaoOAuthServiceImpl implements KakaoOAuthService {
 			.birthDate(LocalDate.parse(request.birthDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd")))
 			.gender(request.gender())
 			.role(Role.valueOf(request.role()))
-			.providerId(tempToken.getProviderId())
+			.providerId(tempToken.providerId())
 			.build();
 	}
 
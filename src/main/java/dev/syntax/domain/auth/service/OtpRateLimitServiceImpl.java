@@ -1,57 +1,215 @@
 package dev.syntax.domain.auth.service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import dev.syntax.domain.auth.entity.OtpRateLimit;
 import dev.syntax.domain.auth.repository.OtpRateLimitRepository;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorBaseCode;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * OTP 발급 요청 횟수 제한 서비스
+ * <p>
+ * 사용자별 최근 요청 시각을 메모리의 고정 크기 버퍼(최대 {@value #LIMIT_10_MIN}칸)에 보관하고,
+ * 슬라이딩 윈도우로 1분 {@value #LIMIT_1_MIN}회 / 10분 {@value #LIMIT_10_MIN}회 제한을 검사합니다.
+ * 기본 설정에서는 OTP 발급 시 DB를 조회하거나 기록하지 않습니다.
+ * </p>
+ * <ul>
+ *   <li>버퍼는 사용자 ID 기준으로 나눈 {@value #STRIPES}개의 잠금으로 보호하여, 다른 사용자의 요청끼리는 경합하지 않습니다.</li>
+ *   <li>10분 동안 요청이 없는 사용자의 버퍼는 주기적으로 제거합니다.</li>
+ *   <li>{@code auth.otp-rate-limit.persist}를 켜면 메모리 검사를 통과한 요청을 {@code otp_rate_limit} 테이블에도 기록하고
+ *       한 번의 집계 쿼리로 다시 검사합니다. 여러 서버로 운영할 때 서버 간 합산 제한이 필요하면 사용합니다.</li>
+ *   <li>{@code auth.otp.rate-limit.rejected} 카운터: 제한 초과로 거절된 요청 수,
+ *       {@code auth.otp.rate-limit.users} 게이지: 메모리에 보관 중인 사용자 수</li>
+ * </ul>
+ * <p>
+ * 오래된 {@code otp_rate_limit} 행은 {@link dev.syntax.domain.auth.scheduler.OtpRateLimitCleanupScheduler}가 정리합니다.
+ * </p>
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class OtpRateLimitServiceImpl implements OtpRateLimitService {
 
-	private final OtpRateLimitRepository repository;
-
 	// 1분 제한: 3회
 	private static final int LIMIT_1_MIN = 3;
 	// 10분 제한: 5회
 	private static final int LIMIT_10_MIN = 5;
 
+	private static final long WINDOW_1_MIN = Duration.ofMinutes(1).toMillis();
+	private static final long WINDOW_10_MIN = Duration.ofMinutes(10).toMillis();
+
+	/** 잠금 개수 (2의 거듭제곱) */
+	private static final int STRIPES = 64;
+
+	private static final String METRIC_PREFIX = "auth.otp.rate-limit";
+
+	private final OtpRateLimitRepository repository;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean persist;
+	private final Clock clock;
+
+	private final Object[] locks = new Object[STRIPES];
+	/** 사용자 ID → 최근 요청 시각(epoch millis) 버퍼. 해당 사용자의 잠금 안에서만 읽고 씁니다. */
+	private final ConcurrentHashMap<Long, long[]> windows = new ConcurrentHashMap<>();
+
+	private final Counter rejected;
+
+	@Autowired
+	public OtpRateLimitServiceImpl(
+		OtpRateLimitRepository repository,
+		PlatformTransactionManager transactionManager,
+		@Value("${auth.otp-rate-limit.persist:false}") boolean persist,
+		MeterRegistry meterRegistry
+	) {
+		this(repository, transactionManager, persist, meterRegistry, Clock.systemDefaultZone());
+	}
+
+	OtpRateLimitServiceImpl(
+		OtpRateLimitRepository repository,
+		PlatformTransactionManager transactionManager,
+		boolean persist,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.repository = repository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.persist = persist;
+		this.clock = clock;
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new Object();
+		}
+		this.rejected = meterRegistry.counter(METRIC_PREFIX + ".rejected");
+		Gauge.builder(METRIC_PREFIX + ".users", windows, ConcurrentHashMap::size)
+			.register(meterRegistry);
+	}
+
 	@Override
-	@Transactional
 	public void validateAndRecordOtpRequest(Long userId) {
-		LocalDateTime now = LocalDateTime.now();
+		long now = clock.millis();
+
+		// 메모리 검사와 기록을 같은 잠금 안에서 수행하여 동시 요청이 함께 통과하지 않도록 합니다.
+		int slot;
+		long previous;
+		synchronized (lockFor(userId)) {
+			long[] times = windows.computeIfAbsent(userId, id -> new long[LIMIT_10_MIN]);
+			slot = 0;
+			int count1Min = 0;
+			int count10Min = 0;
+			for (int i = 0; i < times.length; i++) {
+				if (times[i] > now - WINDOW_10_MIN) {
+					count10Min++;
+				}
+				if (times[i] > now - WINDOW_1_MIN) {
+					count1Min++;
+				}
+				if (times[i] < times[slot]) {
+					slot = i;
+				}
+			}
 
-		// 요청을 먼저 기록하고 검사하는 'act-then-check' 패턴을 사용하여 동시성 문제를 완화합니다.
-		// 제한을 초과하면 트랜잭션이 롤백되어 기록이 취소됩니다.
+			if (count10Min >= LIMIT_10_MIN || count1Min >= LIMIT_1_MIN) {
+				reject(userId);
+			}
+
+			// 가장 오래된 칸을 덮어씀 (통과했다면 10분이 지난 칸)
+			previous = times[slot];
+			times[slot] = now;
+		}
+
+		if (persist) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> validateWithDatabase(userId, now));
+			} catch (RuntimeException e) {
+				undo(userId, slot, previous, now);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * 요청을 DB에 기록한 뒤, 다른 서버의 기록까지 포함해 다시 제한을 검사합니다.
+	 * 제한을 초과하면 트랜잭션이 롤백되어 기록이 취소됩니다.
+	 */
+	private void validateWithDatabase(Long userId, long now) {
+		LocalDateTime requestedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), clock.getZone());
 		repository.save(
 			OtpRateLimit.builder()
 				.userId(userId)
-				.requestedAt(now)
+				.requestedAt(requestedAt)
 				.build()
 		);
 
-		long count10Min = repository.countRecentRequests(
+		OtpRateLimitRepository.RecentRequestCounts counts = repository.countRecentRequests(
 			userId,
-			now.minusMinutes(10)
+			requestedAt.minusMinutes(10),
+			requestedAt.minusMinutes(1)
 		);
 
-		if (count10Min > LIMIT_10_MIN) {
-			throw new BusinessException(ErrorBaseCode.OTP_TOO_MANY_REQUESTS);
+		if (counts.getCount10Min() > LIMIT_10_MIN || counts.getCount1Min() > LIMIT_1_MIN) {
+			reject(userId);
 		}
+	}
 
-		long count1Min = repository.countRecentRequests(
-			userId,
-			now.minusMinutes(1)
-		);
+	/**
+	 * 10분 동안 요청이 없는 사용자의 버퍼를 제거합니다.
+	 */
+	@Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+	public void evictIdleWindows() {
+		long threshold = clock.millis() - WINDOW_10_MIN;
+		for (Long userId : windows.keySet()) {
+			synchronized (lockFor(userId)) {
+				long[] times = windows.get(userId);
+				if (times != null && isIdle(times, threshold)) {
+					windows.remove(userId);
+				}
+			}
+		}
+	}
+
+	private void reject(Long userId) {
+		rejected.increment();
+		log.info("[OTP 요청 제한] userId={}", userId);
+		throw new BusinessException(ErrorBaseCode.OTP_TOO_MANY_REQUESTS);
+	}
+
+	/**
+	 * DB 검사에서 거절된 요청의 메모리 기록을 되돌립니다.
+	 */
+	private void undo(Long userId, int slot, long previous, long recordedAt) {
+		synchronized (lockFor(userId)) {
+			long[] times = windows.get(userId);
+			if (times != null && times[slot] == recordedAt) {
+				times[slot] = previous;
+			}
+		}
+	}
+
+	private Object lockFor(Long userId) {
+		return locks[Long.hashCode(userId) & (STRIPES - 1)];
+	}
 
-		if (count1Min > LIMIT_1_MIN) {
-			throw new BusinessException(ErrorBaseCode.OTP_TOO_MANY_REQUESTS);
+	private static boolean isIdle(long[] times, long threshold) {
+		for (long time : times) {
+			if (time > threshold) {
+				return false;
+			}
 		}
+		return true;
 	}
 }
@@ -0,0 +1,168 @@
+package dev.syntax.domain.auth.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 가족 등록 대기 중인 OTP를 OTP 코드 기준으로 보관하는 메모리 인덱스입니다.
+ * <p>
+ * 자녀의 OTP 입력 시 {@code user_relationship}을 OTP로 검색하지 않고, 이 인덱스에서 대기 중인 관계 ID를 바로 찾습니다.
+ * 항목은 {@link #TTL} 뒤 만료되며, 1초 단위 칸 {@value #WHEEL_SIZE}개로 이루어진 타이밍 휠이
+ * 만료 시각이 된 칸만 확인해 제거합니다. 조회 시에도 만료 여부를 확인하므로 휠이 조금 늦어도 만료된 OTP는 반환되지 않습니다.
+ * </p>
+ * <p>
+ * 서버 재시작이나 다른 서버에서 발급된 OTP는 인덱스에 없으므로, 호출자는 조회에 실패하면 DB를 확인해야 합니다.
+ * 인덱스에 보관 중인 OTP 수는 {@code auth.family.otp.pending} 게이지로 노출됩니다.
+ * </p>
+ */
+@Component
+public class PendingFamilyOtpIndex {
+
+	/** OTP 유효 시간 */
+	public static final Duration TTL = Duration.ofMinutes(1);
+
+	/** 휠 칸 수 (1칸 = 1초, TTL보다 길어야 함) */
+	private static final int WHEEL_SIZE = 64;
+	private static final long TICK_MILLIS = 1000;
+
+	private final Clock clock;
+	private final ConcurrentHashMap<String, Pending> byOtp = new ConcurrentHashMap<>();
+	private final List<Set<String>> wheel = new ArrayList<>(WHEEL_SIZE);
+
+	/** 마지막으로 처리한 휠 시각(초) */
+	private long lastTick;
+
+	/**
+	 * 대기 중인 가족 등록 정보
+	 *
+	 * @param relationshipId 대기 중인 UserRelationship ID
+	 * @param expiresAt      만료 시각 (epoch millis)
+	 */
+	public record Pending(Long relationshipId, long expiresAt) {
+	}
+
+	@Autowired
+	public PendingFamilyOtpIndex(MeterRegistry meterRegistry) {
+		this(meterRegistry, Clock.systemDefaultZone());
+	}
+
+	PendingFamilyOtpIndex(MeterRegistry meterRegistry, Clock clock) {
+		this.clock = clock;
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(ConcurrentHashMap.newKeySet());
+		}
+		this.lastTick = clock.millis() / TICK_MILLIS;
+		Gauge.builder("auth.family.otp.pending", byOtp, ConcurrentHashMap::size)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 대기 중인 OTP를 등록합니다.
+	 * <p>
+	 * 트랜잭션 안에서 호출되면 커밋된 뒤에 등록하여, 롤백된 관계가 인덱스에 남지 않도록 합니다.
+	 * </p>
+	 *
+	 * @param otp            OTP 코드
+	 * @param relationshipId 대기 중인 UserRelationship ID
+	 */
+	public void register(String otp, Long relationshipId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					put(otp, relationshipId);
+				}
+			});
+			return;
+		}
+		put(otp, relationshipId);
+	}
+
+	/**
+	 * 만료되지 않은 OTP의 대기 정보를 반환합니다.
+	 *
+	 * @param otp OTP 코드
+	 * @return 대기 정보 (없거나 만료되었으면 empty)
+	 */
+	public Optional<Pending> find(String otp) {
+		Pending pending = byOtp.get(otp);
+		if (pending == null) {
+			return Optional.empty();
+		}
+		if (pending.expiresAt() <= clock.millis()) {
+			byOtp.remove(otp, pending);
+			return Optional.empty();
+		}
+		return Optional.of(pending);
+	}
+
+	/**
+	 * 현재 사용 중인 OTP 코드인지 확인합니다. (새 OTP 발급 시 중복 회피용)
+	 */
+	public boolean contains(String otp) {
+		return find(otp).isPresent();
+	}
+
+	/**
+	 * 사용했거나 삭제된 관계의 OTP를 제거합니다.
+	 * 같은 코드로 다른 관계가 다시 등록된 경우에는 제거하지 않습니다.
+	 *
+	 * @param otp            OTP 코드
+	 * @param relationshipId 제거할 UserRelationship ID
+	 */
+	public void remove(String otp, Long relationshipId) {
+		byOtp.computeIfPresent(otp, (key, pending) ->
+			relationshipId.equals(pending.relationshipId()) ? null : pending);
+	}
+
+	/**
+	 * 지난 틱 이후 만료 시각이 된 휠 칸을 비우고, 만료된 OTP를 제거합니다.
+	 */
+	@Scheduled(fixedDelay = TICK_MILLIS)
+	public synchronized void tick() {
+		long nowMillis = clock.millis();
+		long now = nowMillis / TICK_MILLIS;
+		// 오래 멈춰 있었다면 휠을 한 바퀴만 확인
+		long from = Math.max(lastTick + 1, now - WHEEL_SIZE + 1);
+		for (long second = from; second <= now; second++) {
+			int slot = (int)(second % WHEEL_SIZE);
+			Set<String> bucket = wheel.get(slot);
+			for (String otp : bucket) {
+				Pending remaining = byOtp.computeIfPresent(otp,
+					(key, pending) -> pending.expiresAt() <= nowMillis ? null : pending);
+				// 아직 만료되지 않은 항목(다음 바퀴)은 칸에 남김
+				if (remaining == null || slotOf(remaining.expiresAt()) != slot) {
+					bucket.remove(otp);
+				}
+			}
+		}
+		lastTick = now;
+	}
+
+	private void put(String otp, Long relationshipId) {
+		long expiresAt = clock.millis() + TTL.toMillis();
+		byOtp.put(otp, new Pending(relationshipId, expiresAt));
+		wheel.get(slotOf(expiresAt)).add(otp);
+	}
+
+	/**
+	 * 만료 시각이 속한 초의 다음 칸 (그 칸을 처리할 때는 항상 만료되어 있도록 함)
+	 */
+	private static int slotOf(long expiresAt) {
+		return (int)((expiresAt / TICK_MILLIS + 1) % WHEEL_SIZE);
+	}
+}
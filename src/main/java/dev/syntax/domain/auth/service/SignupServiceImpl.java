@@ -14,6 +14,7 @@ import dev.syntax.domain.user.dto.CoreUserInitReq;
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.auth.service.UserContextCache;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorAuthCode;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class SignupServiceImpl implements SignupService {
 	private final UserRepository userRepository;
 	private final CoreUserClient coreUserClient;
 	private final BankAccountService accountService;
+	private final UserContextCache userContextCache;
 
 	@Override
 	public void signup(SignupReq inputUser) {
@@ -63,6 +65,7 @@ public class SignupServiceImpl implements SignupService {
 				CoreInitRes coreRes = coreUserClient.createChildUser(coreReq);
 				user.setCoreUserId(coreRes.coreUserId());
 			}
+			userContextCache.invalidate(user.getId());
 			log.info("회원가입 + Core 회원 생성 완료: channelUserId={}, coreUserId={}",
 				user.getId(), user.getCoreUserId());
 		} catch (RuntimeException  e) {
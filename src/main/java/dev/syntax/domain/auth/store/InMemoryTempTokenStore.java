@@ -0,0 +1,88 @@
+package dev.syntax.domain.auth.store;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 임시 토큰을 서버 메모리에 보관하는 {@link TempTokenStore} (기본 구현)
+ * <p>
+ * 항목마다 저장 시 지정한 유효 시간이 적용되며, Caffeine의 타이밍 휠이 만료된 항목을 O(1)로 제거합니다.
+ * 따라서 토큰 발급·가입 시 DB 쓰기나 주기적인 삭제 쿼리가 필요 없습니다.
+ * 서버가 재시작되면 발급된 토큰은 사라지므로 사용자는 카카오 로그인부터 다시 진행해야 합니다.
+ * </p>
+ * <p>
+ * 최대 크기는 {@code auth.kakao-temp-token.max-size}이며, 캐시 통계는 {@code auth.kakao.temp.token} 메트릭으로 노출됩니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "auth.kakao-temp-token.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTempTokenStore implements TempTokenStore {
+
+	private static final String METRIC_PREFIX = "auth.kakao.temp.token";
+
+	private final Cache<String, Entry> tokens;
+	/** providerId → 최근 발급한 토큰 (같은 사용자의 이전 토큰 삭제용) */
+	private final ConcurrentHashMap<String, String> tokenByProvider = new ConcurrentHashMap<>();
+
+	private record Entry(TempToken tempToken, Duration ttl) {
+	}
+
+	@Autowired
+	public InMemoryTempTokenStore(
+		@Value("${auth.kakao-temp-token.max-size:10000}") long maxSize,
+		MeterRegistry meterRegistry
+	) {
+		this(maxSize, meterRegistry, Ticker.systemTicker());
+	}
+
+	InMemoryTempTokenStore(long maxSize, MeterRegistry meterRegistry, Ticker ticker) {
+		this.tokens = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(Expiry.creating((String token, Entry entry) -> entry.ttl()))
+			.scheduler(Scheduler.systemScheduler())
+			.ticker(ticker)
+			.removalListener((String token, Entry entry, RemovalCause cause) -> {
+				if (entry != null) {
+					tokenByProvider.remove(entry.tempToken().providerId(), token);
+				}
+			})
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, tokens, METRIC_PREFIX);
+	}
+
+	@Override
+	public void save(TempToken tempToken, Duration ttl) {
+		tokens.put(tempToken.token(), new Entry(tempToken, ttl));
+		String previous = tokenByProvider.put(tempToken.providerId(), tempToken.token());
+		if (previous != null && !previous.equals(tempToken.token())) {
+			tokens.invalidate(previous);
+		}
+	}
+
+	@Override
+	public Optional<TempToken> find(String token) {
+		return Optional.ofNullable(tokens.getIfPresent(token)).map(Entry::tempToken);
+	}
+
+	@Override
+	public void delete(String token) {
+		tokens.invalidate(token);
+	}
+}
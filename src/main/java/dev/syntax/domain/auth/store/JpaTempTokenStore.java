@@ -0,0 +1,72 @@
+package dev.syntax.domain.auth.store;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.syntax.domain.auth.entity.KakaoTempToken;
+import dev.syntax.domain.auth.repository.KakaoTempTokenRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 임시 토큰을 {@code kakao_temp_token} 테이블에 보관하는 {@link TempTokenStore}
+ * <p>
+ * 로그인한 서버와 가입 요청을 받는 서버가 다를 수 있는 다중 서버 환경에서 사용합니다.
+ * 만료된 행은 {@link dev.syntax.domain.auth.scheduler.KakaoTempTokenCleanupScheduler}가 정리합니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "auth.kakao-temp-token.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaTempTokenStore implements TempTokenStore {
+
+	private final KakaoTempTokenRepository kakaoTempTokenRepository;
+
+	@Override
+	@Transactional
+	public void save(TempToken tempToken, Duration ttl) {
+		// 기존 providerId의 토큰 삭제 (중복 방지)
+		kakaoTempTokenRepository.deleteByProviderId(tempToken.providerId());
+
+		kakaoTempTokenRepository.save(
+			KakaoTempToken.builder()
+				.token(tempToken.token())
+				.providerId(tempToken.providerId())
+				.kakaoEmail(tempToken.kakaoEmail())
+				.kakaoName(tempToken.kakaoName())
+				.expiresAt(LocalDateTime.now().plus(ttl))
+				.build()
+		);
+	}
+
+	@Override
+	@Transactional
+	public Optional<TempToken> find(String token) {
+		Optional<KakaoTempToken> found = kakaoTempTokenRepository.findByToken(token);
+		if (found.isEmpty()) {
+			return Optional.empty();
+		}
+
+		KakaoTempToken entity = found.get();
+		if (entity.isExpired()) {
+			kakaoTempTokenRepository.delete(entity);
+			return Optional.empty();
+		}
+		return Optional.of(new TempToken(
+			entity.getToken(),
+			entity.getProviderId(),
+			entity.getKakaoEmail(),
+			entity.getKakaoName()
+		));
+	}
+
+	@Override
+	@Transactional
+	public void delete(String token) {
+		kakaoTempTokenRepository.deleteById(token);
+	}
+}
@@ -0,0 +1,52 @@
+package dev.syntax.domain.auth.store;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 카카오 신규 사용자의 임시 가입 토큰 저장소
+ * <p>
+ * 카카오 로그인 후 회원가입을 마칠 때까지 잠깐(수 분) 사용하는 토큰을 보관합니다.
+ * {@code auth.kakao-temp-token.store}로 구현체를 선택합니다.
+ * </p>
+ * <ul>
+ *   <li>{@code memory} (기본값): 서버 메모리에 보관 ({@link InMemoryTempTokenStore}), DB를 사용하지 않음</li>
+ *   <li>{@code jpa}: {@code kakao_temp_token} 테이블에 보관 ({@link JpaTempTokenStore}), 여러 서버로 운영할 때 사용</li>
+ * </ul>
+ */
+public interface TempTokenStore {
+
+	/**
+	 * 임시 토큰을 저장합니다. 같은 providerId의 기존 토큰은 삭제됩니다.
+	 *
+	 * @param tempToken 임시 토큰
+	 * @param ttl       유효 시간
+	 */
+	void save(TempToken tempToken, Duration ttl);
+
+	/**
+	 * 만료되지 않은 임시 토큰을 조회합니다.
+	 *
+	 * @param token 토큰 값
+	 * @return 임시 토큰 (없거나 만료되었으면 empty)
+	 */
+	Optional<TempToken> find(String token);
+
+	/**
+	 * 사용한 임시 토큰을 삭제합니다.
+	 *
+	 * @param token 토큰 값
+	 */
+	void delete(String token);
+
+	/**
+	 * 임시 토큰에 담긴 카카오 사용자 정보
+	 *
+	 * @param token      토큰 값
+	 * @param providerId 카카오 사용자 ID
+	 * @param kakaoEmail 카카오 이메일
+	 * @param kakaoName  카카오 닉네임
+	 */
+	record TempToken(String token, String providerId, String kakaoEmail, String kakaoName) {
+	}
+}
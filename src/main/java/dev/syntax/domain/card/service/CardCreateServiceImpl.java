@@ -77,7 +77,7 @@ public class CardCreateServiceImpl implements CardCreateService {
 
         // 부모이고, 해당 자녀가 내 자녀 목록에 있어야 함
         if (ctx.getRole().equals(Role.PARENT.name()) &&
-                ctx.getChildren().contains(childId)) {
+                ctx.hasChild(childId)) {
             return; // 부모 OK
         }
 
@@ -78,7 +78,7 @@ public class CardInquiryServiceImpl implements CardInquiryService {
         }
 
         // 부모가 자신의 자녀 카드 조회 허용
-        if (ctx.getRole().equals(Role.PARENT.name()) && ctx.getChildren().contains(targetUserId)) {
+        if (ctx.getRole().equals(Role.PARENT.name()) && ctx.hasChild(targetUserId)) {
             return;
         }
 
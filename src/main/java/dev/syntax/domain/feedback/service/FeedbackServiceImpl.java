@@ -62,7 +62,7 @@ public class FeedbackServiceImpl implements FeedbackService {
         Long childId = report.getUser().getId();
 
         // 부모 → 자녀 관계 체크
-        if (!ctx.getChildren().contains(childId)) {
+        if (!ctx.hasChild(childId)) {
             log.warn("[피드백 생성 실패] 부모-자녀 관계 불일치 - parentId={}, childId={}", ctx.getId(), childId);
             throw new BusinessException(ErrorBaseCode.UNAUTHORIZED);
         }
@@ -75,7 +75,7 @@ public class FeedbackServiceImpl implements FeedbackService {
 
         Feedback feedback = Feedback.builder()
                 .report(report)
-                .writer(ctx.getUser())
+                .writer(userRepository.getReferenceById(ctx.getId()))
                 .message(req.message())
                 .build();
 
@@ -126,7 +126,7 @@ public class FeedbackServiceImpl implements FeedbackService {
 
         boolean isParentOfOwner =
                 ctx.getRole().equals(Role.PARENT.name()) &&
-                ctx.getChildren().contains(ownerId);
+                ctx.hasChild(ownerId);
 
         // 부모 or 자녀 중 누구라도 조건 충족해야 조회 가능
         if (!(isChildOwner || isParentOfOwner)) {
@@ -0,0 +1,43 @@
+package dev.syntax.domain.goal.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import dev.syntax.domain.goal.dto.CoreTransactionHistoryRes;
+import dev.syntax.domain.goal.dto.CoreUpdateAccountStatusReq;
+import dev.syntax.domain.goal.dto.CoreUpdateAccountStatusRes;
+import dev.syntax.domain.goal.dto.CoreUpdateAutoTransferDayRes;
+import dev.syntax.global.core.CoreAsyncExecutor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link CoreGoalClient}의 비동기 버전입니다.
+ * <p>
+ * 각 메서드는 동일한 이름의 동기 메서드를 Core 호출 전용 실행 풀에서 실행하고
+ * {@link CompletableFuture}로 반환합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CoreGoalAsyncClient {
+
+    private final CoreGoalClient coreGoalClient;
+    private final CoreAsyncExecutor coreAsyncExecutor;
+
+    /** @see CoreGoalClient#getAccountHistory(String) */
+    public CompletableFuture<CoreTransactionHistoryRes> getAccountHistory(String accountNo) {
+        return coreAsyncExecutor.supply(() -> coreGoalClient.getAccountHistory(accountNo));
+    }
+
+    /** @see CoreGoalClient#updateAccountStatus(String, CoreUpdateAccountStatusReq) */
+    public CompletableFuture<CoreUpdateAccountStatusRes> updateAccountStatus(
+            String accountNo, CoreUpdateAccountStatusReq req) {
+        return coreAsyncExecutor.supply(() -> coreGoalClient.updateAccountStatus(accountNo, req));
+    }
+
+    /** @see CoreGoalClient#updateAutoTransferDay(Long, Integer) */
+    public CompletableFuture<CoreUpdateAutoTransferDayRes> updateAutoTransferDay(Long autoTransferId, Integer payDay) {
+        return coreAsyncExecutor.supply(() -> coreGoalClient.updateAutoTransferDay(autoTransferId, payDay));
+    }
+}
@@ -1,6 +1,7 @@
 package dev.syntax.domain.goal.service;
 
 import dev.syntax.domain.account.client.CoreAccountClient;
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
 import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
 import dev.syntax.domain.account.dto.core.CoreGoalAccountReq;
 import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
@@ -38,6 +39,7 @@ public class GoalAccountServiceImpl implements GoalAccountService {
 	private final AutoTransferRepository autoTransferRepository;
 	private final GoalRepository goalRepository;
 	private final CoreAutoTransferClient coreAutoTransferClient;
+	private final CoreAccountSnapshotCache accountSnapshotCache;
 
 	/**
 	 * 목표 계좌를 생성하고 Goal 엔티티와 연동합니다.
@@ -100,6 +102,9 @@ public class GoalAccountServiceImpl implements GoalAccountService {
 
 		log.info("[CHANNEL] 목표 계좌 자동이체 등록 완료");
 
+		// 5. 자녀/부모의 Core 계좌 목록 스냅샷 무효화
+		accountSnapshotCache.evictFamily(goal.getUser());
+
 		return goal;
 	}
 
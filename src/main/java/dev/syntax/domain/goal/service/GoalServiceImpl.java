@@ -7,6 +7,7 @@ import java.math.RoundingMode;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.account.repository.AccountRepository;
 import dev.syntax.domain.goal.dto.*;
@@ -52,6 +53,7 @@ public class GoalServiceImpl implements GoalService {
     private final AutoTransferService autoTransferService;
     private final AutoTransferRepository autoTransferRepository;
     private final AccountRepository accountRepository;
+    private final CoreAccountSnapshotCache accountSnapshotCache;
 
     /**
      * UserContext로부터 User 엔티티 조회
@@ -60,7 +62,8 @@ public class GoalServiceImpl implements GoalService {
      * @return User 엔티티
      */
     private User getUser(UserContext userContext) {
-        return userContext.getUser();
+        return userRepository.findById(userContext.getId())
+                .orElseThrow(() -> new BusinessException(ErrorBaseCode.USER_NOT_FOUND));
     }
 
     /**
@@ -115,7 +118,7 @@ public class GoalServiceImpl implements GoalService {
      * @param goal        자녀 목표
      */
     private void validateParentHasChild(UserContext userContext, Goal goal) {
-        if (!userContext.getChildren().contains(goal.getUser().getId())) {
+        if (!userContext.hasChild(goal.getUser().getId())) {
             throw new BusinessException(ErrorBaseCode.GOAL_CHILD_NOT_MATCH);
         }
     }
@@ -282,7 +285,7 @@ public class GoalServiceImpl implements GoalService {
 		if (user.getRole() == Role.CHILD && !goal.getUser().getId().equals(user.getId())) {
 			throw new BusinessException(ErrorBaseCode.FORBIDDEN);
 		}
-		if (user.getRole() == Role.PARENT && !userContext.getChildren().contains(goal.getUser().getId())) {
+		if (user.getRole() == Role.PARENT && !userContext.hasChild(goal.getUser().getId())) {
 			throw new BusinessException(ErrorBaseCode.GOAL_CHILD_NOT_MATCH);
 		}
 
@@ -473,7 +476,7 @@ public class GoalServiceImpl implements GoalService {
             throw new BusinessException(ErrorBaseCode.GOAL_ACCESS_FORBIDDEN);
         }
 
-        if (!userContext.getChildren().contains(childId)) {
+        if (!userContext.hasChild(childId)) {
             throw new BusinessException(ErrorBaseCode.GOAL_CHILD_NOT_MATCH);
         }
 
@@ -494,7 +497,7 @@ public class GoalServiceImpl implements GoalService {
             throw new BusinessException(ErrorBaseCode.GOAL_ACCESS_FORBIDDEN);
         }
 
-        if (!userContext.getChildren().contains(childId)) {
+        if (!userContext.hasChild(childId)) {
             throw new BusinessException(ErrorBaseCode.GOAL_CHILD_NOT_MATCH);
         }
 
@@ -539,6 +542,9 @@ public class GoalServiceImpl implements GoalService {
 			return;
 		}
 
+		// 목표 계좌 잔액이 바뀌었으므로 자녀/부모의 Core 계좌 목록 스냅샷 무효화
+		accountSnapshotCache.evictFamily(goal.getUser());
+
 		if (goal.getStatus() != GoalStatus.ONGOING) {
 			return;
 		}
@@ -19,7 +19,10 @@ import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.home.dto.HomeRes;
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.enums.Role;
+import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -35,14 +38,19 @@ import lombok.RequiredArgsConstructor;
 public class HomeServiceImpl implements HomeService {
 
 	private final CoreAccountClient coreAccountClient;
+	private final UserRepository userRepository;
 
 	@Override
 	public HomeRes getHomeData(UserContext context) {
-		User user = context.getUser();
+		// 부모는 자녀 이름/성별이 필요하므로 자녀 관계를 함께 조회
+		User user = (Role.PARENT.name().equals(context.getRole())
+			? userRepository.findByIdWithChildren(context.getId())
+			: userRepository.findById(context.getId()))
+			.orElseThrow(() -> new BusinessException(ErrorBaseCode.USER_NOT_FOUND));
 		CoreUserAccountListRes coreAccounts = coreAccountClient.getUserAccounts();
 
 		return user.getRole() == Role.PARENT
-			? buildParentHomeData(context, coreAccounts)
+			? buildParentHomeData(user, coreAccounts)
 			: buildChildHomeData(user, coreAccounts);
 	}
 
@@ -53,13 +61,11 @@ public class HomeServiceImpl implements HomeService {
 	 * Core 서버에서 받은 자녀 정보는 coreUserId 기준으로 매핑됩니다.
 	 * </p>
 	 *
-	 * @param context 사용자 컨텍스트 (부모 정보 포함)
+	 * @param parent 부모 사용자 정보 (자녀 관계 포함)
 	 * @param coreAccounts Core 서버로부터 조회한 계좌 정보
 	 * @return 부모 홈 화면 응답 DTO
 	 */
-	private HomeRes buildParentHomeData(UserContext context, CoreUserAccountListRes coreAccounts) {
-		User parent = context.getUser();
-
+	private HomeRes buildParentHomeData(User parent, CoreUserAccountListRes coreAccounts) {
 		// 부모 본인의 총 잔액 계산
 		BigDecimal parentBalance = sumAccountBalances(coreAccounts.accounts());
 
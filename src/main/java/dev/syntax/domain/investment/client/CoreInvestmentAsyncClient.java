@@ -0,0 +1,88 @@
+package dev.syntax.domain.investment.client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import dev.syntax.domain.account.dto.core.CoreInvestmentAccountRes;
+import dev.syntax.domain.investment.dto.core.CoreInvestTradeOrderReq;
+import dev.syntax.domain.investment.dto.res.InvestAccountPortfolioRes;
+import dev.syntax.domain.investment.dto.res.InvestDashboardRes;
+import dev.syntax.domain.investment.dto.res.InvestTradeOrderRes;
+import dev.syntax.domain.investment.dto.res.PortfolioDateRes;
+import dev.syntax.domain.investment.dto.res.PortfolioRes;
+import dev.syntax.domain.investment.dto.res.StockDetailRes;
+import dev.syntax.domain.investment.dto.res.StocksRes;
+import dev.syntax.global.core.CoreAsyncExecutor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link CoreInvestmentClient}의 비동기 버전입니다.
+ * <p>
+ * 각 메서드는 동일한 이름의 동기 메서드를 Core 호출 전용 실행 풀에서 실행하고
+ * {@link CompletableFuture}로 반환합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CoreInvestmentAsyncClient {
+
+    private final CoreInvestmentClient coreInvestmentClient;
+    private final CoreAsyncExecutor coreAsyncExecutor;
+
+    /** @see CoreInvestmentClient#getStocksForBuy() */
+    public CompletableFuture<StocksRes> getStocksForBuy() {
+        return coreAsyncExecutor.supply(coreInvestmentClient::getStocksForBuy);
+    }
+
+    /** @see CoreInvestmentClient#getStocksForSell() */
+    public CompletableFuture<StocksRes> getStocksForSell() {
+        return coreAsyncExecutor.supply(coreInvestmentClient::getStocksForSell);
+    }
+
+    /** @see CoreInvestmentClient#getStockDetail(String) */
+    public CompletableFuture<StockDetailRes> getStockDetail(String code) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.getStockDetail(code));
+    }
+
+    /** @see CoreInvestmentClient#getInvestAccount(String) */
+    public CompletableFuture<InvestAccountPortfolioRes> getInvestAccount(String cano) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.getInvestAccount(cano));
+    }
+
+    /** @see CoreInvestmentClient#createInvestmentAccount(Long) */
+    public CompletableFuture<CoreInvestmentAccountRes> createInvestmentAccount(Long userId) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.createInvestmentAccount(userId));
+    }
+
+    /** @see CoreInvestmentClient#getDashboard(String) */
+    public CompletableFuture<InvestDashboardRes> getDashboard(String cano) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.getDashboard(cano));
+    }
+
+    /** @see CoreInvestmentClient#tradeOrderBuy(CoreInvestTradeOrderReq) */
+    public CompletableFuture<InvestTradeOrderRes> tradeOrderBuy(CoreInvestTradeOrderReq buyReq) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.tradeOrderBuy(buyReq));
+    }
+
+    /** @see CoreInvestmentClient#tradeOrderSell(CoreInvestTradeOrderReq) */
+    public CompletableFuture<InvestTradeOrderRes> tradeOrderSell(CoreInvestTradeOrderReq sellReq) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.tradeOrderSell(sellReq));
+    }
+
+    /** @see CoreInvestmentClient#getMonthlyPortfolio(String, int, int) */
+    public CompletableFuture<PortfolioRes> getMonthlyPortfolio(String cano, int year, int month) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.getMonthlyPortfolio(cano, year, month));
+    }
+
+    /** @see CoreInvestmentClient#getAvailableDates(String) */
+    public CompletableFuture<List<PortfolioDateRes>> getAvailableDates(String cano) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.getAvailableDates(cano));
+    }
+
+    /** @see CoreInvestmentClient#checkAccount(Long) */
+    public CompletableFuture<Boolean> checkAccount(Long userId) {
+        return coreAsyncExecutor.supply(() -> coreInvestmentClient.checkAccount(userId));
+    }
+}
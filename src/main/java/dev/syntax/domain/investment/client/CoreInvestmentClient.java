@@ -3,6 +3,8 @@ package dev.syntax.domain.investment.client;
 import java.util.List;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -17,6 +19,7 @@ import dev.syntax.domain.investment.dto.res.PortfolioRes;
 import dev.syntax.domain.investment.dto.res.StockDetailRes;
 import dev.syntax.domain.investment.dto.res.StocksRes;
 import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.CoreUserIdResolver;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -27,14 +30,15 @@ public class CoreInvestmentClient {
 
     private static final String STOCKS_BUY_URL = "/core/investments/stocks/buy";
     private static final String STOCKS_SELL_URL = "/core/investments/stocks/sell";
-    private static final String STOCK_DETAIL_URL = "/core/investments/stocks/detail/";
-    private static final String INVEST_ACCOUNT_PORTFOLIO_URL = "/core/investments/account";
-    private static final String INVESTMENT_ACCOUNT_URL = "/core/banking/account/investment";
-    private static final String DASHBOARD_URL = "/core/investments/dashboard/";
+    private static final String STOCK_DETAIL_URL = "/core/investments/stocks/detail/{code}";
+    private static final String INVEST_ACCOUNT_PORTFOLIO_URL = "/core/investments/account/{cano}";
+    private static final String INVESTMENT_ACCOUNT_URL = "/core/banking/account/investment?userId={userId}";
+    private static final String DASHBOARD_URL = "/core/investments/dashboard/{cano}";
     private static final String TRADE_ORDER_BUY_URL = "/core/investments/trade/buy";
     private static final String TRADE_ORDER_SELL_URL = "/core/investments/trade/sell";
-    private static final String MONTHLY_PORTFOLIO_URL = "/core/investments/portfolio";
-    private static final String CHECK_ACCOUNT_URL = "/core/banking/account/check?userId=";
+    private static final String MONTHLY_PORTFOLIO_URL = "/core/investments/portfolio?cano={cano}&year={year}&month={month}";
+    private static final String PORTFOLIO_DATES_URL = "/core/investments/portfolio/dates?cano={cano}";
+    private static final String CHECK_ACCOUNT_URL = "/core/banking/account/check?userId={userId}";
 
 
     public StocksRes getStocksForBuy() {
@@ -52,31 +56,36 @@ public class CoreInvestmentClient {
     }
 
     public StockDetailRes getStockDetail(String code) {
-        String url = properties.getBaseUrl() + STOCK_DETAIL_URL + code;
-
-        return coreRestTemplate.getForObject(url, StockDetailRes.class);
+        return coreRestTemplate.getForObject(
+                properties.getBaseUrl() + STOCK_DETAIL_URL,
+                StockDetailRes.class,
+                code
+        );
     }
 
     public InvestAccountPortfolioRes getInvestAccount(String cano) {
         return coreRestTemplate.getForObject(
-                properties.getBaseUrl() + INVEST_ACCOUNT_PORTFOLIO_URL + "/" + cano,
-                InvestAccountPortfolioRes.class
+                properties.getBaseUrl() + INVEST_ACCOUNT_PORTFOLIO_URL,
+                InvestAccountPortfolioRes.class,
+                cano
         );
     }
 
 
     public CoreInvestmentAccountRes createInvestmentAccount(Long userId) {
         return coreRestTemplate.postForObject(
-                properties.getBaseUrl() + INVESTMENT_ACCOUNT_URL  + "?userId=" + userId,
+                properties.getBaseUrl() + INVESTMENT_ACCOUNT_URL,
                 null,
-                CoreInvestmentAccountRes.class
+                CoreInvestmentAccountRes.class,
+                userId
         );
     }
 
     public InvestDashboardRes getDashboard(String cano) {
         return coreRestTemplate.getForObject(
-                properties.getBaseUrl() + DASHBOARD_URL + cano,
-                InvestDashboardRes.class
+                properties.getBaseUrl() + DASHBOARD_URL,
+                InvestDashboardRes.class,
+                cano
         );
     }
 
@@ -99,37 +108,65 @@ public class CoreInvestmentClient {
     }
 
     public PortfolioRes getMonthlyPortfolio(String cano, int year, int month) {
-        String url = String.format(
-                "%s%s?cano=%s&year=%d&month=%d",
-                properties.getBaseUrl(),
-                MONTHLY_PORTFOLIO_URL,
+        return getMonthlyPortfolio(cano, year, month, null);
+    }
+
+    /**
+     * 지정한 Core 사용자로 월별 포트폴리오를 조회합니다.
+     * <p>
+     * 백필 작업처럼 SecurityContext가 없는 스레드에서 호출할 때 X-Core-User-Id 헤더를 명시적으로 지정합니다.
+     * </p>
+     *
+     * @param coreUserId 계좌 소유자의 Core User ID (null이면 현재 인증 사용자 기준)
+     */
+    public PortfolioRes getMonthlyPortfolio(String cano, int year, int month, Long coreUserId) {
+        return coreRestTemplate.exchange(
+                properties.getBaseUrl() + MONTHLY_PORTFOLIO_URL,
+                HttpMethod.GET,
+                userEntity(coreUserId),
+                PortfolioRes.class,
                 cano,
                 year,
                 month
-        );
-        return coreRestTemplate.getForObject(
-                url,
-                PortfolioRes.class
-        );
+        ).getBody();
     }
 
     public List<PortfolioDateRes> getAvailableDates(String cano) {
-        String url = properties.getBaseUrl()
-                + "/core/investments/portfolio/dates?cano=" + cano;
+        return getAvailableDates(cano, null);
+    }
 
+    /**
+     * 지정한 Core 사용자로 조회 가능한 연/월 목록을 조회합니다.
+     *
+     * @param coreUserId 계좌 소유자의 Core User ID (null이면 현재 인증 사용자 기준)
+     * @see #getMonthlyPortfolio(String, int, int, Long)
+     */
+    public List<PortfolioDateRes> getAvailableDates(String cano, Long coreUserId) {
         return coreRestTemplate.exchange(
-                url,
+                properties.getBaseUrl() + PORTFOLIO_DATES_URL,
                 HttpMethod.GET,
-                null,
-                new ParameterizedTypeReference<List<PortfolioDateRes>>() {}
+                userEntity(coreUserId),
+                new ParameterizedTypeReference<List<PortfolioDateRes>>() {},
+                cano
         ).getBody();
     }
 
     public boolean checkAccount(Long userId) {
         return Boolean.TRUE.equals(coreRestTemplate.getForObject(
-                properties.getBaseUrl() + CHECK_ACCOUNT_URL + userId,
-                Boolean.class
+                properties.getBaseUrl() + CHECK_ACCOUNT_URL,
+                Boolean.class,
+                userId
         ));
     }
 
+    /**
+     * X-Core-User-Id 헤더를 지정한 요청을 만듭니다. null이면 헤더 인터셉터가 현재 인증 사용자로 채웁니다.
+     */
+    private static HttpEntity<Void> userEntity(Long coreUserId) {
+        HttpHeaders headers = new HttpHeaders();
+        if (coreUserId != null) {
+            headers.set(CoreUserIdResolver.HEADER, String.valueOf(coreUserId));
+        }
+        return new HttpEntity<>(headers);
+    }
 }
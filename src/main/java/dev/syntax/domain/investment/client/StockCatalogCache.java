@@ -0,0 +1,171 @@
+package dev.syntax.domain.investment.client;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.syntax.domain.investment.dto.res.StocksRes;
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.SingleFlight;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모든 사용자에게 동일한 매수/매도 종목 시세 목록을 프로세스 단위로 공유하는 캐시입니다.
+ * <p>
+ * 투자 탭을 여는 자녀마다 Core를 호출하지 않도록, 스케줄러가
+ * {@code core.api.stock-catalog.refresh-interval} 주기로 목록을 미리 갱신(refresh-ahead)하고
+ * 사용자 요청은 마지막 목록을 바로 응답합니다.
+ * </p>
+ * <ul>
+ *   <li>갱신 실패 시 {@code max-stale}까지 마지막 목록을 계속 응답합니다.</li>
+ *   <li>{@code idle-after} 동안 조회가 없으면 백그라운드 갱신을 쉬고, 다음 조회 때 다시 시작합니다.</li>
+ * </ul>
+ * <p>
+ * 종목 상세({@code /core/investments/stocks/detail/{code}})는 예수금, 보유 수량 등
+ * 사용자별 값이 함께 내려오므로 이 캐시에서 공유하지 않습니다.
+ * </p>
+ * <p>
+ * 갱신 소요 시간은 {@code investment.stock.catalog.refresh} 타이머,
+ * 목록의 경과 시간은 {@code investment.stock.catalog.staleness} 게이지(초)로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class StockCatalogCache {
+
+	private static final String METRIC_PREFIX = "investment.stock.catalog";
+
+	public enum Side {
+		BUY, SELL
+	}
+
+	private final CoreInvestmentClient coreInvestmentClient;
+	private final CoreApiProperties.StockCatalog config;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<Side, AtomicReference<Snapshot>> snapshots = new EnumMap<>(Side.class);
+	private final AtomicLong lastAccessNanos = new AtomicLong(System.nanoTime());
+	private final SingleFlight<Side, StocksRes> refreshFlight;
+
+	public StockCatalogCache(
+		CoreInvestmentClient coreInvestmentClient,
+		CoreApiProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.coreInvestmentClient = coreInvestmentClient;
+		this.config = properties.getStockCatalog();
+		this.meterRegistry = meterRegistry;
+		this.refreshFlight = new SingleFlight<>(meterRegistry.counter(METRIC_PREFIX + ".coalesced"));
+
+		for (Side side : Side.values()) {
+			AtomicReference<Snapshot> ref = new AtomicReference<>();
+			snapshots.put(side, ref);
+			Gauge.builder(METRIC_PREFIX + ".staleness", ref, StockCatalogCache::stalenessSeconds)
+				.tag("side", side.name().toLowerCase())
+				.description("종목 목록이 마지막으로 갱신된 후 경과한 시간(초)")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+		}
+	}
+
+	/**
+	 * 매수 가능 종목 시세 목록을 반환합니다.
+	 *
+	 * @return 매수 종목 목록
+	 */
+	public StocksRes getStocksForBuy() {
+		return get(Side.BUY);
+	}
+
+	/**
+	 * 매도 종목 시세 목록을 반환합니다.
+	 *
+	 * @return 매도 종목 목록
+	 */
+	public StocksRes getStocksForSell() {
+		return get(Side.SELL);
+	}
+
+	/**
+	 * 종목 목록을 주기적으로 미리 갱신합니다.
+	 * <p>
+	 * 최근 {@code idle-after} 동안 조회가 없었다면 갱신하지 않습니다.
+	 * </p>
+	 */
+	@Scheduled(fixedDelayString = "#{@coreApiProperties.stockCatalog.refreshInterval.toMillis()}")
+	public void refreshAhead() {
+		if (!config.isEnabled() || isIdle()) {
+			return;
+		}
+		for (Side side : Side.values()) {
+			try {
+				refreshFlight.execute(side, () -> refresh(side));
+			} catch (Exception e) {
+				log.warn("[종목 카탈로그 갱신 실패] side={}, 기존 목록 유지: {}", side, e.getMessage());
+			}
+		}
+	}
+
+	private StocksRes get(Side side) {
+		if (!config.isEnabled()) {
+			return fetch(side).get();
+		}
+		lastAccessNanos.set(System.nanoTime());
+
+		Snapshot snapshot = snapshots.get(side).get();
+		if (snapshot != null && !snapshot.isOlderThan(config.getMaxStale().toNanos())) {
+			return snapshot.value();
+		}
+		return refreshFlight.execute(side, () -> refresh(side));
+	}
+
+	private StocksRes refresh(Side side) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			StocksRes loaded = fetch(side).get();
+			snapshots.get(side).set(new Snapshot(loaded, System.nanoTime()));
+			return loaded;
+		} catch (RuntimeException e) {
+			outcome = "failure";
+			throw e;
+		} finally {
+			sample.stop(meterRegistry.timer(METRIC_PREFIX + ".refresh",
+				"side", side.name().toLowerCase(), "outcome", outcome));
+		}
+	}
+
+	private Supplier<StocksRes> fetch(Side side) {
+		return side == Side.BUY
+			? coreInvestmentClient::getStocksForBuy
+			: coreInvestmentClient::getStocksForSell;
+	}
+
+	private boolean isIdle() {
+		return System.nanoTime() - lastAccessNanos.get() > config.getIdleAfter().toNanos();
+	}
+
+	private static double stalenessSeconds(AtomicReference<Snapshot> ref) {
+		Snapshot snapshot = ref.get();
+		if (snapshot == null) {
+			return Double.NaN;
+		}
+		return (double)TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - snapshot.fetchedAtNanos()) / 1000;
+	}
+
+	private record Snapshot(StocksRes value, long fetchedAtNanos) {
+
+		boolean isOlderThan(long nanos) {
+			return System.nanoTime() - fetchedAtNanos > nanos;
+		}
+	}
+}
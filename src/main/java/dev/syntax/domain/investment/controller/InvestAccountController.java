@@ -45,7 +45,7 @@ public class InvestAccountController {
         }
 
         // 2) 요청한 childId가 현재 부모의 자녀인지 검증
-        if (!userContext.getChildren().contains(childId)) {
+        if (!userContext.hasChild(childId)) {
             throw new BusinessException(ErrorBaseCode.INVALID_CHILD);
         }
 		investAccountService.createInvestmentAccount(childId);
@@ -0,0 +1,57 @@
+package dev.syntax.domain.investment.entity;
+
+import dev.syntax.global.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마감된 달의 월별 투자 포트폴리오 스냅샷입니다.
+ * <p>
+ * 지난 달의 포트폴리오는 다시 바뀌지 않으므로 Core 응답({@code PortfolioRes})을
+ * GZIP 압축한 JSON으로 (계좌번호, 연, 월) 단위로 한 번만 저장합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "portfolio_snapshot", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_portfolio_snapshot_cano_ym", columnNames = {"cano", "year", "month"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PortfolioSnapshot extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "portfolio_snapshot_id")
+	private Long id;
+
+	@Column(name = "cano", nullable = false, length = 50)
+	private String cano;
+
+	@Column(name = "year", nullable = false)
+	private Integer year;
+
+	@Column(name = "month", nullable = false)
+	private Integer month;
+
+	/** GZIP 압축된 PortfolioRes JSON */
+	@Lob
+	@Column(name = "payload", nullable = false, columnDefinition = "MEDIUMBLOB")
+	private byte[] payload;
+
+	/** 압축 전 JSON 크기 (byte) */
+	@Column(name = "raw_size", nullable = false)
+	private Integer rawSize;
+}
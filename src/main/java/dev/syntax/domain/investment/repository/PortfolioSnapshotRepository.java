@@ -0,0 +1,23 @@
+package dev.syntax.domain.investment.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import dev.syntax.domain.investment.entity.PortfolioSnapshot;
+
+/**
+ * 마감된 달의 월별 포트폴리오 스냅샷 Repository
+ */
+public interface PortfolioSnapshotRepository extends JpaRepository<PortfolioSnapshot, Long> {
+
+	/**
+	 * 계좌번호 + 연/월로 스냅샷 조회
+	 */
+	Optional<PortfolioSnapshot> findByCanoAndYearAndMonth(String cano, Integer year, Integer month);
+
+	/**
+	 * 스냅샷 존재 여부 (백필 작업용)
+	 */
+	boolean existsByCanoAndYearAndMonth(String cano, Integer year, Integer month);
+}
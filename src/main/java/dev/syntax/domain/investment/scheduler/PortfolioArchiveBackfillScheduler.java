@@ -0,0 +1,78 @@
+package dev.syntax.domain.investment.scheduler;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.syntax.domain.account.entity.Account;
+import dev.syntax.domain.account.enums.AccountType;
+import dev.syntax.domain.account.repository.AccountRepository;
+import dev.syntax.domain.investment.dto.res.PortfolioDateRes;
+import dev.syntax.domain.investment.service.ClosedMonthPortfolioStore;
+import dev.syntax.global.core.CoreApiProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마감된 달의 포트폴리오 백필 스케줄러
+ *
+ * 모든 투자 계좌에 대해 최근 {@code core.api.portfolio-archive.backfill-months}개월의
+ * 마감된 포트폴리오를 미리 채널 DB에 적재합니다.
+ * 이미 저장된 달은 건너뛰므로, 평소에는 월이 바뀐 직후와 신규 계좌에 대해서만 Core를 호출합니다.
+ * 스케줄러 스레드에는 인증 사용자가 없으므로, 계좌 소유자의 Core User ID를 X-Core-User-Id 헤더로 직접 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioArchiveBackfillScheduler {
+
+	private final AccountRepository accountRepository;
+	private final ClosedMonthPortfolioStore closedMonthPortfolioStore;
+	private final CoreApiProperties properties;
+
+	/**
+	 * 기본값: 매일 03시 30분 실행
+	 */
+	@Scheduled(cron = "#{@coreApiProperties.portfolioArchive.backfillCron}")
+	public void backfill() {
+		if (!properties.getPortfolioArchive().isEnabled()) {
+			return;
+		}
+		YearMonth from = YearMonth.now().minusMonths(properties.getPortfolioArchive().getBackfillMonths());
+		List<Account> accounts = accountRepository.findAllByType(AccountType.INVEST);
+		log.info("[포트폴리오 백필] 시작 - 대상 계좌: {}건, 기준월: {} 이후", accounts.size(), from);
+
+		int warmed = 0;
+		int failed = 0;
+		for (Account account : accounts) {
+			String cano = account.getAccountNo();
+			try {
+				warmed += backfillAccount(cano, account.getUser().getCoreUserId(), from);
+			} catch (Exception e) {
+				failed++;
+				log.warn("[포트폴리오 백필 실패] cano={}, error: {}", cano, e.getMessage());
+			}
+		}
+		log.info("[포트폴리오 백필] 종료 - 신규 적재: {}건, 실패 계좌: {}건", warmed, failed);
+	}
+
+	private int backfillAccount(String cano, Long coreUserId, YearMonth from) {
+		List<PortfolioDateRes> dates = closedMonthPortfolioStore.getAvailableDates(cano, coreUserId);
+		if (dates == null) {
+			return 0;
+		}
+		int warmed = 0;
+		for (PortfolioDateRes date : dates) {
+			if (date.getMonth() < 1 || date.getMonth() > 12
+				|| YearMonth.of(date.getYear(), date.getMonth()).isBefore(from)) {
+				continue;
+			}
+			if (closedMonthPortfolioStore.warm(cano, date.getYear(), date.getMonth(), coreUserId)) {
+				warmed++;
+			}
+		}
+		return warmed;
+	}
+}
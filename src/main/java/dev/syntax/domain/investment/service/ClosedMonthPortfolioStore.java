@@ -0,0 +1,219 @@
+package dev.syntax.domain.investment.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.syntax.domain.investment.client.CoreInvestmentClient;
+import dev.syntax.domain.investment.dto.res.PortfolioDateRes;
+import dev.syntax.domain.investment.dto.res.PortfolioRes;
+import dev.syntax.domain.investment.entity.PortfolioSnapshot;
+import dev.syntax.domain.investment.repository.PortfolioSnapshotRepository;
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.GzipJsonCodec;
+import dev.syntax.global.core.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마감된 달(이번 달 이전)의 월별 투자 포트폴리오를 채널 DB에 보관하는 저장소입니다.
+ * <p>
+ * 지난 달의 포트폴리오는 다시 바뀌지 않으므로 Core에서 한 번 조회한 뒤
+ * {@code portfolio_snapshot} 테이블에 GZIP JSON으로 저장하고, 이후에는
+ * 메모리(LRU) → DB 순으로 조회합니다. 이번 달(및 미래 달)은 항상 Core에서 조회합니다.
+ * 월이 바뀐 직후 {@code settle-grace} 동안은 지난 달도 이번 달과 같이 취급합니다.
+ * </p>
+ * <ul>
+ *   <li>조회 출처는 {@code investment.portfolio.archive.lookup}(source=memory|database|core|live) 카운터로 노출됩니다.</li>
+ *   <li>같은 (계좌, 월)에 대한 동시 미스는 하나의 Core 호출로 합칩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ClosedMonthPortfolioStore {
+
+	private static final String METRIC_PREFIX = "investment.portfolio.archive";
+
+	private final CoreInvestmentClient coreInvestmentClient;
+	private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+	private final GzipJsonCodec codec;
+	private final CoreApiProperties.PortfolioArchive config;
+	private final MeterRegistry meterRegistry;
+
+	private final Cache<Key, PortfolioRes> memory;
+	private final Cache<String, List<PortfolioDateRes>> availableDates;
+	private final SingleFlight<Key, PortfolioRes> loadFlight;
+
+	public ClosedMonthPortfolioStore(
+		CoreInvestmentClient coreInvestmentClient,
+		PortfolioSnapshotRepository portfolioSnapshotRepository,
+		GzipJsonCodec codec,
+		CoreApiProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.coreInvestmentClient = coreInvestmentClient;
+		this.portfolioSnapshotRepository = portfolioSnapshotRepository;
+		this.codec = codec;
+		this.config = properties.getPortfolioArchive();
+		this.meterRegistry = meterRegistry;
+
+		this.memory = Caffeine.newBuilder()
+			.maximumSize(config.getMemoryMaxSize())
+			.recordStats()
+			.build();
+		this.availableDates = Caffeine.newBuilder()
+			.maximumSize(config.getMemoryMaxSize())
+			.expireAfterWrite(config.getDatesTtl())
+			.build();
+		this.loadFlight = new SingleFlight<>(meterRegistry.counter(METRIC_PREFIX + ".coalesced"));
+
+		CaffeineCacheMetrics.monitor(meterRegistry, memory, METRIC_PREFIX);
+	}
+
+	/**
+	 * 월별 포트폴리오를 조회합니다.
+	 * <p>
+	 * 마감된 달이면 메모리 → DB → Core 순으로 조회하고, Core에서 조회한 결과는 DB에 저장합니다.
+	 * 이번 달이면 Core에서 바로 조회합니다.
+	 * </p>
+	 *
+	 * @param cano  투자 계좌번호
+	 * @param year  연도
+	 * @param month 월
+	 * @return 월별 포트폴리오
+	 */
+	public PortfolioRes getPortfolio(String cano, int year, int month) {
+		if (!config.isEnabled() || !isClosedMonth(year, month)) {
+			record("live");
+			return coreInvestmentClient.getMonthlyPortfolio(cano, year, month);
+		}
+
+		Key key = new Key(cano, year, month);
+		PortfolioRes cached = memory.getIfPresent(key);
+		if (cached != null) {
+			record("memory");
+			return cached;
+		}
+		return loadFlight.execute(key, () -> load(key, null));
+	}
+
+	/**
+	 * 조회 가능한 연/월 목록을 조회합니다.
+	 * <p>
+	 * 목록은 새 달이 시작되거나 첫 거래가 생길 때만 바뀌므로
+	 * {@code core.api.portfolio-archive.dates-ttl} 동안 메모리에 보관합니다.
+	 * </p>
+	 *
+	 * @param cano 투자 계좌번호
+	 * @return 조회 가능한 연/월 목록
+	 */
+	public List<PortfolioDateRes> getAvailableDates(String cano) {
+		return getAvailableDates(cano, null);
+	}
+
+	/**
+	 * 지정한 Core 사용자로 조회 가능한 연/월 목록을 조회합니다. (백필 작업용)
+	 *
+	 * @param cano       투자 계좌번호
+	 * @param coreUserId 계좌 소유자의 Core User ID (null이면 현재 인증 사용자 기준)
+	 * @return 조회 가능한 연/월 목록
+	 */
+	public List<PortfolioDateRes> getAvailableDates(String cano, Long coreUserId) {
+		if (!config.isEnabled()) {
+			return coreInvestmentClient.getAvailableDates(cano, coreUserId);
+		}
+		List<PortfolioDateRes> cached = availableDates.getIfPresent(cano);
+		if (cached != null) {
+			return cached;
+		}
+		List<PortfolioDateRes> loaded = coreInvestmentClient.getAvailableDates(cano, coreUserId);
+		if (loaded != null) {
+			availableDates.put(cano, loaded);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 마감된 달의 포트폴리오가 보관되어 있지 않으면 Core에서 조회해 저장합니다. (백필 작업용)
+	 * <p>
+	 * SecurityContext가 없는 스레드에서 호출되므로 계좌 소유자의 Core User ID를 직접 전달받습니다.
+	 * </p>
+	 *
+	 * @param cano       투자 계좌번호
+	 * @param year       연도
+	 * @param month      월
+	 * @param coreUserId 계좌 소유자의 Core User ID
+	 * @return Core에서 새로 조회해 저장했으면 true
+	 */
+	public boolean warm(String cano, int year, int month, Long coreUserId) {
+		if (!isClosedMonth(year, month)
+			|| portfolioSnapshotRepository.existsByCanoAndYearAndMonth(cano, year, month)) {
+			return false;
+		}
+		Key key = new Key(cano, year, month);
+		loadFlight.execute(key, () -> load(key, coreUserId));
+		return true;
+	}
+
+	private PortfolioRes load(Key key, Long coreUserId) {
+		PortfolioRes stored = portfolioSnapshotRepository
+			.findByCanoAndYearAndMonth(key.cano(), key.year(), key.month())
+			.map(snapshot -> codec.decode(snapshot.getPayload(), PortfolioRes.class))
+			.orElse(null);
+		if (stored != null) {
+			record("database");
+			memory.put(key, stored);
+			return stored;
+		}
+
+		record("core");
+		PortfolioRes fetched = coreInvestmentClient.getMonthlyPortfolio(
+			key.cano(), key.year(), key.month(), coreUserId);
+		if (fetched != null) {
+			persist(key, fetched);
+			memory.put(key, fetched);
+		}
+		return fetched;
+	}
+
+	private void persist(Key key, PortfolioRes portfolio) {
+		GzipJsonCodec.Encoded encoded = codec.encode(portfolio);
+		try {
+			portfolioSnapshotRepository.save(PortfolioSnapshot.builder()
+				.cano(key.cano())
+				.year(key.year())
+				.month(key.month())
+				.payload(encoded.payload())
+				.rawSize(encoded.rawSize())
+				.build());
+		} catch (DataIntegrityViolationException e) {
+			// 다른 인스턴스가 먼저 저장한 경우 (마감된 달이므로 내용은 동일)
+			log.debug("[포트폴리오 보관] 이미 저장된 스냅샷: cano={}, {}-{}", key.cano(), key.year(), key.month());
+		}
+	}
+
+	private void record(String source) {
+		meterRegistry.counter(METRIC_PREFIX + ".lookup", "source", source).increment();
+	}
+
+	/**
+	 * 마감된 달인지 확인합니다. 월이 바뀐 직후 {@code settle-grace} 동안은 지난 달도 마감되지 않은 것으로 봅니다.
+	 */
+	private boolean isClosedMonth(int year, int month) {
+		if (month < 1 || month > 12) {
+			return false;
+		}
+		YearMonth firstOpen = YearMonth.from(LocalDateTime.now().minus(config.getSettleGrace()));
+		return YearMonth.of(year, month).isBefore(firstOpen);
+	}
+
+	private record Key(String cano, int year, int month) {
+	}
+}
@@ -1,6 +1,7 @@
 package dev.syntax.domain.investment.service;
 
 import dev.syntax.domain.investment.client.CoreInvestmentClient;
+import dev.syntax.domain.investment.client.StockCatalogCache;
 import dev.syntax.domain.investment.dto.res.StockDetailRes;
 import dev.syntax.domain.investment.dto.res.StocksRes;
 import lombok.RequiredArgsConstructor;
@@ -12,24 +13,28 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class StocksServiceImpl implements StocksService{
     private final CoreInvestmentClient coreInvestmentClient;
+    private final StockCatalogCache stockCatalogCache;
 
     @Override
     public StocksRes getStocksForBuy() {
-        // Core API 호출 - 에러 처리 자동
-        StocksRes res = coreInvestmentClient.getStocksForBuy();
+        // 공유 종목 카탈로그 조회 (미리 갱신된 목록, 없으면 Core API 호출)
+        StocksRes res = stockCatalogCache.getStocksForBuy();
 
         return res;
     }
 
     @Override
     public StocksRes getStocksForSell() {
-        // Core API 호출 - 에러 처리 자동
-        StocksRes res = coreInvestmentClient.getStocksForSell();
+        // 공유 종목 카탈로그 조회 (미리 갱신된 목록, 없으면 Core API 호출)
+        StocksRes res = stockCatalogCache.getStocksForSell();
 
         return res;
     }
 
 
+    /**
+     * 종목 상세는 사용자별 예수금/보유 수량을 포함하므로 공유 캐시를 거치지 않고 Core에서 조회합니다.
+     */
     @Override
     public StockDetailRes getStockDetail(String code) {
         return coreInvestmentClient.getStockDetail(code);
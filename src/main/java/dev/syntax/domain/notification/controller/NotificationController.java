@@ -37,7 +37,7 @@ public class NotificationController {
     @GetMapping("/notice")
     public ResponseEntity<BaseResponse<?>> noticeCheck(@CurrentUser UserContext userContext) {
         NotificationExistOutput result =
-                notificationService.checkNotice(userContext.getUser());
+                notificationService.checkNotice(userContext.getId());
 
         return ApiResponseUtil.success(SuccessCode.OK, result);
     }
@@ -54,7 +54,7 @@ public class NotificationController {
     @GetMapping("/notices")
     public ResponseEntity<BaseResponse<?>> noticeFind(@CurrentUser UserContext userContext) {
         List<NotificationOutput> result =
-                notificationService.findNotice(userContext.getUser());
+                notificationService.findNotice(userContext.getId());
 
         return ApiResponseUtil.success(SuccessCode.OK, result);
     }
@@ -73,7 +73,7 @@ public class NotificationController {
             @CurrentUser UserContext userContext,
             @PathVariable Long id
     ) {
-        notificationService.markAsRead(userContext.getUser(), id);
+        notificationService.markAsRead(userContext.getId(), id);
         return ApiResponseUtil.success(SuccessCode.OK);
     }
 
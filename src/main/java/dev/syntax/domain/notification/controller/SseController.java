@@ -24,6 +24,6 @@ public class SseController {
 	 */
 	@GetMapping(value = "/notifications/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	public SseEmitter subscribe(@CurrentUser UserContext userContext) {
-		return sseService.subscribe(userContext.getUser().getId());
+		return sseService.subscribe(userContext.getId());
 	}
 }
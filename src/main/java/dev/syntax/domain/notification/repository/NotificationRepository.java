@@ -11,9 +11,9 @@ import java.util.List;
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     @Transactional(readOnly = true)
-    Boolean existsByTargetUserAndIsRead(User user, Boolean isRead);
+    Boolean existsByTargetUserIdAndIsRead(Long targetUserId, Boolean isRead);
 
-    List<Notification> findByTargetUserOrderByIdDesc(User targetUser);
+    List<Notification> findByTargetUserIdOrderByIdDesc(Long targetUserId);
 
     boolean existsByTargetUserAndTypeAndContent(User targetUser, dev.syntax.domain.notification.enums.NotificationType type, String content);
 }
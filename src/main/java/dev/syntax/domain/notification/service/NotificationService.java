@@ -17,26 +17,26 @@ public interface NotificationService {
     /**
      * 새로운 알림이 존재하는지 확인
      *
-     * @param user 사용자 엔티티
+     * @param userId 사용자 ID
      * @return 읽지 않은 알림 여부
      */
-    NotificationExistOutput checkNotice(User user);
+    NotificationExistOutput checkNotice(Long userId);
 
     /**
      * 사용자 알림 리스트 조회
      *
-     * @param user 알림 대상 사용자
+     * @param userId 알림 대상 사용자 ID
      * @return 알림 DTO 리스트
      */
-    List<NotificationOutput> findNotice(User user);
+    List<NotificationOutput> findNotice(Long userId);
 
     /**
      * 특정 알림 읽음 처리
      *
-     * @param user 알림 대상 사용자
+     * @param userId 알림 대상 사용자 ID
      * @param id 알림 ID
      */
-    void markAsRead(User user, Long id);
+    void markAsRead(Long userId, Long id);
 
 //    /**
 //     * 알림 삭제
@@ -34,24 +34,24 @@ public class NotificationServiceImpl implements NotificationService {
     /**
      * 새로운 알림 존재 여부 확인
      *
-     * @param user 사용자 엔티티
+     * @param userId 사용자 ID
      * @return 읽지 않은 알림 존재 여부
      */
     @Override
-    public NotificationExistOutput checkNotice(User user) {
-        Boolean exists = notificationRepository.existsByTargetUserAndIsRead(user, false);
+    public NotificationExistOutput checkNotice(Long userId) {
+        Boolean exists = notificationRepository.existsByTargetUserIdAndIsRead(userId, false);
         return new NotificationExistOutput(exists);
     }
 
     /**
      * 사용자 알림 리스트 조회
      *
-     * @param user 알림 대상 사용자
+     * @param userId 알림 대상 사용자 ID
      * @return 알림 리스트
      */
     @Override
-    public List<NotificationOutput> findNotice(User user) {
-        return notificationRepository.findByTargetUserOrderByIdDesc(user)
+    public List<NotificationOutput> findNotice(Long userId) {
+        return notificationRepository.findByTargetUserIdOrderByIdDesc(userId)
                 .stream()
                 .map(NotificationOutput::new)
                 .toList();
@@ -60,17 +60,17 @@ public class NotificationServiceImpl implements NotificationService {
     /**
      * 알림 읽음 처리
      *
-     * @param user 사용자
+     * @param userId 사용자 ID
      * @param id 읽음 처리할 알림 ID
      */
     @Override
     @Transactional
-    public void markAsRead(User user, Long id) {
+    public void markAsRead(Long userId, Long id) {
 
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY));
 
-        if (!notification.getTargetUser().getId().equals(user.getId())) {
+        if (!notification.getTargetUser().getId().equals(userId)) {
             throw new BusinessException(ErrorBaseCode.FORBIDDEN);
         }
 
@@ -2,7 +2,6 @@ package dev.syntax.domain.profile.controller;
 
 import dev.syntax.domain.auth.dto.UpdatePushReq;
 import dev.syntax.domain.auth.service.AuthService;
-import dev.syntax.domain.profile.dto.PushInfoRes;
 import dev.syntax.domain.profile.dto.UpdateProfileReq;
 import dev.syntax.domain.profile.service.ProfileService;
 import dev.syntax.global.auth.annotation.CurrentUser;
@@ -69,10 +68,7 @@ public class ProfileController {
 	 */
 	@GetMapping("/push")
 	public ResponseEntity<BaseResponse<?>> getProfilePush(@CurrentUser UserContext user) {
-		return ApiResponseUtil.success(SuccessCode.OK, PushInfoRes.builder()
-				.pushEnabled(user.getUser().getPushEnabled())
-				.nightPushEnabled(user.getUser().getNightPushEnabled())
-				.build());
+		return ApiResponseUtil.success(SuccessCode.OK, profileService.pushInfo(user));
 	}
 
 	/**
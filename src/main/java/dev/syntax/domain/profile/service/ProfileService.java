@@ -1,6 +1,7 @@
 package dev.syntax.domain.profile.service;
 
 import dev.syntax.domain.profile.dto.ProfileInfoRes;
+import dev.syntax.domain.profile.dto.PushInfoRes;
 import dev.syntax.domain.profile.dto.UpdateProfileReq;
 import dev.syntax.global.auth.dto.UserContext;
 
@@ -20,6 +21,14 @@ public interface ProfileService {
 	 */
 	ProfileInfoRes profileInfo(UserContext user);
 
+	/**
+	 * 사용자의 푸시 알림 설정을 조회합니다.
+	 *
+	 * @param user 현재 인증된 사용자 정보
+	 * @return 푸시 알림 설정 응답 DTO
+	 */
+	PushInfoRes pushInfo(UserContext user);
+
 	/**
 	 * 사용자의 프로필 정보를 수정합니다.
 	 * <p>
@@ -3,11 +3,13 @@ package dev.syntax.domain.profile.service;
 import org.springframework.stereotype.Service;
 
 import dev.syntax.domain.profile.dto.ProfileInfoRes;
+import dev.syntax.domain.profile.dto.PushInfoRes;
 import dev.syntax.domain.profile.dto.UpdateProfileReq;
 import dev.syntax.domain.profile.dto.UserProfile;
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
+import dev.syntax.global.auth.service.UserContextCache;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorBaseCode;
 import jakarta.transaction.Transactional;
@@ -20,17 +22,33 @@ import lombok.extern.slf4j.Slf4j;
 public class ProfileServiceImpl implements ProfileService {
 
 	private final UserRepository userRepository;
+	private final UserContextCache userContextCache;
 
 	@Override
-	public ProfileInfoRes profileInfo(UserContext user) {
+	public ProfileInfoRes profileInfo(UserContext userContext) {
+		User user = findUser(userContext);
 		log.info("[프로필 상세 조회 성공] userId: {}", user.getId());
 		return new ProfileInfoRes(new UserProfile(
-			user.getUser().getName(),
+			user.getName(),
 			user.getEmail(),
-			user.getUser().getPhoneNumber()
+			user.getPhoneNumber()
 		));
 	}
 
+	@Override
+	public PushInfoRes pushInfo(UserContext userContext) {
+		User user = findUser(userContext);
+		return PushInfoRes.builder()
+			.pushEnabled(user.getPushEnabled())
+			.nightPushEnabled(user.getNightPushEnabled())
+			.build();
+	}
+
+	private User findUser(UserContext userContext) {
+		return userRepository.findById(userContext.getId())
+			.orElseThrow(() -> new BusinessException(ErrorBaseCode.USER_NOT_FOUND));
+	}
+
 	@Override
 	@Transactional
 	public void updateProfile(UserContext userContext, UpdateProfileReq req) {
@@ -45,6 +63,7 @@ public class ProfileServiceImpl implements ProfileService {
 		if (req.phoneNumber() != null) {
 			user.updatePhoneNumber(req.phoneNumber());
 		}
+		userContextCache.invalidate(user.getId());
 
 		// @Transactional에 의해 트랜잭션 종료 시 자동으로 DB에 반영됨 (dirty checking)
 		log.info("[프로필 수정 성공] userId: {}", user.getId());
@@ -177,7 +177,8 @@ public class QuizServiceImpl implements QuizService {
      * @return User 엔티티
      */
     private User getUser(UserContext userContext) {
-        return userContext.getUser();
+        return userRepository.findById(userContext.getId())
+                .orElseThrow(() -> new BusinessException(ErrorBaseCode.USER_NOT_FOUND));
     }
 
     /**
@@ -1,14 +0,0 @@
-package dev.syntax.domain.report.dto;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-
-import java.math.BigDecimal;
-
-import dev.syntax.domain.report.enums.Category;
-
-@Getter
-@AllArgsConstructor
-public class CoreTransactionRes {
-    private Category category;
-    private BigDecimal amount;
-}
\ No newline at end of file
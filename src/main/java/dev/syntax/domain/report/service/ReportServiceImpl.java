@@ -2,15 +2,14 @@ package dev.syntax.domain.report.service;
 
 import dev.syntax.domain.account.client.CoreAccountClient;
 
-import dev.syntax.domain.account.dto.core.CoreTransactionHistoryRes;
 import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
 
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.account.repository.AccountRepository;
 import dev.syntax.domain.feedback.repository.FeedbackRepository;
 import dev.syntax.domain.report.dto.CategoryRes;
-import dev.syntax.domain.report.dto.CoreTransactionRes;
 import dev.syntax.domain.report.dto.ReportRes;
 import dev.syntax.domain.report.entity.DetailReport;
 import dev.syntax.domain.report.entity.SummaryReport;
@@ -33,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -57,7 +57,7 @@ public class ReportServiceImpl implements ReportService {
     private void validateAccess(Long childId, UserContext ctx) {
         if (ctx.getId().equals(childId)) return;
         if (ctx.getRole().equals(Role.PARENT.name()) &&
-                ctx.getChildren().contains(childId)) return;
+                ctx.hasChild(childId)) return;
 
         throw new BusinessException(ErrorBaseCode.UNAUTHORIZED);
     }
@@ -96,20 +96,10 @@ public class ReportServiceImpl implements ReportService {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
         
-        CoreTransactionHistoryRes coreRes = coreAccountClient.getAccountTransactionsByPeriod(
-                account.getAccountNo(), startDate, endDate);
+        ExpenseAggregator aggregator = new ExpenseAggregator();
+        coreAccountClient.forEachTransactionByPeriod(account.getAccountNo(), startDate, endDate, aggregator);
 
-        if (coreRes == null || coreRes.transactions() == null) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal total = BigDecimal.ZERO;
-        for (CoreTransactionItemRes item : coreRes.transactions()) {
-            if ("WITHDRAW".equals(item.code())) {
-                total = total.add(item.amount());
-            }
-        }
-        
+        BigDecimal total = aggregator.total();
         log.info("[리포트 생성] 전월({}년 {}월) 실제 지출 합계 계산 완료: {}", year, month, total);
         return total;
     }
@@ -183,53 +173,21 @@ public class ReportServiceImpl implements ReportService {
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
         
         log.info("[리포트 생성] 거래내역 조회 - 계좌: {}, 기간: {} ~ {}", account.getAccountNo(), startDate, endDate);
-        CoreTransactionHistoryRes coreRes = coreAccountClient.getAccountTransactionsByPeriod(
-                account.getAccountNo(), startDate, endDate);
+        // 6. 거래내역을 한 건씩 읽으며 지출 거래만 카테고리별로 합산 (전체 목록을 메모리에 올리지 않음)
+        ExpenseAggregator aggregator = new ExpenseAggregator();
+        CoreTransactionStreamRes coreRes = coreAccountClient.forEachTransactionByPeriod(
+                account.getAccountNo(), startDate, endDate, aggregator);
 
         if (coreRes == null) {
             log.warn("[리포트 생성] 거래내역 응답 null");
             throw new BusinessException(ErrorBaseCode.CORE_API_ERROR);
         }
 
-        // transactions가 null이면 빈 리스트로 처리
-        List<CoreTransactionItemRes> transactions = coreRes.transactions() != null 
-                ? coreRes.transactions() 
-                : List.of();
-
-        log.info("[리포트 생성] 거래내역 조회 완료 - 총 {}건", transactions.size());
-
-        // 6. 지출 거래만 필터링 및 카테고리별 분류
-        List<CoreTransactionRes> histories = new ArrayList<>();
-        int expenseCount = 0;
-
-        for (CoreTransactionItemRes item : transactions) {
-            log.info("[리포트 생성] 거래 확인 - transactionId: {}, merchant: {}, code: {}, category: {}, amount: {}",
-                    item.transactionId(), item.merchantName(), item.code(), item.category(), item.amount());
-            
-            // 지출만 포함 (code가 WITHDRAW인 경우)
-            if (!"WITHDRAW".equals(item.code())) {
-                log.info("[리포트 생성] 지출 아님 (code: {}) - 건너뜀", item.code());
-                continue;
-            }
-            expenseCount++;
-
-            log.info("[리포트 생성] 지출 거래 추가 - transactionId: {}, category: {}, amount: {}",
-                    item.transactionId(), item.category(), item.amount());
-
-            Category category = item.category();
-            if (category == null) {
-                log.warn("[리포트 생성] 카테고리 정보 없음 - transactionId: {}, merchant: {} -> ETC로 처리",
-                        item.transactionId(), item.merchantName());
-                category = Category.ETC;
-            }
-
-            histories.add(new CoreTransactionRes(category, item.amount()));
-        }
-
-        log.info("[리포트 생성] 지출 거래 {}건 추출 완료", expenseCount);
+        log.info("[리포트 생성] 거래내역 조회 완료 - 총 {}건", coreRes.count());
+        log.info("[리포트 생성] 지출 거래 {}건 추출 완료", aggregator.expenseCount);
 
         // 7. 지출이 없는 경우 빈 리포트 생성
-        if (histories.isEmpty()) {
+        if (aggregator.expenseCount == 0) {
             SummaryReport emptyReport = SummaryReport.builder()
                     .user(user)
                     .year(year)
@@ -245,12 +203,11 @@ public class ReportServiceImpl implements ReportService {
         }
 
         // 8. 카테고리별 금액 합산
-        Map<Category, BigDecimal> amountByCategory = ReportUtils.sumByCategory(histories);
+        Map<Category, BigDecimal> amountByCategory = aggregator.amountByCategory;
         log.info("[리포트 생성] 카테고리별 합계 계산 완료: {}건", amountByCategory.size());
         amountByCategory.forEach((k, v) -> log.info("  - {}: {}", k, v));
 
-        BigDecimal totalExpense = amountByCategory.values().stream()
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalExpense = aggregator.total();
 
         // 9. 요약 리포트 생성 및 저장
         SummaryReport summary = SummaryReport.builder()
@@ -391,5 +348,38 @@ public class ReportServiceImpl implements ReportService {
                 categoryList
         );
     }
-}
 
+    /**
+     * 거래내역을 한 건씩 받아 지출(WITHDRAW) 거래만 카테고리별로 합산합니다.
+     */
+    private static final class ExpenseAggregator implements Consumer<CoreTransactionItemRes> {
+
+        private final Map<Category, BigDecimal> amountByCategory = new EnumMap<>(Category.class);
+        private int expenseCount;
+
+        @Override
+        public void accept(CoreTransactionItemRes item) {
+            log.debug("[리포트 생성] 거래 확인 - transactionId: {}, merchant: {}, code: {}, category: {}, amount: {}",
+                    item.transactionId(), item.merchantName(), item.code(), item.category(), item.amount());
+
+            // 지출만 포함 (code가 WITHDRAW인 경우)
+            if (!"WITHDRAW".equals(item.code())) {
+                return;
+            }
+            expenseCount++;
+
+            Category category = item.category();
+            if (category == null) {
+                log.warn("[리포트 생성] 카테고리 정보 없음 - transactionId: {}, merchant: {} -> ETC로 처리",
+                        item.transactionId(), item.merchantName());
+                category = Category.ETC;
+            }
+            amountByCategory.merge(category, item.amount(), BigDecimal::add);
+        }
+
+        BigDecimal total() {
+            return amountByCategory.values().stream()
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+}
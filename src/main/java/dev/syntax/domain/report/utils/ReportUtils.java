@@ -3,25 +3,9 @@ package dev.syntax.domain.report.utils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.*;
-import dev.syntax.domain.report.enums.Category;
-
-import dev.syntax.domain.report.dto.CoreTransactionRes;
 
 public class ReportUtils {
 
-    /**
-     * 거래내역을 카테고리별로 금액 합산
-     */
-    public static Map<Category, BigDecimal> sumByCategory(List<CoreTransactionRes> histories) {
-        Map<Category, BigDecimal> result = new HashMap<>();
-
-        histories.forEach(h ->
-                result.merge(h.getCategory(), h.getAmount(), BigDecimal::add)
-        );
-
-        return result;
-    }
     /**
      * 금액 비율 계산
      */
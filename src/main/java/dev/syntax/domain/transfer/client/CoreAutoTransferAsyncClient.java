@@ -0,0 +1,47 @@
+package dev.syntax.domain.transfer.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import dev.syntax.domain.transfer.dto.CoreAllowanceUpdateAutoTransferReq;
+import dev.syntax.domain.transfer.dto.CoreCreateAutoTransferReq;
+import dev.syntax.domain.transfer.dto.CoreCreateAutoTransferRes;
+import dev.syntax.domain.transfer.dto.CoreGoalAutoTransferCreateReq;
+import dev.syntax.global.core.CoreAsyncExecutor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link CoreAutoTransferClient}의 비동기 버전입니다.
+ * <p>
+ * 각 메서드는 동일한 이름의 동기 메서드를 Core 호출 전용 실행 풀에서 실행하고
+ * {@link CompletableFuture}로 반환합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CoreAutoTransferAsyncClient {
+
+    private final CoreAutoTransferClient coreAutoTransferClient;
+    private final CoreAsyncExecutor coreAsyncExecutor;
+
+    /** @see CoreAutoTransferClient#createAutoTransfer(CoreCreateAutoTransferReq) */
+    public CompletableFuture<CoreCreateAutoTransferRes> createAutoTransfer(CoreCreateAutoTransferReq req) {
+        return coreAsyncExecutor.supply(() -> coreAutoTransferClient.createAutoTransfer(req));
+    }
+
+    /** @see CoreAutoTransferClient#updateAutoTransfer(Long, CoreAllowanceUpdateAutoTransferReq) */
+    public CompletableFuture<Void> updateAutoTransfer(Long autoTransferId, CoreAllowanceUpdateAutoTransferReq req) {
+        return coreAsyncExecutor.run(() -> coreAutoTransferClient.updateAutoTransfer(autoTransferId, req));
+    }
+
+    /** @see CoreAutoTransferClient#deleteAutoTransfer(Long) */
+    public CompletableFuture<Void> deleteAutoTransfer(Long autoTransferId) {
+        return coreAsyncExecutor.run(() -> coreAutoTransferClient.deleteAutoTransfer(autoTransferId));
+    }
+
+    /** @see CoreAutoTransferClient#createGoalAutoTransfer(CoreGoalAutoTransferCreateReq) */
+    public CompletableFuture<CoreCreateAutoTransferRes> createGoalAutoTransfer(CoreGoalAutoTransferCreateReq req) {
+        return coreAsyncExecutor.supply(() -> coreAutoTransferClient.createGoalAutoTransfer(req));
+    }
+}
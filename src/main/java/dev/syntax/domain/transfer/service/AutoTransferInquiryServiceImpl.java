@@ -61,7 +61,7 @@ public class AutoTransferInquiryServiceImpl implements AutoTransferInquiryServic
         }
 
         // 2. 부모의 자녀인지 검증
-        if (!ctx.getChildren().contains(childId)) {
+        if (!ctx.hasChild(childId)) {
             throw new BusinessException(ErrorBaseCode.INVALID_CHILD);
         }
     }
@@ -1,5 +1,6 @@
 package dev.syntax.domain.transfer.service;
 
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.account.repository.AccountRepository;
@@ -40,6 +41,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final CoreAutoTransferClient coreAutoTransferClient;
+    private final CoreAccountSnapshotCache accountSnapshotCache;
 
     /**
      * 자동이체 설정을 생성합니다.
@@ -110,6 +112,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         }
 
         saveAutoTransfer(child, allowanceAccount, req, coreAllowanceRes.autoTransferId(), investTransferId);
+        accountSnapshotCache.evictFamily(child);
     }
 
     /**
@@ -203,6 +206,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         // 모든 Core 작업 성공 시에만 DB 반영
         existingTransfer.updateAutoTransfer(req, newInvestTransferId);
         autoTransferRepository.save(existingTransfer);
+        accountSnapshotCache.evictFamily(child);
 
         // 응답 리턴
         return AutoTransferRes.of(
@@ -227,6 +231,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         coreAutoTransferClient.deleteAutoTransfer(autoTransfer.getPrimaryBankTransferId());
         log.info("[Channel 자동 이체 삭제] autoTransferId={}", autoTransfer.getId());
         autoTransferRepository.delete(autoTransfer);
+        accountSnapshotCache.evictFamily(autoTransfer.getUser());
     }
     
     @Override
@@ -242,6 +247,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         }
         coreAutoTransferClient.deleteAutoTransfer(autoTransfer.getPrimaryBankTransferId());
         autoTransferRepository.delete(autoTransfer);
+        accountSnapshotCache.evictFamily(autoTransfer.getUser());
     }
 
 
@@ -256,7 +262,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         if (!Role.PARENT.name().equals(ctx.getRole())) {
             throw new BusinessException(ErrorBaseCode.PARENT_ONLY_FEATURE);
         }
-        if (!ctx.getChildren().contains(childId)) {
+        if (!ctx.hasChild(childId)) {
             throw new BusinessException(ErrorBaseCode.INVALID_CHILD);
         }
     }
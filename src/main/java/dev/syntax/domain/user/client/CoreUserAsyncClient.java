@@ -0,0 +1,36 @@
+package dev.syntax.domain.user.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+import dev.syntax.domain.user.dto.CoreChildInitRes;
+import dev.syntax.domain.user.dto.CoreParentInitRes;
+import dev.syntax.domain.user.dto.CoreUserInitReq;
+import dev.syntax.global.core.CoreAsyncExecutor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link CoreUserClient}의 비동기 버전입니다.
+ * <p>
+ * 각 메서드는 동일한 이름의 동기 메서드를 Core 호출 전용 실행 풀에서 실행하고
+ * {@link CompletableFuture}로 반환합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CoreUserAsyncClient {
+
+	private final CoreUserClient coreUserClient;
+	private final CoreAsyncExecutor coreAsyncExecutor;
+
+	/** @see CoreUserClient#createParentAccount(CoreUserInitReq) */
+	public CompletableFuture<CoreParentInitRes> createParentAccount(CoreUserInitReq req) {
+		return coreAsyncExecutor.supply(() -> coreUserClient.createParentAccount(req));
+	}
+
+	/** @see CoreUserClient#createChildUser(CoreUserInitReq) */
+	public CompletableFuture<CoreChildInitRes> createChildUser(CoreUserInitReq req) {
+		return coreAsyncExecutor.supply(() -> coreUserClient.createChildUser(req));
+	}
+}
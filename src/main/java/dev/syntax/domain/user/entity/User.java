@@ -76,6 +76,11 @@ public class User extends BaseTimeEntity {
 	@Column(name = "core_user_id")
 	private Long coreUserId;
 
+	/** 토큰에 담긴 사용자 정보(가족 관계 등)가 바뀔 때마다 증가하는 보안 버전 */
+	@Builder.Default
+	@Column(name = "security_version", nullable = false)
+	private Long securityVersion = 0L;
+
 	@Builder.Default
 	@OneToMany(mappedBy = "parent")
 	private List<UserRelationship> children = new ArrayList<>();
@@ -134,6 +139,16 @@ public class User extends BaseTimeEntity {
 		this.nightPushEnabled = nightPushEnabled;
 	}
 
+	/**
+	 * 보안 버전을 올립니다.
+	 * <p>
+	 * 가족 관계나 비밀번호가 바뀌면 호출하여, 이전에 발급된 토큰의 사용자 정보를 더 이상 신뢰하지 않도록 합니다.
+	 * </p>
+	 */
+	public void increaseSecurityVersion() {
+		this.securityVersion = securityVersion == null ? 1L : securityVersion + 1;
+	}
+
 	private void validateNotBlank(String value) {
 		if (value == null || value.isBlank()) {
 			throw new BusinessException(ErrorBaseCode.BAD_REQUEST);
@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "user_relationship")
+@Table(name = "user_relationship", indexes = {
+        @Index(name = "idx_family_otp_child", columnList = "family_otp, child_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,7 +3,11 @@ package dev.syntax.domain.user.repository;
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.entity.UserRelationship;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRelationshipRepository extends JpaRepository<UserRelationship,Long> {
@@ -11,4 +15,11 @@ public interface UserRelationshipRepository extends JpaRepository<UserRelationsh
     Optional<UserRelationship> findByParentAndChildIsNull(User parent);
 
     Optional<UserRelationship> findByChild(User child);
+
+    /**
+     * 주어진 시각 이전에 생성된 대기 중(child가 null)인 관계 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM UserRelationship r WHERE r.child IS NULL AND r.createdAt < :before")
+    int deletePendingCreatedBefore(@Param("before") LocalDateTime before);
 }
@@ -1,10 +1,13 @@
 package dev.syntax.domain.user.repository;
 
 import dev.syntax.domain.user.entity.User;
+import dev.syntax.domain.user.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -38,6 +41,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 		"WHERE u.id = :id")
 	Optional<User> findByIdWithParents(@Param("id") Long id);
 
+	/**
+	 * 사용자의 보안 버전만 조회합니다.
+	 * 토큰에 담긴 사용자 정보가 최신인지 판단할 때 엔티티를 로드하지 않기 위해 사용됩니다.
+	 *
+	 * @param id 사용자 ID
+	 * @return 보안 버전
+	 */
+	@Query("SELECT u.securityVersion FROM User u WHERE u.id = :id")
+	Optional<Long> findSecurityVersionById(@Param("id") Long id);
+
 	/**
 	 * 이메일로 조회하면서 children 관계를 fetch join으로 함께 로드합니다.
 	 * UserContext 생성 시 Lazy Loading 문제를 방지하기 위해 사용됩니다.
@@ -109,4 +122,65 @@ public interface UserRepository extends JpaRepository<User, Long> {
 			@Param("birthDate") java.time.LocalDate birthDate,
 			@Param("name") String name
 	);
+
+	/**
+	 * 사용자들의 Core User ID를 부모의 Core User ID와 함께 조회합니다.
+	 * 잔액 배치 조회 시 가족(부모) 단위로 Core 계좌 목록을 한 번만 조회하기 위해 사용됩니다.
+	 * 부모가 여러 명인 사용자는 부모 수만큼 행이 반환됩니다.
+	 *
+	 * @param ids 사용자 ID 목록
+	 * @return 사용자 ID, Core User ID, 부모 Core User ID (부모가 없으면 null)
+	 */
+	@Query("SELECT u.id AS userId, u.coreUserId AS coreUserId, p.coreUserId AS parentCoreUserId " +
+		"FROM User u " +
+		"LEFT JOIN u.parents r " +
+		"LEFT JOIN r.parent p " +
+		"WHERE u.id IN :ids")
+	List<CoreUserIdView> findCoreUserIdsWithParent(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 인증 Principal(UserContext)을 만들기 위한 사용자 정보와 부모/자녀 ID를 한 번의 쿼리로 조회합니다.
+	 * 엔티티와 관계 컬렉션을 로드하지 않고 필요한 값만 조회합니다.
+	 * 자녀가 여러 명인 사용자는 자녀 수만큼 행이 반환되며, OTP 대기 중인 관계의 childId는 null입니다.
+	 *
+	 * @param id 사용자 ID
+	 * @return 사용자 정보와 부모/자녀 ID (사용자가 없으면 빈 목록)
+	 */
+	@Query("SELECT u.id AS id, u.email AS email, u.role AS role, u.coreUserId AS coreUserId, " +
+		"u.securityVersion AS securityVersion, pr.parent.id AS parentId, cr.child.id AS childId " +
+		"FROM User u " +
+		"LEFT JOIN u.parents pr " +
+		"LEFT JOIN u.children cr " +
+		"WHERE u.id = :id")
+	List<PrincipalView> findPrincipalRowsById(@Param("id") Long id);
+
+	/**
+	 * {@link #findPrincipalRowsById(Long)}의 조회 결과
+	 */
+	interface PrincipalView {
+		Long getId();
+
+		String getEmail();
+
+		Role getRole();
+
+		Long getCoreUserId();
+
+		Long getSecurityVersion();
+
+		Long getParentId();
+
+		Long getChildId();
+	}
+
+	/**
+	 * {@link #findCoreUserIdsWithParent(Collection)}의 조회 결과
+	 */
+	interface CoreUserIdView {
+		Long getUserId();
+
+		Long getCoreUserId();
+
+		Long getParentCoreUserId();
+	}
 }
@@ -1,9 +1,11 @@
 package dev.syntax.global.auth.dto;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.stream.LongStream;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -11,6 +13,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.entity.UserRelationship;
+import dev.syntax.domain.user.repository.UserRepository.PrincipalView;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -19,80 +23,118 @@ import lombok.Getter;
  * <p>Spring Security의 UserDetails 구현체로,
  * 인증된 사용자 정보를 SecurityContext에 저장하기 위한 인증 모델입니다.
  *
- * <p>User 엔티티를 내부에 그대로 보관하며(children/parents는 fetch join으로 로딩됨),
- * 서비스 계층(HomeService 등)에서 User 엔티티를 직접 사용해도 N+1 문제가 발생하지 않도록 설계되어 있습니다.
+ * <p>User 엔티티를 보관하지 않는 작은 불변 객체입니다. JWT 재인증 시에는
+ * {@code UserRepository#findPrincipalRowsById} 한 번의 projection 쿼리로 생성하며({@link #of(List)}),
+ * 엔티티가 필요한 서비스는 {@link #getId()}로 직접 조회해야 합니다.
  *
  * <h2>담고 있는 정보</h2>
  * <ul>
- *     <li><b>user</b> – 원본 User 엔티티 (children/parents 포함)</li>
  *     <li><b>id</b> – 사용자 PK (JWT subject로 사용)</li>
  *     <li><b>email</b> – 사용자 이메일</li>
- *     <li><b>password</b> – bcrypt 해시 비밀번호</li>
+ *     <li><b>password</b> – bcrypt 해시 비밀번호 (로그인 시에만 채워짐)</li>
  *     <li><b>role</b> – 사용자 역할(PARENT / CHILD)</li>
  *     <li><b>familyId</b> – 가족 단위 기준 ID (부모: 본인 ID / 자녀: 부모 ID)</li>
  *     <li><b>parentId</b> – 자녀일 경우 부모 ID</li>
- *     <li><b>children</b> – 부모일 경우 자녀 ID 목록</li>
+ *     <li><b>children</b> – 부모일 경우 자녀 ID (정렬된 long 배열, {@link #hasChild(Long)}로 확인)</li>
+ *     <li><b>securityVersion</b> – 사용자 보안 버전 (Stateless 인증 모드의 토큰 검증에 사용)</li>
  *     <li><b>authorities</b> – Spring Security 인가 처리를 위한 권한 리스트</li>
  * </ul>
  *
  * <h2>역할</h2>
  * <ul>
  *     <li>로그인 성공 시 Authentication의 Principal로 저장</li>
- *     <li>JWT 재인증 시 DB에서 User를 재조회하여 최신 UserContext 생성</li>
+ *     <li>JWT 재인증 시 projection 쿼리로 최신 UserContext 생성</li>
+ *     <li>Stateless 인증 모드에서는 JWT Claims만으로 생성 ({@link #fromToken})</li>
  *     <li>서비스 계층에서 @CurrentUser로 직접 UserContext를 주입받아 사용</li>
  * </ul>
  *
- * <p>이 클래스는 User 엔티티를 그대로 보관하므로,
- * HomeService 등에서 userRepository.findById()를 다시 호출할 필요가 없으며
- * Lazy Loading 및 N+1 문제를 원천적으로 차단합니다.</p>
- *
  * @see org.springframework.security.core.userdetails.UserDetails
- * @see dev.syntax.domain.user.entity.User
+ * @see dev.syntax.domain.user.repository.UserRepository#findPrincipalRowsById(Long)
  */
 @Getter
-public class UserContext implements UserDetails {
+public final class UserContext implements UserDetails {
 
-	private final User user;
+	private static final long[] NO_CHILDREN = new long[0];
 
 	private final Long id;
 	private final String email;
-	private final String password;   // bcrypt 해시
+	private final String password;   // bcrypt 해시 (로그인 시에만)
 	private final String role;
 	private final Long coreUserId;
 
 	private final Long familyId;
 	private final Long parentId;
-	private final List<Long> children;
 
-	private final Collection<? extends GrantedAuthority> authorities;
+	/** 정렬된 자녀 ID (이진 탐색으로 소속 여부 확인) */
+	@Getter(AccessLevel.NONE)
+	private final long[] childIds;
 
-	public UserContext(User user) {
-		this.user = user;
-		this.id = user.getId();
-		this.email = user.getEmail();
-		this.password = user.getPassword();
-		this.role = user.getRole().name();
-		this.coreUserId = user.getCoreUserId();
-
-		this.children = user.getChildren() != null
-			? user.getChildren().stream()
-			.map(UserRelationship::getChild)
-			.filter(child -> child != null)  // child가 null인 경우 제외 (OTP 대기 중인 관계)
-			.map(User::getId)
-			.collect(Collectors.toList())
-			: Collections.emptyList();
-
-		this.parentId = user.getParents() != null && !user.getParents().isEmpty()
-			? user.getParents().get(0).getParent().getId()
-			: null;
+	private final Long securityVersion;
 
-		this.familyId = parentId;
+	private final Collection<? extends GrantedAuthority> authorities;
 
+	private UserContext(Long id, String email, String password, String role, Long coreUserId, Long parentId,
+		long[] childIds, Long securityVersion) {
+		this.id = id;
+		this.email = email;
+		this.password = password;
+		this.role = role;
+		this.coreUserId = coreUserId;
+		this.parentId = parentId;
+		this.familyId = parentId;
+		this.childIds = childIds;
+		this.securityVersion = securityVersion;
 		this.authorities = Collections.singleton(
 			new SimpleGrantedAuthority("ROLE_" + role)
 		);
 	}
 
+	/**
+	 * User 엔티티로부터 UserContext를 생성합니다. (로그인 시 사용)
+	 * children/parents 관계가 로드되어 있어야 합니다.
+	 *
+	 * @param user User 엔티티
+	 */
+	public UserContext(User user) {
+		this(
+			user.getId(),
+			user.getEmail(),
+			user.getPassword(),
+			user.getRole().name(),
+			user.getCoreUserId(),
+			user.getParents() != null && !user.getParents().isEmpty()
+				? user.getParents().get(0).getParent().getId()
+				: null,
+			user.getChildren() != null
+				? sorted(user.getChildren().stream()
+				.map(UserRelationship::getChild)
+				.filter(Objects::nonNull)  // child가 null인 경우 제외 (OTP 대기 중인 관계)
+				.mapToLong(User::getId))
+				: NO_CHILDREN,
+			user.getSecurityVersion()
+		);
+	}
+
+	/**
+	 * 자녀 ID 목록을 반환합니다.
+	 * 소속 여부 확인에는 {@link #hasChild(Long)}를 사용하세요.
+	 *
+	 * @return 자녀 ID 목록 (오름차순)
+	 */
+	public List<Long> getChildren() {
+		return Arrays.stream(childIds).boxed().toList();
+	}
+
+	/**
+	 * 주어진 사용자가 이 사용자의 자녀인지 확인합니다.
+	 *
+	 * @param userId 확인할 사용자 ID
+	 * @return 자녀이면 true
+	 */
+	public boolean hasChild(Long userId) {
+		return userId != null && Arrays.binarySearch(childIds, userId) >= 0;
+	}
+
 	@Override
 	public String getUsername() {
 		// JWT subject로 userId를 쓰기 위해 id 반환
@@ -129,4 +171,57 @@ public class UserContext implements UserDetails {
 		return new UserContext(user);
 	}
 
+	/**
+	 * {@code UserRepository#findPrincipalRowsById} 조회 결과로 UserContext를 생성하는 팩토리 메서드
+	 * <p>
+	 * 조회 결과는 자녀(또는 부모) 수만큼의 행이며, 사용자 정보는 모든 행에 동일하게 담겨 있습니다.
+	 * </p>
+	 *
+	 * @param rows 한 사용자에 대한 조회 결과 (비어 있으면 안 됨)
+	 * @return UserContext 인스턴스
+	 */
+	public static UserContext of(List<? extends PrincipalView> rows) {
+		PrincipalView first = rows.get(0);
+		Long parentId = rows.stream()
+			.map(PrincipalView::getParentId)
+			.filter(Objects::nonNull)
+			.findFirst()
+			.orElse(null);
+		return new UserContext(
+			first.getId(),
+			first.getEmail(),
+			null,
+			first.getRole().name(),
+			first.getCoreUserId(),
+			parentId,
+			sorted(rows.stream()
+				.map(PrincipalView::getChildId)
+				.filter(Objects::nonNull)
+				.mapToLong(Long::longValue)),
+			first.getSecurityVersion()
+		);
+	}
+
+	/**
+	 * JWT Claims에 담긴 값만으로 UserContext를 생성하는 팩토리 메서드 (DB 조회 없음)
+	 *
+	 * @param id              사용자 ID
+	 * @param role            사용자 역할
+	 * @param coreUserId      Core User ID
+	 * @param parentId        부모 ID (자녀인 경우)
+	 * @param children        자녀 ID 목록 (부모인 경우)
+	 * @param securityVersion 토큰 발급 시점의 보안 버전
+	 * @return UserContext 인스턴스
+	 */
+	public static UserContext fromToken(Long id, String role, Long coreUserId, Long parentId, List<Long> children,
+		Long securityVersion) {
+		return new UserContext(id, null, null, role, coreUserId, parentId,
+			children == null ? NO_CHILDREN : sorted(children.stream().mapToLong(Long::longValue)),
+			securityVersion);
+	}
+
+	private static long[] sorted(LongStream ids) {
+		return ids.distinct().sorted().toArray();
+	}
+
 }
@@ -7,6 +7,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -53,8 +54,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		String token = resolveToken(request);
 
-		if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-			Authentication authentication = jwtTokenProvider.getAuthentication(token);
+		// 서명 검증은 한 번만 하고, 검증된 Claims로 바로 인증 정보를 만듦
+		Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.verify(token) : null;
+		if (claims != null) {
+			Authentication authentication = jwtTokenProvider.getAuthentication(claims);
 			SecurityContextHolder.getContext().setAuthentication(authentication);
 		}
 
@@ -1,19 +1,35 @@
 package dev.syntax.global.auth.jwt;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import dev.syntax.global.auth.dto.UserContext;
+import dev.syntax.global.auth.service.SecurityVersionTable;
 import dev.syntax.global.auth.service.UserContextServiceImpl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -38,6 +54,15 @@ import lombok.extern.slf4j.Slf4j;
  *     <li>JWT Claims 기반 UserContext 재구성</li>
  * </ul>
  *
+ * <p>서명 검증은 요청당 한 번만 수행합니다. 파서는 생성 시 한 번 만들어 재사용하며(thread-safe),
+ * 최근 검증한 토큰은 SHA-256 digest → Claims로 토큰 만료 시각까지 보관하여
+ * 같은 토큰으로 반복되는 요청은 HMAC 검증과 파싱을 생략합니다.
+ *
+ * <p><b>Stateless 인증 모드</b>({@code jwt.stateless.enabled=true})에서는 토큰에 Core User ID, 부모/자녀 ID,
+ * 보안 버전을 함께 담고, 인증 시 DB 조회 없이 Claims로 UserContext를 만듭니다.
+ * 토큰의 보안 버전이 {@link SecurityVersionTable}의 현재 버전과 다르면(가족 관계 변경, 비밀번호 재설정 등)
+ * 기존과 같이 DB에서 최신 UserContext를 조회합니다.
+ *
  * @see UserContext
  * @see UserContextServiceImpl
  * @see io.jsonwebtoken.Jwts
@@ -47,11 +72,23 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtTokenProvider {
 
 	private static final String AUTHORITIES_KEY = "auth";
+	private static final String CORE_USER_ID_KEY = "coreUserId";
+	private static final String PARENT_ID_KEY = "parentId";
+	private static final String CHILDREN_KEY = "children";
+	private static final String VERSION_KEY = "ver";
+
+	/** 검증된 토큰 캐시 최대 크기 / 보관 시간 상한 (토큰 만료가 더 이르면 만료 시각까지) */
+	private static final long VERIFIED_CACHE_MAX_SIZE = 10_000;
+	private static final long VERIFIED_CACHE_MAX_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
 
 	// yml에서 jwt.expiration-days 값을 가져와서 만료기간 계산
 	private final long accessTokenExpireTime;
 	private final Key key;
+	private final JwtParser parser;
+	private final Cache<String, Claims> verifiedClaims;
 	private final UserContextServiceImpl userContextService;
+	private final boolean stateless;
+	private final SecurityVersionTable securityVersionTable;
 
 	/**
 	 * JwtTokenProvider 생성자.
@@ -63,15 +100,37 @@ public class JwtTokenProvider {
 	 * @param secretKey       Base64 인코딩된 JWT 서명용 비밀 키
 	 * @param expirationDays  액세스 토큰 만료 기간(일 단위)
 	 */
+	public JwtTokenProvider(String secretKey, long expirationDays, UserContextServiceImpl userContextService) {
+		this(secretKey, expirationDays, userContextService, false, null);
+	}
+
+	/**
+	 * Stateless 인증 모드 설정을 포함한 JwtTokenProvider 생성자.
+	 *
+	 * @param secretKey            Base64 인코딩된 JWT 서명용 비밀 키
+	 * @param expirationDays       액세스 토큰 만료 기간(일 단위)
+	 * @param stateless            토큰에 사용자 정보를 담고 DB 조회 없이 인증할지 여부
+	 * @param securityVersionTable 토큰의 보안 버전이 최신인지 확인하는 표 (stateless 모드에서만 사용)
+	 */
+	@Autowired
 	public JwtTokenProvider(
 		@Value("${jwt.secret}") String secretKey,
 		@Value("${jwt.expiration-days}") long expirationDays,
-		UserContextServiceImpl userContextService
+		UserContextServiceImpl userContextService,
+		@Value("${jwt.stateless.enabled:false}") boolean stateless,
+		SecurityVersionTable securityVersionTable
 	) {
 		byte[] keyBytes = Decoders.BASE64.decode(secretKey);
 		this.key = Keys.hmacShaKeyFor(keyBytes);
-		this.accessTokenExpireTime = java.util.concurrent.TimeUnit.DAYS.toMillis(expirationDays);
+		this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+		this.verifiedClaims = Caffeine.newBuilder()
+			.maximumSize(VERIFIED_CACHE_MAX_SIZE)
+			.expireAfter(new UntilTokenExpiry())
+			.build();
+		this.accessTokenExpireTime = TimeUnit.DAYS.toMillis(expirationDays);
 		this.userContextService = userContextService;
+		this.stateless = stateless && securityVersionTable != null;
+		this.securityVersionTable = securityVersionTable;
 	}
 
 	/**
@@ -87,12 +146,21 @@ public class JwtTokenProvider {
 		long now = System.currentTimeMillis();
 		Date accessTokenExpiresIn = new Date(now + accessTokenExpireTime);
 
-		return Jwts.builder()
+		JwtBuilder builder = Jwts.builder()
 			// subject: userId
 			.setSubject(String.valueOf(userContext.getId()))
 			.claim(AUTHORITIES_KEY, authorities)
 			.claim("role", userContext.getRole())
-			.claim("familyId", userContext.getFamilyId())
+			.claim("familyId", userContext.getFamilyId());
+
+		if (stateless && userContext.getSecurityVersion() != null) {
+			builder.claim(CORE_USER_ID_KEY, userContext.getCoreUserId())
+				.claim(PARENT_ID_KEY, userContext.getParentId())
+				.claim(CHILDREN_KEY, userContext.getChildren())
+				.claim(VERSION_KEY, userContext.getSecurityVersion());
+		}
+
+		return builder
 			.setExpiration(accessTokenExpiresIn)
 			.signWith(key, SignatureAlgorithm.HS512)
 			.compact();
@@ -102,9 +170,34 @@ public class JwtTokenProvider {
 	 * JWT 토큰의 유효성을 검증합니다.
 	 */
 	public boolean validateToken(String token) {
+		return verify(token) != null;
+	}
+
+	/**
+	 * JWT 토큰을 검증하고 Claims를 반환합니다.
+	 * <p>
+	 * 최근 검증에 성공한 토큰이면 서명 검증 없이 캐시된 Claims를 반환합니다.
+	 * 반환된 Claims는 여러 요청이 공유하므로 읽기 전용으로 사용해야 합니다.
+	 * </p>
+	 *
+	 * @param token JWT 토큰
+	 * @return 검증된 Claims, 유효하지 않거나 만료된 토큰이면 null
+	 */
+	public Claims verify(String token) {
+		if (token == null || token.isEmpty()) {
+			log.info("JWT 토큰이 잘못되었습니다.");
+			return null;
+		}
+		String digest = digest(token);
+		Claims cached = verifiedClaims.getIfPresent(digest);
+		if (cached != null && !isExpired(cached)) {
+			return cached;
+		}
+
 		try {
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			verifiedClaims.put(digest, claims);
+			return claims;
 		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
 			log.info("잘못된 JWT 서명입니다.");
 		} catch (ExpiredJwtException e) {
@@ -114,19 +207,31 @@ public class JwtTokenProvider {
 		} catch (IllegalArgumentException e) {
 			log.info("JWT 토큰이 잘못되었습니다.");
 		}
-		return false;
+		return null;
 	}
 
 	/**
 	 * JWT 토큰으로부터 Authentication 생성
 	 */
 	public Authentication getAuthentication(String token) {
-		Claims claims = parseClaims(token);
+		Claims cached = verifiedClaims.getIfPresent(digest(token));
+		return getAuthentication(cached != null ? cached : parseClaims(token));
+	}
 
+	/**
+	 * 검증된 Claims로부터 Authentication 생성
+	 *
+	 * @param claims {@link #verify(String)}로 검증된 Claims
+	 * @return Authentication
+	 */
+	public Authentication getAuthentication(Claims claims) {
 		Long userId = Long.parseLong(claims.getSubject());
 
-		// DB에서 다시 조회하여 최신 UserContext 생성
-		UserContext userContext = userContextService.loadUserById(userId);
+		UserContext userContext = fromClaims(userId, claims);
+		if (userContext == null) {
+			// DB에서 다시 조회하여 최신 UserContext 생성
+			userContext = userContextService.loadUserById(userId);
+		}
 
 		return new UsernamePasswordAuthenticationToken(
 			userContext,
@@ -135,15 +240,92 @@ public class JwtTokenProvider {
 		);
 	}
 
+	/**
+	 * Stateless 모드에서 토큰의 보안 버전이 최신이면 Claims만으로 UserContext를 생성합니다.
+	 *
+	 * @return UserContext, stateless 모드가 아니거나 보안 버전이 없거나 오래된 경우 null
+	 */
+	private UserContext fromClaims(Long userId, Claims claims) {
+		Number version = claims.get(VERSION_KEY, Number.class);
+		if (!stateless || version == null || !securityVersionTable.isCurrent(userId, version.longValue())) {
+			return null;
+		}
+		return UserContext.fromToken(
+			userId,
+			claims.get("role", String.class),
+			toLong(claims.get(CORE_USER_ID_KEY)),
+			toLong(claims.get(PARENT_ID_KEY)),
+			toLongList(claims.get(CHILDREN_KEY)),
+			version.longValue()
+		);
+	}
+
+	private static Long toLong(Object value) {
+		return value instanceof Number number ? number.longValue() : null;
+	}
+
+	private static List<Long> toLongList(Object value) {
+		if (!(value instanceof Collection<?> values)) {
+			return Collections.emptyList();
+		}
+		return values.stream()
+			.map(JwtTokenProvider::toLong)
+			.filter(id -> id != null)
+			.toList();
+	}
+
 	/**
 	 * JWT 토큰에서 Claims를 파싱합니다.
 	 * 만료된 토큰이라도 Claims를 반환하도록 처리합니다.
 	 */
 	private Claims parseClaims(String accessToken) {
 		try {
-			return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+			return parser.parseClaimsJws(accessToken).getBody();
 		} catch (ExpiredJwtException e) {
 			return e.getClaims();
 		}
 	}
+
+	private static boolean isExpired(Claims claims) {
+		Date expiration = claims.getExpiration();
+		return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+	}
+
+	/**
+	 * 토큰 원문 대신 SHA-256 digest를 캐시 키로 사용합니다. (메모리에 토큰을 그대로 남기지 않기 위함)
+	 */
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 검증된 토큰을 토큰 만료 시각(최대 {@link #VERIFIED_CACHE_MAX_TTL_NANOS})까지만 보관합니다.
+	 */
+	private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			Date expiration = claims.getExpiration();
+			if (expiration == null) {
+				return VERIFIED_CACHE_MAX_TTL_NANOS;
+			}
+			long untilExpiry = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+			return Math.max(0, Math.min(untilExpiry, VERIFIED_CACHE_MAX_TTL_NANOS));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package dev.syntax.global.auth.password;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 생성·검증을 전용 스레드 풀에서 실행하는 {@link PasswordEncoder}입니다.
+ * <p>
+ * BCrypt는 CPU를 많이 사용하므로 요청 스레드에서 바로 실행하면 로그인·간편 비밀번호 검증이 몰릴 때
+ * 모든 코어를 차지해 다른 API까지 느려집니다. 이 인코더는 크기가 제한된 풀과 대기열에서만 해시를 계산하고,
+ * 대기열까지 가득 차면 기다리지 않고 {@link ErrorBaseCode#PASSWORD_HASHING_BUSY}(503)로 실패합니다.
+ * </p>
+ * <ul>
+ *   <li>{@code auth.password.hash} 타이머 (operation=encode|matches): 해시 계산 시간</li>
+ *   <li>{@code auth.password.hash.queue}, {@code auth.password.hash.active} 게이지: 대기열 길이, 실행 중인 작업 수</li>
+ *   <li>{@code auth.password.hash.rejected} 카운터: 대기열이 가득 차 거절된 요청 수</li>
+ * </ul>
+ * <p>
+ * {@code rehashOnVerify}가 켜져 있으면 {@link #upgradeEncoding(String)}이 위임 인코더의 판단(설정된 cost보다 낮은 해시)을 따르며,
+ * 검증에 성공한 호출자가 새 cost로 다시 해시하여 저장합니다. 꺼져 있으면 항상 false를 반환합니다.
+ * </p>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private static final String METRIC_PREFIX = "auth.password.hash";
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolTaskExecutor executor;
+	private final boolean rehashOnVerify;
+
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejected;
+
+	public BoundedPasswordEncoder(
+		PasswordEncoder delegate,
+		ThreadPoolTaskExecutor executor,
+		boolean rehashOnVerify,
+		MeterRegistry meterRegistry
+	) {
+		this.delegate = delegate;
+		this.executor = executor;
+		this.rehashOnVerify = rehashOnVerify;
+		this.encodeTimer = meterRegistry.timer(METRIC_PREFIX, "operation", "encode");
+		this.matchesTimer = meterRegistry.timer(METRIC_PREFIX, "operation", "matches");
+		this.rejected = meterRegistry.counter(METRIC_PREFIX + ".rejected");
+		Gauge.builder(METRIC_PREFIX + ".queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return rehashOnVerify && delegate.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * 해시 작업을 전용 풀에 넣고 끝날 때까지 기다립니다.
+	 */
+	private <T> T execute(Timer timer, Supplier<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(() -> timer.record(task));
+		} catch (TaskRejectedException e) {
+			rejected.increment();
+			log.warn("[비밀번호 해시 거절] 대기열이 가득 찼습니다. queue={}",
+				executor.getThreadPoolExecutor().getQueue().size());
+			throw new BusinessException(ErrorBaseCode.PASSWORD_HASHING_BUSY);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorBaseCode.PASSWORD_HASHING_BUSY);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException("비밀번호 해시 작업에 실패했습니다.", cause);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package dev.syntax.global.auth.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.syntax.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 사용자별 보안 버전(security version)을 메모리에 보관하는 표입니다.
+ * <p>
+ * Stateless 인증 모드에서는 JWT에 담긴 사용자 정보(Core User ID, 부모/자녀 ID)로 바로 인증 객체를 만들고,
+ * 토큰의 보안 버전이 이 표의 버전과 다를 때만 DB에서 사용자를 다시 조회합니다.
+ * 보안 버전은 가족 관계나 비밀번호가 바뀌면 {@code User#increaseSecurityVersion()}으로 증가합니다.
+ * </p>
+ * <ul>
+ *   <li>최대 크기: {@code jwt.stateless.version-table.max-size}, 보관 시간: {@code jwt.stateless.version-table.ttl}</li>
+ *   <li>{@link UserContextCache}가 무효화되면 같은 사용자의 버전도 함께 무효화하여 다음 요청에서 다시 조회합니다.</li>
+ *   <li>다른 인스턴스에서 바뀐 버전은 보관 시간이 지나야 반영됩니다.</li>
+ * </ul>
+ * <p>
+ * 캐시 통계는 {@code auth.security.version} 캐시 메트릭으로 노출됩니다.
+ * </p>
+ */
+@Component
+public class SecurityVersionTable {
+
+	private static final String METRIC_PREFIX = "auth.security.version";
+
+	private final UserRepository userRepository;
+	private final Cache<Long, Long> versions;
+
+	public SecurityVersionTable(
+		UserRepository userRepository,
+		UserContextCache userContextCache,
+		@Value("${jwt.stateless.version-table.max-size:100000}") long maxSize,
+		@Value("${jwt.stateless.version-table.ttl:30s}") Duration ttl,
+		MeterRegistry meterRegistry
+	) {
+		this.userRepository = userRepository;
+		this.versions = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, versions, METRIC_PREFIX);
+
+		userContextCache.addInvalidationListener(versions::invalidate);
+	}
+
+	/**
+	 * 토큰에 담긴 보안 버전이 현재 버전과 같은지 확인합니다.
+	 *
+	 * @param userId       사용자 ID
+	 * @param tokenVersion 토큰에 담긴 보안 버전
+	 * @return 현재 버전과 같으면 true, 다르거나 사용자가 없으면 false
+	 */
+	public boolean isCurrent(Long userId, long tokenVersion) {
+		Long current = versions.get(userId, id -> userRepository.findSecurityVersionById(id).orElse(null));
+		return current != null && current == tokenVersion;
+	}
+}
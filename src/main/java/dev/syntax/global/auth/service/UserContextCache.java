@@ -0,0 +1,119 @@
+package dev.syntax.global.auth.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.syntax.global.auth.dto.UserContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * JWT 재인증 시 사용하는 {@link UserContext}를 사용자 ID 단위로 보관하는 캐시입니다.
+ * <p>
+ * 인증이 필요한 모든 요청은 사용자와 부모/자녀 관계를 두 번의 fetch join 쿼리로 다시 조회하므로,
+ * 짧은 시간 동안 같은 사용자의 UserContext를 재사용하여 DB 조회를 줄입니다.
+ * </p>
+ * <ul>
+ *   <li>최대 크기: {@code auth.user-context-cache.max-size}, 보관 시간: {@code auth.user-context-cache.ttl}</li>
+ *   <li>가족 관계, 프로필/비밀번호/알림 설정, Core User ID가 바뀌면 {@link #invalidate(Long...)}로 무효화합니다.</li>
+ * </ul>
+ * <p>
+ * 캐시 통계는 {@code auth.user.context} 캐시 메트릭(적중/실패 수 등)으로 노출됩니다.
+ * </p>
+ */
+@Component
+public class UserContextCache {
+
+	private static final String METRIC_PREFIX = "auth.user.context";
+
+	private final boolean enabled;
+	private final Cache<Long, UserContext> cache;
+
+	/** 사용자 정보에서 파생된 값을 따로 보관하는 곳에 무효화를 전달 */
+	private final List<Consumer<Long>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+	public UserContextCache(
+		@Value("${auth.user-context-cache.enabled:true}") boolean enabled,
+		@Value("${auth.user-context-cache.max-size:10000}") long maxSize,
+		@Value("${auth.user-context-cache.ttl:30s}") Duration ttl,
+		MeterRegistry meterRegistry
+	) {
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_PREFIX);
+	}
+
+	/**
+	 * 사용자 ID에 해당하는 UserContext를 반환합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @param loader 캐시에 없을 때 DB에서 UserContext를 조회하는 함수
+	 * @return UserContext
+	 */
+	public UserContext get(Long userId, Function<Long, UserContext> loader) {
+		if (!enabled) {
+			return loader.apply(userId);
+		}
+		return cache.get(userId, loader);
+	}
+
+	/**
+	 * 주어진 사용자들의 UserContext를 무효화합니다.
+	 * <p>
+	 * 트랜잭션 안에서 호출되면 커밋 전 다른 요청이 변경 전 값을 다시 캐시할 수 있으므로,
+	 * 트랜잭션이 끝난 뒤에도 한 번 더 무효화합니다.
+	 * </p>
+	 *
+	 * @param userIds 무효화할 사용자 ID (null은 무시)
+	 */
+	public void invalidate(Long... userIds) {
+		List<Long> ids = Arrays.stream(userIds).filter(Objects::nonNull).toList();
+		if (ids.isEmpty()) {
+			return;
+		}
+		invalidateNow(ids);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					invalidateNow(ids);
+				}
+			});
+		}
+	}
+
+	/**
+	 * UserContext가 무효화될 때 호출될 리스너를 등록합니다.
+	 * <p>
+	 * 사용자 정보에서 파생된 값(보안 버전 등)을 따로 캐시하는 경우, 무효화를 함께 반영하기 위해 사용합니다.
+	 * </p>
+	 *
+	 * @param listener 무효화된 사용자 ID를 받는 리스너
+	 */
+	public void addInvalidationListener(Consumer<Long> listener) {
+		invalidationListeners.add(listener);
+	}
+
+	private void invalidateNow(List<Long> ids) {
+		cache.invalidateAll(ids);
+		ids.forEach(id -> invalidationListeners.forEach(listener -> listener.accept(id)));
+	}
+}
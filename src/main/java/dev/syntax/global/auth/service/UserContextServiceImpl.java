@@ -1,6 +1,9 @@
 package dev.syntax.global.auth.service;
 
+import java.util.List;
+
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -15,18 +18,23 @@ import lombok.RequiredArgsConstructor;
  * UserContextServiceImpl
  *
  * <p>Spring Security의 UserDetailsService 구현체로,
- * 사용자 인증 시 User 엔티티를 조회하여 UserContext로 변환합니다.
- * UserContext 생성 시 children과 parents 관계를 fetch join으로 함께 로드하여
- * Lazy Loading 문제를 방지합니다.
+ * 사용자 인증 시 사용자 정보를 조회하여 UserContext로 변환합니다.
+ *
+ * <p>로그인({@link #loadUserByUsername(String)})은 비밀번호 검증을 위해 User 엔티티를 조회하며,
+ * MultipleBagFetchException을 방지하기 위해 children과 parents를 별도 쿼리로 조회합니다.
+ *
+ * <p>JWT 재인증에 사용하는 {@link #loadUserById(Long)}는 {@link UserContextCache}를 거치며,
+ * 캐시에 없을 때만 엔티티 없이 한 번의 projection 쿼리로 UserContext를 만듭니다.
  *
- * <p>MultipleBagFetchException을 방지하기 위해 children과 parents를
- * 별도 쿼리로 조회합니다.
+ * <p>로그인 시 저장된 비밀번호 해시의 cost가 설정보다 낮으면({@code auth.password-hashing.rehash-on-verify})
+ * Spring Security가 {@link #updatePassword(UserDetails, String)}로 새 해시를 저장합니다.
  */
 @Service
 @RequiredArgsConstructor
-public class UserContextServiceImpl implements UserDetailsService {
+public class UserContextServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
 	private final UserRepository userRepository;
+	private final UserContextCache userContextCache;
 
 	/**
 	 * 이메일로 사용자를 조회하여 UserDetails를 반환합니다.
@@ -50,22 +58,49 @@ public class UserContextServiceImpl implements UserDetailsService {
 	}
 
 	/**
-	 * 사용자 ID로 사용자를 조회하여 UserContext를 반환합니다.
-	 * children과 parents 관계를 fetch join으로 함께 로드합니다.
+	 * 로그인에 성공한 사용자의 비밀번호 해시를 새 cost로 다시 저장합니다.
+	 *
+	 * @param user        로그인한 사용자
+	 * @param newPassword 새로 계산된 비밀번호 해시
+	 * @return 새 해시가 반영된 UserContext
+	 */
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		// loadUserByUsername이 반환한 UserContext (username은 사용자 ID)
+		String email = ((UserContext)user).getEmail();
+		User entity = userRepository.findByEmailWithChildren(email)
+			.orElseThrow(() -> new UsernameNotFoundException(email + " -> 데이터베이스에서 찾을 수 없습니다."));
+		userRepository.findByEmailWithParents(email);
+
+		entity.updatePassword(newPassword);
+		return new UserContext(entity);
+	}
+
+	/**
+	 * 사용자 ID로 UserContext를 반환합니다.
+	 * 캐시에 없으면 사용자 정보와 부모/자녀 ID를 한 번의 projection 쿼리로 조회합니다.
 	 *
 	 * @param id 사용자 ID
 	 * @return UserContext
 	 * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
 	 */
-	@Transactional(readOnly = true)
 	public UserContext loadUserById(Long id) {
-		// children 먼저 로드
-		User user = userRepository.findByIdWithChildren(id)
-			.orElseThrow(() -> new UsernameNotFoundException(id + " -> 데이터베이스에서 찾을 수 없습니다."));
-
-		// parents 추가 로드 (이미 영속성 컨텍스트에 있으므로 merge됨)
-		userRepository.findByIdWithParents(id);
+		return userContextCache.get(id, this::loadFreshUserById);
+	}
 
-		return new UserContext(user);
+	/**
+	 * 캐시를 거치지 않고 사용자 ID로 최신 UserContext를 조회합니다. (토큰 재발급 등)
+	 *
+	 * @param id 사용자 ID
+	 * @return UserContext
+	 * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
+	 */
+	public UserContext loadFreshUserById(Long id) {
+		List<UserRepository.PrincipalView> rows = userRepository.findPrincipalRowsById(id);
+		if (rows.isEmpty()) {
+			throw new UsernameNotFoundException(id + " -> 데이터베이스에서 찾을 수 없습니다.");
+		}
+		return UserContext.of(rows);
 	}
 }
@@ -0,0 +1,86 @@
+package dev.syntax.global.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+
+import dev.syntax.global.core.CoreApiProperties;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 Core 클라이언트 실행 풀 설정 클래스입니다.
+ * <p>
+ * Core 호출은 I/O 대기가 대부분이므로 {@code appExecutor}와 분리된 전용 풀에서 실행하며,
+ * 풀 크기와 대기열은 {@code core.api.async.*}로 제한합니다.
+ * 요청 스레드의 SecurityContext를 작업 스레드로 전달하여
+ * {@link CoreRestTemplateConfig}의 X-Core-User-Id 헤더 인터셉터가 그대로 동작하도록 합니다.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CoreAsyncConfig {
+
+    private final CoreApiProperties properties;
+
+    /**
+     * Core 호출 전용 스레드 풀을 생성합니다.
+     * <p>
+     * 대기열까지 가득 차면 작업을 거절(AbortPolicy)하며, 종료 시 진행 중인 Core 호출이 끝날 때까지 기다립니다.
+     * </p>
+     *
+     * @return Core 호출 전용 스레드 풀
+     */
+    @Bean("coreClientTaskExecutor")
+    public ThreadPoolTaskExecutor coreClientTaskExecutor() {
+        CoreApiProperties.Async async = properties.getAsync();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(async.getCorePoolSize());
+        executor.setMaxPoolSize(async.getMaxPoolSize());
+        executor.setQueueCapacity(async.getQueueCapacity());
+        executor.setThreadNamePrefix("core-client-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds((int)properties.getReadTimeout().toSeconds() + 1);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * SecurityContext를 전달하는 Core 호출 전용 실행기를 생성합니다.
+     *
+     * @param coreClientTaskExecutor Core 호출 전용 스레드 풀
+     * @return SecurityContext 전달 실행기
+     */
+    @Bean("coreClientExecutor")
+    public Executor coreClientExecutor(@Qualifier("coreClientTaskExecutor") ThreadPoolTaskExecutor coreClientTaskExecutor) {
+        return new DelegatingSecurityContextExecutor(coreClientTaskExecutor);
+    }
+
+    /**
+     * 헤지 대상 Core 조회 호출 전용 스레드 풀을 생성합니다.
+     * <p>
+     * 대기열 없이 {@code core.api.hedge.max-threads}까지만 스레드를 늘리며,
+     * 가득 차면 작업을 거절해 {@link dev.syntax.global.core.CoreHedgingInterceptor}가 헤지 없이 호출 스레드에서 실행하도록 합니다.
+     * 헤지를 사용하지 않으면 스레드를 만들지 않습니다.
+     * </p>
+     *
+     * @return 헤지 호출 전용 스레드 풀
+     */
+    @Bean("coreHedgeExecutor")
+    public ThreadPoolTaskExecutor coreHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(0);
+        executor.setMaxPoolSize(properties.getHedge().getMaxThreads());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("core-hedge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,21 +1,46 @@
 package dev.syntax.global.config;
 
-import dev.syntax.global.auth.dto.UserContext;
-import dev.syntax.global.core.CoreApiProperties;
-import dev.syntax.global.core.CoreRestTemplateErrorHandler;
-import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.CoreClientRequestObservationConvention;
+import dev.syntax.global.core.CoreConcurrencyLimitInterceptor;
+import dev.syntax.global.core.CoreDeadlineInterceptor;
+import dev.syntax.global.core.CoreHedgingInterceptor;
+import dev.syntax.global.core.CoreResilienceInterceptor;
+import dev.syntax.global.core.CoreRestTemplateErrorHandler;
+import dev.syntax.global.core.CoreRetryInterceptor;
+import dev.syntax.global.core.CoreUserIdResolver;
+import dev.syntax.global.core.RequestDeadline;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+
 /**
  * Core 서버 API 호출을 위한 RestTemplate 설정 클래스입니다.
  * <p>
  * 모든 요청에 X-API-KEY와 X-Core-User-Id 헤더를 자동으로 추가하며,
  * 에러 발생 시 {@link dev.syntax.global.core.CoreRestTemplateErrorHandler}를 통해 처리합니다.
  * </p>
+ * <p>
+ * 요청은 Apache HttpClient 5 커넥션 풀을 통해 전송되며, 연결/응답/풀 대기 타임아웃은
+ * {@link CoreApiProperties}({@code core.api.*})로 설정합니다.
+ * 요청 마감 시각({@link RequestDeadline})이 있으면 풀 대기/응답 타임아웃을 남은 시간 이하로 줄입니다.
+ * </p>
  */
 @Configuration
 @RequiredArgsConstructor
@@ -23,39 +48,153 @@ public class CoreRestTemplateConfig {
 
     private final CoreApiProperties properties;
     private final CoreRestTemplateErrorHandler errorHandler;
+    private final CoreDeadlineInterceptor deadlineInterceptor;
+    private final CoreConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final CoreResilienceInterceptor resilienceInterceptor;
+    private final CoreRetryInterceptor retryInterceptor;
+    private final CoreHedgingInterceptor hedgingInterceptor;
+
+    /**
+     * Core 서버 전용 커넥션 풀을 생성합니다.
+     * <p>
+     * 라우트당/전체 최대 연결 수와 연결 타임아웃, 연결 수명을 설정하고,
+     * 대여 중(leased)/대기 중(pending)/유휴(idle) 연결 수를 Micrometer 게이지로 노출합니다.
+     * </p>
+     *
+     * @param meterRegistry 메트릭 레지스트리
+     * @return Core 서버 커넥션 풀
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager coreConnectionManager(MeterRegistry meterRegistry) {
+        CoreApiProperties.Pool pool = properties.getPool();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                .setTimeToLive(TimeValue.of(pool.getTimeToLive()))
+                .build())
+            .build();
+
+        Gauge.builder("core.client.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+            .description("Core 커넥션 풀에서 대여 중인 연결 수")
+            .register(meterRegistry);
+        Gauge.builder("core.client.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+            .description("Core 커넥션 풀에서 연결을 기다리는 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("core.client.pool.idle", connectionManager, cm -> cm.getTotalStats().getAvailable())
+            .description("Core 커넥션 풀의 유휴 연결 수")
+            .register(meterRegistry);
+
+        return connectionManager;
+    }
+
+    /**
+     * Core 서버 호출용 HttpClient를 생성합니다.
+     * <p>
+     * 풀 대기/응답 타임아웃을 기본 요청 설정으로 지정하고,
+     * 만료되었거나 {@code core.api.pool.idle-eviction} 이상 유휴 상태인 연결을 백그라운드에서 정리합니다.
+     * </p>
+     *
+     * @param coreConnectionManager Core 서버 커넥션 풀
+     * @return Core 서버 호출용 HttpClient
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient coreHttpClient(PoolingHttpClientConnectionManager coreConnectionManager) {
+        return HttpClients.custom()
+            .setConnectionManager(coreConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(properties.getPool().getIdleEviction()))
+            .build();
+    }
 
     /**
      * Core 서버 API 호출용 RestTemplate Bean을 생성합니다.
      * <p>
      * 모든 요청에 X-API-KEY와 X-Core-User-Id 헤더를 자동으로 추가하며,
      * 에러 발생 시 CoreRestTemplateErrorHandler를 통해 처리합니다.
+     * 가장 바깥 인터셉터인 {@link CoreDeadlineInterceptor}가 요청 마감 시각이 지난 호출을 즉시 실패시키고,
+     * {@link CoreConcurrencyLimitInterceptor}가 응답 시간에 맞춰 전체 동시 호출 수를 제한하며,
+     * {@link CoreResilienceInterceptor}가 API 계열별 서킷 브레이커와 벌크헤드를 적용합니다.
+     * 안쪽 인터셉터인 {@link CoreRetryInterceptor}가 상태 변경 호출에
+     * 멱등 키를 붙여 일시적인 실패를 재시도합니다. {@link CoreHedgingInterceptor}는 설정된 경우
+     * 느린 조회(GET) 호출을 헤지합니다.
+     * </p>
+     * <p>
+     * 모든 호출은 {@code core.client.requests} 타이머(uri 템플릿, method, status, outcome, family 태그)로
+     * 기록됩니다. 히스토그램/SLO 버킷은 {@code management.metrics.distribution}에서 설정합니다.
      * </p>
      *
+     * @param coreHttpClient      Core 서버 호출용 HttpClient
+     * @param observationRegistry 관측(메트릭) 레지스트리
      * @return Core 서버 API 호출용 RestTemplate
      */
     @Bean
-    public RestTemplate coreRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate coreRestTemplate(CloseableHttpClient coreHttpClient, ObservationRegistry observationRegistry) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(coreHttpClient);
+        // 요청 마감 시각까지 남은 시간으로 타임아웃 축소 (재시도/헤지로 다시 보내는 요청도 전송 시점 기준으로 계산)
+        requestFactory.setHttpContextFactory((method, uri) -> deadlineContext());
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+
+        // core.client.requests 메트릭
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.setObservationConvention(new CoreClientRequestObservationConvention());
 
         // 에러 핸들러 설정
         restTemplate.setErrorHandler(errorHandler);
 
+        // 요청 마감 시각 확인 (한도/벌크헤드 자리를 차지하기 전에 판단하도록 가장 먼저 등록)
+        restTemplate.getInterceptors().add(deadlineInterceptor);
+
+        // 적응형 동시 호출 제한 (재시도/헤지까지 포함하도록 마감 시각 확인 다음에 등록)
+        restTemplate.getInterceptors().add(concurrencyLimitInterceptor);
+
+        // 서킷 브레이커 / 벌크헤드
+        restTemplate.getInterceptors().add(resilienceInterceptor);
+
         restTemplate.getInterceptors().add((request, body, execution) -> {
 
             // API-KEY 추가
             request.getHeaders().add("X-API-KEY", properties.getApiKey());
 
-            // userContext 기반 X-Core-User-Id 추가
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.getPrincipal() instanceof UserContext user) {
-                if (user.getCoreUserId() != null) {
-                    request.getHeaders().add("X-Core-User-Id", String.valueOf(user.getCoreUserId()));
-                }
+            // userContext 기반 X-Core-User-Id 추가 (호출부에서 명시한 경우 그대로 사용)
+            Long coreUserId = CoreUserIdResolver.currentCoreUserId();
+            if (coreUserId != null && !request.getHeaders().containsKey(CoreUserIdResolver.HEADER)) {
+                request.getHeaders().add(CoreUserIdResolver.HEADER, String.valueOf(coreUserId));
             }
 
             return execution.execute(request, body);
         });
 
+        // 상태 변경 호출의 Idempotency-Key / 재시도 (재실행 시 이후 인터셉터를 거치지 않으므로 헤더 인터셉터 뒤에 등록)
+        restTemplate.getInterceptors().add(retryInterceptor);
+
+        // 조회(GET) 호출 헤지 (재시도와 같은 이유로 뒤에 등록, 재시도와 대상 메서드가 겹치지 않음)
+        restTemplate.getInterceptors().add(hedgingInterceptor);
+
         return restTemplate;
     }
+
+    /**
+     * 요청 마감 시각이 있으면 풀 대기/응답 타임아웃을 남은 시간으로 줄인 요청 컨텍스트를 생성합니다.
+     *
+     * @return 요청 컨텍스트, 마감 시각이 없으면 null (HttpClient 기본 요청 설정 사용)
+     */
+    private HttpContext deadlineContext() {
+        if (RequestDeadline.remaining() == null) {
+            return null;
+        }
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.of(RequestDeadline.cap(properties.getConnectionRequestTimeout())))
+            .setResponseTimeout(Timeout.of(RequestDeadline.cap(properties.getReadTimeout())))
+            .build());
+        return context;
+    }
 }
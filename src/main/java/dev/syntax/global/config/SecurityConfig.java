@@ -2,11 +2,14 @@ package dev.syntax.global.config;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,8 +27,10 @@ import dev.syntax.global.auth.jwt.JwtAccessDeniedHandler;
 import dev.syntax.global.auth.jwt.JwtAuthenticationEntryPoint;
 import dev.syntax.global.auth.jwt.JwtAuthenticationFilter;
 import dev.syntax.global.auth.jwt.JwtTokenProvider;
+import dev.syntax.global.auth.password.BoundedPasswordEncoder;
 import dev.syntax.global.core.ApiKeyAuthenticationFilter;
 import dev.syntax.global.core.CoreApiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -148,16 +153,56 @@ public class SecurityConfig {
 	}
 
 	/**
-	 * BCryptPasswordEncoder Bean 등록
+	 * 비밀번호 해시 전용 스레드 풀 Bean 등록
+	 *
+	 * <p>BCrypt 해시 생성·검증만 실행하며, 풀 크기와 대기열은 {@code auth.password-hashing.*}로 제한합니다.
+	 * 대기열까지 가득 차면 작업을 거절(AbortPolicy)합니다.
+	 *
+	 * @param poolSize      해시 작업 스레드 수
+	 * @param queueCapacity 대기열 크기
+	 * @return 비밀번호 해시 전용 스레드 풀
+	 */
+	@Bean("passwordHashExecutor")
+	public ThreadPoolTaskExecutor passwordHashExecutor(
+		@Value("${auth.password-hashing.pool-size:2}") int poolSize,
+		@Value("${auth.password-hashing.queue-capacity:32}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hash-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * PasswordEncoder Bean 등록
 	 *
 	 * <p>bcrypt는 자체적으로 Salt를 내장하고 있으며,
 	 * 비밀번호 검증 시 matches() 호출만으로 비교가 가능합니다.
+	 * 해시 계산은 요청 스레드가 아닌 {@code passwordHashExecutor}에서 실행됩니다. ({@link BoundedPasswordEncoder})
 	 *
-	 * @return BCryptPasswordEncoder 인스턴스
+	 * @param passwordHashExecutor 비밀번호 해시 전용 스레드 풀
+	 * @param strength             BCrypt cost (log rounds)
+	 * @param rehashOnVerify       검증 성공 시 cost가 낮은 해시를 다시 저장할지 여부
+	 * @param meterRegistry        해시 지연 시간·대기열 메트릭 등록용
+	 * @return PasswordEncoder 인스턴스
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(
+		@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+		@Value("${auth.password-hashing.strength:10}") int strength,
+		@Value("${auth.password-hashing.rehash-on-verify:false}") boolean rehashOnVerify,
+		MeterRegistry meterRegistry
+	) {
+		return new BoundedPasswordEncoder(
+			new BCryptPasswordEncoder(strength),
+			passwordHashExecutor,
+			rehashOnVerify,
+			meterRegistry
+		);
 	}
 
 	/**
@@ -0,0 +1,64 @@
+package dev.syntax.global.core;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Core 서버 API를 엔드포인트 계열(family) 단위로 구분하는 열거형입니다.
+ * <p>
+ * 서킷 브레이커와 벌크헤드는 계열별로 분리되어, 한 계열(예: 투자)의 장애가
+ * 다른 계열(예: 계좌 조회)의 호출까지 막지 않도록 합니다.
+ * 경로 접두사가 더 구체적인 계열이 먼저 선언되어야 합니다.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CoreApiFamily {
+
+	ADMIN("admin", "/core/banking/admin"),
+	AUTO_TRANSFER("auto-transfer", "/core/banking/auto-transfer"),
+	GOAL("goal", "/core/banking/goal"),
+	TRANSACTIONS("transactions", "/core/transaction"),
+	INVESTMENTS("investments", "/core/investments"),
+	/** 계좌 조회/개설 및 사용자 초기화 등 나머지 뱅킹 API */
+	ACCOUNTS("accounts", "/core/banking");
+
+	/** 메트릭 태그 및 Resilience4j 인스턴스 이름에 사용되는 계열 이름 */
+	private final String tag;
+
+	/** 해당 계열에 속하는 Core API 경로 접두사 */
+	private final String pathPrefix;
+
+	/**
+	 * Resilience4j 서킷 브레이커/벌크헤드 인스턴스 이름을 반환합니다.
+	 *
+	 * @return {@code core-<tag>} 형식의 인스턴스 이름
+	 */
+	public String instanceName() {
+		return "core-" + tag;
+	}
+
+	/**
+	 * 요청 경로로부터 Core API 계열을 찾습니다.
+	 *
+	 * <p>
+	 * base-url에 컨텍스트 경로가 포함될 수 있으므로 {@code /core/} 이후 경로를 기준으로 비교합니다.
+	 * </p>
+	 *
+	 * @param path 요청 URI 경로
+	 * @return 매칭되는 계열, Core API 경로가 아니면 empty
+	 */
+	public static Optional<CoreApiFamily> fromPath(String path) {
+		int start = path == null ? -1 : path.indexOf("/core/");
+		if (start < 0) {
+			return Optional.empty();
+		}
+		String corePath = path.substring(start);
+		return Arrays.stream(values())
+			.filter(family -> corePath.startsWith(family.pathPrefix))
+			.findFirst();
+	}
+}
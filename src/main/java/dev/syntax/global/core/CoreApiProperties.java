@@ -1,5 +1,9 @@
 package dev.syntax.global.core;
 
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -18,6 +22,47 @@ import org.springframework.stereotype.Component;
  *   api:
  *     base-url: https://core-banking-api.example.com
  *     api-key: your-secret-api-key
+ *     connect-timeout: 2s
+ *     read-timeout: 5s
+ *     connection-request-timeout: 1s
+ *     pool:
+ *       max-total: 200
+ *       max-per-route: 50
+ *       idle-eviction: 30s
+ *     account-cache:
+ *       refresh-after: 30s
+ *       max-stale: 10m
+ *     balance-cache:
+ *       ttl: 5s
+ *     stock-catalog:
+ *       refresh-interval: 10s
+ *     portfolio-archive:
+ *       memory-max-size: 2000
+ *       backfill-months: 12
+ *       settle-grace: 1h
+ *     transaction-store:
+ *       memory-max-items: 500000
+ *       settle-grace: 1h
+ *     limiter:
+ *       initial-limit: 50
+ *       max-limit: 200
+ *       max-queue-wait: 50ms
+ *     deadline:
+ *       budget: 10s
+ *       min-remaining: 50ms
+ *     retry:
+ *       max-attempts: 3
+ *       initial-backoff: 100ms
+ *       deadline: 3s
+ *     hedge:
+ *       enabled: false
+ *       families: accounts, transactions, investments
+ *       delay-percentile: 0.95
+ *       budget-ratio: 0.05
+ *     async:
+ *       core-pool-size: 16
+ *       max-pool-size: 64
+ *       queue-capacity: 100
  * }</pre>
  * </p>
  */
@@ -44,4 +89,370 @@ public class CoreApiProperties {
      * </p>
      */
     private String apiKey;
+
+    /**
+     * Core 서버와 TCP 연결을 맺을 때까지 기다리는 최대 시간입니다.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 요청 전송 후 Core 서버의 응답을 기다리는 최대 시간입니다.
+     * <p>
+     * 응답이 없는 Core 소켓이 Tomcat 워커 스레드를 무한정 점유하지 않도록 제한합니다.
+     * </p>
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 커넥션 풀에서 사용 가능한 연결을 빌려올 때까지 기다리는 최대 시간입니다.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Core 서버 커넥션 풀 설정입니다.
+     */
+    private Pool pool = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /** 풀 전체에서 유지할 수 있는 최대 연결 수 */
+        private int maxTotal = 200;
+
+        /** Core 호스트(라우트)당 최대 연결 수 */
+        private int maxPerRoute = 50;
+
+        /** 이 시간 이상 사용되지 않은 유휴 연결은 백그라운드에서 정리됩니다. */
+        private Duration idleEviction = Duration.ofSeconds(30);
+
+        /** 연결의 최대 수명입니다. 수명이 지난 연결은 재사용하지 않습니다. */
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Core 계좌 목록 스냅샷 캐시 설정입니다.
+     */
+    private AccountCache accountCache = new AccountCache();
+
+    @Getter
+    @Setter
+    public static class AccountCache {
+
+        /** false이면 매 요청마다 Core 서버에서 계좌 목록을 조회합니다. */
+        private boolean enabled = true;
+
+        /** 캐시에 보관할 최대 사용자(Core User ID) 수 */
+        private long maxSize = 10_000;
+
+        /** 이 시간이 지난 스냅샷은 그대로 응답하되 백그라운드에서 갱신합니다. */
+        private Duration refreshAfter = Duration.ofSeconds(30);
+
+        /**
+         * 스냅샷을 보관하는 최대 시간입니다.
+         * <p>
+         * Core 장애로 갱신이 실패하더라도 이 시간까지는 마지막 스냅샷을 응답합니다.
+         * </p>
+         */
+        private Duration maxStale = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 사용자별 잔액(계좌 타입별 합계) 캐시 설정입니다.
+     * <p>
+     * 가족 단위로 조회한 계좌 목록에서 부모/자녀 각각의 잔액을 한 번에 채워 두어,
+     * 자녀별 잔액 조회가 Core 호출로 이어지지 않도록 합니다.
+     * </p>
+     */
+    private BalanceCache balanceCache = new BalanceCache();
+
+    @Getter
+    @Setter
+    public static class BalanceCache {
+
+        /** 캐시에 보관할 최대 사용자(Core User ID) 수 */
+        private long maxSize = 20_000;
+
+        /**
+         * 잔액을 보관하는 시간입니다. 계좌 목록 스냅샷이 무효화되면 함께 무효화됩니다.
+         * <p>
+         * 잔액은 계좌 목록 스냅샷 캐시({@code account-cache})를 거치지 않고 조회하므로,
+         * 이 시간이 Core 쪽 잔액 변경이 반영되기까지의 최대 지연입니다.
+         * </p>
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+    }
+
+    /**
+     * 매수/매도 종목 시세 목록(종목 카탈로그) 캐시 설정입니다.
+     */
+    private StockCatalog stockCatalog = new StockCatalog();
+
+    @Getter
+    @Setter
+    public static class StockCatalog {
+
+        /** false이면 매 요청마다 Core 서버에서 종목 목록을 조회합니다. */
+        private boolean enabled = true;
+
+        /** 백그라운드에서 종목 목록을 미리 갱신하는 주기 */
+        private Duration refreshInterval = Duration.ofSeconds(10);
+
+        /**
+         * 이 시간을 넘긴 목록은 응답하지 않고 호출 스레드에서 다시 조회합니다.
+         * <p>
+         * Core 장애로 갱신이 실패하더라도 이 시간까지는 마지막 목록을 응답합니다.
+         * </p>
+         */
+        private Duration maxStale = Duration.ofMinutes(5);
+
+        /** 이 시간 동안 조회가 없으면 백그라운드 갱신을 쉬어 Core 호출을 줄입니다. */
+        private Duration idleAfter = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 마감된 월(지난 달)의 투자 포트폴리오 보관소 설정입니다.
+     */
+    private PortfolioArchive portfolioArchive = new PortfolioArchive();
+
+    @Getter
+    @Setter
+    public static class PortfolioArchive {
+
+        /** false이면 매 요청마다 Core 서버에서 월별 포트폴리오를 조회합니다. */
+        private boolean enabled = true;
+
+        /** DB 앞단 메모리(LRU)에 보관할 최대 포트폴리오 수 */
+        private long memoryMaxSize = 2_000;
+
+        /** 조회 가능 월 목록을 메모리에 보관하는 시간 */
+        private Duration datesTtl = Duration.ofMinutes(10);
+
+        /** 백필 작업이 미리 적재할 지난 달 수 */
+        private int backfillMonths = 12;
+
+        /**
+         * 월이 바뀐 뒤 지난 달을 마감된 달로 취급하기까지 기다리는 시간입니다.
+         * <p>
+         * 월말 자정 직후 늦게 반영되는 체결이 보관본에서 누락되지 않도록 합니다.
+         * </p>
+         */
+        private Duration settleGrace = Duration.ofHours(1);
+
+        /** 백필 작업 실행 주기 (cron) */
+        private String backfillCron = "0 30 3 * * *";
+    }
+
+    /**
+     * 마감된 달의 계좌 거래 내역 보관소 설정입니다.
+     */
+    private TransactionStore transactionStore = new TransactionStore();
+
+    @Getter
+    @Setter
+    public static class TransactionStore {
+
+        /** false이면 매 요청마다 Core 서버에서 요청 기간 전체의 거래 내역을 조회합니다. */
+        private boolean enabled = true;
+
+        /**
+         * DB 앞단 메모리(LRU)에 보관할 최대 거래 건수입니다.
+         * <p>
+         * 달마다 거래 건수가 크게 다르므로 (계좌, 월) 수가 아닌 보관 중인 거래 건수의 합으로 제한합니다.
+         * </p>
+         */
+        private long memoryMaxItems = 500_000;
+
+        /**
+         * 월이 바뀐 뒤 지난 달을 마감된 달로 취급하기까지 기다리는 시간입니다.
+         * <p>
+         * 월말 자정 직후 늦게 반영되는 거래가 보관본에서 누락되지 않도록 합니다.
+         * </p>
+         */
+        private Duration settleGrace = Duration.ofHours(1);
+    }
+
+    /**
+     * 비동기 Core 클라이언트({@code Core*AsyncClient}) 전용 실행 풀 설정입니다.
+     */
+    private Async async = new Async();
+
+    @Getter
+    @Setter
+    public static class Async {
+
+        /** 항상 유지하는 스레드 수 */
+        private int corePoolSize = 16;
+
+        /** 대기열이 가득 찼을 때 늘릴 수 있는 최대 스레드 수 */
+        private int maxPoolSize = 64;
+
+        /**
+         * 스레드를 기다리는 최대 작업 수입니다.
+         * <p>
+         * 대기열과 스레드가 모두 가득 차면 Core를 호출하지 않고 즉시 503으로 실패합니다.
+         * </p>
+         */
+        private int queueCapacity = 100;
+    }
+
+    /**
+     * 상태를 변경하는 Core 호출(POST/PUT/PATCH/DELETE)의 재시도 설정입니다.
+     */
+    private Retry retry = new Retry();
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /**
+         * false이면 상태 변경 호출을 재시도하지 않습니다. (Idempotency-Key 헤더는 항상 추가)
+         * <p>
+         * 켜져 있어도 Core에 요청이 전달되지 않은 실패(연결 실패, 연결 풀 대기 타임아웃)만 재시도합니다.
+         * </p>
+         */
+        private boolean enabled = true;
+
+        /** 최초 호출을 포함한 최대 시도 횟수 */
+        private int maxAttempts = 3;
+
+        /** 첫 재시도 전 대기 시간 */
+        private Duration initialBackoff = Duration.ofMillis(100);
+
+        /** 재시도 대기 시간의 상한 */
+        private Duration maxBackoff = Duration.ofSeconds(1);
+
+        /** 재시도마다 대기 시간에 곱하는 배수 */
+        private double multiplier = 2.0;
+
+        /**
+         * 최초 호출부터 재시도를 포기할 때까지의 전체 시간 한도입니다.
+         * <p>
+         * 다음 재시도 대기가 이 한도를 넘기면 마지막 실패를 그대로 반환합니다.
+         * </p>
+         */
+        private Duration deadline = Duration.ofSeconds(3);
+    }
+
+    /**
+     * 조회(GET) Core 호출의 헤지(hedged request) 설정입니다.
+     * <p>
+     * 호출이 최근 응답 시간의 {@code delay-percentile} 분위수 안에 끝나지 않으면
+     * 같은 요청을 한 번 더 보내 먼저 도착한 응답을 사용합니다.
+     * </p>
+     */
+    private Hedge hedge = new Hedge();
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        /** true이면 {@code families}에 속한 GET 호출을 헤지합니다. */
+        private boolean enabled = false;
+
+        /** 헤지할 Core API 계열 */
+        private Set<CoreApiFamily> families =
+            EnumSet.of(CoreApiFamily.ACCOUNTS, CoreApiFamily.TRANSACTIONS, CoreApiFamily.INVESTMENTS);
+
+        /** 헤지 요청을 보내기까지 기다릴 응답 시간 분위수 (계열별 최근 응답 시간 기준) */
+        private double delayPercentile = 0.95;
+
+        /** 응답 시간 표본이 {@code min-samples}개 미만일 때 사용하는 대기 시간 */
+        private Duration initialDelay = Duration.ofMillis(200);
+
+        /** 분위수 대기 시간을 계산하기 위한 최소 표본 수 */
+        private long minSamples = 100;
+
+        /** 대기 시간의 하한 (분위수가 매우 작을 때 불필요한 헤지 방지) */
+        private Duration minDelay = Duration.ofMillis(20);
+
+        /**
+         * 헤지 요청 비율의 상한입니다.
+         * <p>
+         * 헤지 대상 호출마다 이 값만큼 예산이 쌓이고 헤지 요청 한 번에 1씩 소모하므로,
+         * 장기적으로 헤지 요청은 전체 호출의 이 비율을 넘지 않습니다.
+         * </p>
+         */
+        private double budgetRatio = 0.05;
+
+        /** 쌓아 둘 수 있는 최대 예산 (순간적으로 허용되는 헤지 요청 수) */
+        private double budgetBurst = 10;
+
+        /** 헤지 대상 호출을 실행하는 전용 스레드 수 상한 (가득 차면 헤지 없이 호출 스레드에서 실행) */
+        private int maxThreads = 64;
+    }
+
+    /**
+     * Core 호출 전체에 적용하는 적응형 동시 호출 제한(gradient) 설정입니다.
+     * <p>
+     * 최근 응답 시간이 평소 응답 시간보다 길어지면 동시 호출 한도를 줄이고,
+     * 여유가 있으면 다시 늘립니다.
+     * </p>
+     */
+    private Limiter limiter = new Limiter();
+
+    @Getter
+    @Setter
+    public static class Limiter {
+
+        /** false이면 동시 호출 수를 제한하지 않습니다. */
+        private boolean enabled = true;
+
+        /** 시작 시 동시 호출 한도 */
+        private int initialLimit = 50;
+
+        /** 동시 호출 한도의 하한 */
+        private int minLimit = 10;
+
+        /** 동시 호출 한도의 상한 (커넥션 풀 {@code pool.max-total} 이하 권장) */
+        private int maxLimit = 200;
+
+        /**
+         * 한도에 도달했을 때 자리가 나기를 기다리는 최대 시간입니다.
+         * <p>
+         * 이 시간 안에 자리가 나지 않으면 Core를 호출하지 않고 즉시 503으로 실패합니다.
+         * </p>
+         */
+        private Duration maxQueueWait = Duration.ofMillis(50);
+
+        /** 평소 응답 시간 대비 허용하는 최근 응답 시간 배수 (이보다 느려지면 한도를 줄임) */
+        private double rttTolerance = 1.5;
+
+        /** 한도 변경을 반영하는 비율 (0~1, 작을수록 천천히 변함) */
+        private double smoothing = 0.2;
+
+        /** 타임아웃, 5xx, 429 응답 시 한도에 곱하는 비율 */
+        private double backoffRatio = 0.9;
+    }
+
+    /**
+     * 요청 단위 처리 예산(deadline) 설정입니다.
+     * <p>
+     * 요청마다 마감 시각을 정하고, 요청 안의 모든 Core 호출이 남은 시간만큼만 응답을 기다리도록 합니다.
+     * 남은 시간이 {@code min-remaining}보다 적으면 Core를 호출하지 않고 즉시 504로 실패합니다.
+     * </p>
+     */
+    private Deadline deadline = new Deadline();
+
+    @Getter
+    @Setter
+    public static class Deadline {
+
+        /** false이면 요청 마감 시각을 정하지 않습니다. (Core 호출마다 {@code read-timeout} 적용) */
+        private boolean enabled = true;
+
+        /**
+         * 요청 하나의 처리 예산입니다.
+         * <p>
+         * 클라이언트가 {@code X-Request-Deadline} 헤더(남은 밀리초)를 보내면 둘 중 작은 값을 사용합니다.
+         * </p>
+         */
+        private Duration budget = Duration.ofSeconds(10);
+
+        /** Core 호출을 시작하기 위해 남아 있어야 하는 최소 시간 */
+        private Duration minRemaining = Duration.ofMillis(50);
+
+        /** true이면 Core 요청에 남은 시간을 {@code X-Request-Deadline} 헤더(밀리초)로 전달합니다. */
+        private boolean forwardHeader = true;
+    }
 }
@@ -0,0 +1,101 @@
+package dev.syntax.global.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import dev.syntax.global.exception.CoreApiException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 Core 클라이언트가 공통으로 사용하는 실행기입니다.
+ * <p>
+ * 동기 Core 클라이언트 호출을 {@code coreClientExecutor}(SecurityContext 전달, 크기 제한)에서
+ * 실행하고 {@link CompletableFuture}로 반환합니다. 요청 마감 시각({@link RequestDeadline})도 함께 전달합니다.
+ * 실행 풀이 가득 차 작업이 거절되면 {@link ErrorBaseCode#CORE_API_UNAVAILABLE}로 실패한 future를 반환합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * CompletableFuture<CoreUserAccountListRes> accounts = coreAccountAsyncClient.getUserAccounts();
+ * CompletableFuture<StocksRes> stocks = coreInvestmentAsyncClient.getStocksForBuy();
+ * CoreUserAccountListRes res = CoreAsyncExecutor.join(accounts);
+ * }</pre>
+ */
+@Slf4j
+@Component
+public class CoreAsyncExecutor {
+
+	private final Executor executor;
+	private final Counter rejected;
+
+	public CoreAsyncExecutor(@Qualifier("coreClientExecutor") Executor executor, MeterRegistry meterRegistry) {
+		this.executor = executor;
+		this.rejected = meterRegistry.counter("core.client.async.rejected");
+	}
+
+	/**
+	 * 결과가 있는 Core 호출을 비동기로 실행합니다.
+	 *
+	 * @param call 동기 Core 클라이언트 호출
+	 * @return 호출 결과 future
+	 */
+	public <T> CompletableFuture<T> supply(Supplier<T> call) {
+		try {
+			return CompletableFuture.supplyAsync(RequestDeadline.wrap(call), executor);
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			log.warn("[Core 비동기 호출 거절] 실행 풀 포화");
+			return CompletableFuture.failedFuture(new CoreApiException(
+				ErrorBaseCode.CORE_API_UNAVAILABLE,
+				HttpStatus.SERVICE_UNAVAILABLE,
+				"Core 비동기 호출 실행 풀이 가득 찼습니다."
+			));
+		}
+	}
+
+	/**
+	 * 결과가 없는 Core 호출을 비동기로 실행합니다.
+	 *
+	 * @param call 동기 Core 클라이언트 호출
+	 * @return 완료 future
+	 */
+	public CompletableFuture<Void> run(Runnable call) {
+		return supply(() -> {
+			call.run();
+			return null;
+		});
+	}
+
+	/**
+	 * future의 결과를 기다립니다.
+	 * <p>
+	 * Core 호출에서 발생한 예외({@link CoreApiException}, BusinessException 등)를
+	 * {@link CompletionException}으로 감싸지 않고 그대로 던져 전역 예외 처리 흐름을 유지합니다.
+	 * </p>
+	 *
+	 * @param future Core 호출 future
+	 * @return 호출 결과
+	 */
+	public static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package dev.syntax.global.core;
+
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Core 서버 호출 메트릭({@code core.client.requests}) 관측 규칙입니다.
+ * <p>
+ * Spring 기본 태그(uri 템플릿, method, status, outcome, exception, client.name)에
+ * {@link CoreApiFamily} 기준의 {@code family} 태그를 추가합니다.
+ * {@code uri} 태그는 요청 URL이 아닌 URI 템플릿이므로, 클라이언트는 경로/쿼리 값을
+ * 문자열로 이어 붙이지 말고 반드시 템플릿 변수로 전달해야 합니다.
+ * </p>
+ */
+public class CoreClientRequestObservationConvention extends DefaultClientRequestObservationConvention {
+
+	public static final String METRIC_NAME = "core.client.requests";
+
+	private static final String NON_CORE_FAMILY = "none";
+
+	public CoreClientRequestObservationConvention() {
+		super(METRIC_NAME);
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+		return super.getLowCardinalityKeyValues(context).and(family(context));
+	}
+
+	private KeyValue family(ClientRequestObservationContext context) {
+		String family = context.getCarrier() == null ? NON_CORE_FAMILY
+			: CoreApiFamily.fromPath(context.getCarrier().getURI().getPath())
+				.map(CoreApiFamily::getTag)
+				.orElse(NON_CORE_FAMILY);
+		return KeyValue.of("family", family);
+	}
+}
@@ -0,0 +1,239 @@
+package dev.syntax.global.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import dev.syntax.global.exception.CoreApiException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Core 호출 전체의 동시 호출 수를 응답 시간에 맞춰 조절하는 RestTemplate 인터셉터입니다.
+ * <p>
+ * 고정된 풀 크기 대신, 평소 응답 시간(장기 평균)과 최근 응답 시간(단기 평균)의 비율(gradient)로
+ * Core가 감당할 수 있는 동시 호출 한도를 찾아갑니다.
+ * </p>
+ * <ul>
+ *   <li>최근 응답이 평소보다 {@code rtt-tolerance}배 넘게 느려지면 한도를 줄입니다.</li>
+ *   <li>응답 시간이 평소 수준이고 한도의 절반 이상을 사용 중이면 한도를 조금씩 늘립니다.</li>
+ *   <li>I/O 예외, 5xx, 429 응답은 과부하 신호로 보고 한도에 {@code backoff-ratio}를 곱합니다.</li>
+ *   <li>자리는 응답 본문을 읽고 응답을 닫을 때 반납하며, 응답 시간도 이때까지로 잽니다.
+ *       본문을 읽는 중 발생한 I/O 예외도 과부하 신호로 봅니다.</li>
+ * </ul>
+ * <p>
+ * 한도에 도달한 요청은 {@code max-queue-wait}까지 기다린 뒤에도 자리가 없으면
+ * Core를 호출하지 않고 {@link ErrorBaseCode#CORE_API_UNAVAILABLE}로 즉시 실패하여,
+ * Core 장애 시 Tomcat 스레드가 Core 응답을 기다리며 쌓이지 않도록 합니다.
+ * </p>
+ * <p>
+ * 재시도/헤지 대기까지 포함해 보호하도록 가장 바깥 인터셉터로 등록합니다.
+ * 현재 한도는 {@code core.client.limit}, 진행 중인 호출 수는 {@code core.client.limit.inflight} 게이지로,
+ * 거절 건수는 {@code core.client.rejected}(reason=limit) 카운터로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CoreConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+	/** 단기/장기 응답 시간 지수 이동 평균의 표본 수 */
+	private static final int SHORT_WINDOW = 10;
+	private static final int LONG_WINDOW = 600;
+
+	private final CoreApiProperties.Limiter config;
+	private final MeterRegistry meterRegistry;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+
+	/** 이하 필드는 {@link #lock}으로 보호 */
+	private double limit;
+	private int inflight;
+	private double shortRttNanos;
+	private double longRttNanos;
+
+	public CoreConcurrencyLimitInterceptor(CoreApiProperties properties, MeterRegistry meterRegistry) {
+		this.config = properties.getLimiter();
+		this.meterRegistry = meterRegistry;
+		this.limit = config.getInitialLimit();
+
+		Gauge.builder("core.client.limit", this, CoreConcurrencyLimitInterceptor::getLimit)
+			.description("Core 호출의 현재 동시 호출 한도")
+			.register(meterRegistry);
+		Gauge.builder("core.client.limit.inflight", this, CoreConcurrencyLimitInterceptor::getInflight)
+			.description("동시 호출 한도에 포함되어 진행 중인 Core 호출 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+
+		CoreApiFamily family = CoreApiFamily.fromPath(request.getURI().getPath()).orElse(null);
+		if (!config.isEnabled() || family == null) {
+			return execution.execute(request, body);
+		}
+
+		int inflightAtStart = acquire(family);
+		long start = System.nanoTime();
+		ClientHttpResponse response = null;
+		boolean overloaded;
+		try {
+			response = execution.execute(request, body);
+			int status = response.getStatusCode().value();
+			overloaded = status >= 500 || status == HttpStatus.TOO_MANY_REQUESTS.value();
+		} catch (IOException e) {
+			closeQuietly(response);
+			release(System.nanoTime() - start, inflightAtStart, Outcome.DROPPED);
+			throw e;
+		} catch (RuntimeException | Error e) {
+			// 그 외 예외(서킷 브레이커 차단 등)는 Core 응답 시간과 무관하므로 한도에 반영하지 않음
+			closeQuietly(response);
+			release(System.nanoTime() - start, inflightAtStart, Outcome.IGNORED);
+			throw e;
+		}
+
+		// 본문 전송까지 한도에 포함하도록 응답을 닫을 때 자리를 반납하고 응답 시간을 기록
+		return new CoreReleasingResponse(response, bodyFailure -> release(System.nanoTime() - start,
+			inflightAtStart, overloaded || bodyFailure != null ? Outcome.DROPPED : Outcome.SAMPLED));
+	}
+
+	/**
+	 * 현재 동시 호출 한도를 반환합니다.
+	 *
+	 * @return 동시 호출 한도
+	 */
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int)limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 한도에 포함되어 진행 중인 호출 수를 반환합니다.
+	 *
+	 * @return 진행 중인 호출 수
+	 */
+	public int getInflight() {
+		lock.lock();
+		try {
+			return inflight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 한도 안에서 자리를 얻을 때까지 최대 {@code max-queue-wait} 동안 기다립니다.
+	 *
+	 * @return 자리를 얻은 후 진행 중인 호출 수
+	 */
+	private int acquire(CoreApiFamily family) throws IOException {
+		long remainingNanos = config.getMaxQueueWait().toNanos();
+		lock.lock();
+		try {
+			while (inflight >= (int)limit) {
+				if (remainingNanos <= 0) {
+					throw reject(family);
+				}
+				remainingNanos = released.awaitNanos(remainingNanos);
+			}
+			return ++inflight;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Core 동시 호출 한도 대기 중 인터럽트되었습니다.");
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void release(long rttNanos, int inflightAtStart, Outcome outcome) {
+		lock.lock();
+		try {
+			inflight--;
+			if (outcome == Outcome.DROPPED) {
+				limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+			} else if (outcome == Outcome.SAMPLED) {
+				update(rttNanos, inflightAtStart);
+			}
+			released.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 응답 시간 표본 하나로 한도를 갱신합니다. (Gradient 방식)
+	 * <p>
+	 * {@code gradient = clamp(longRtt * tolerance / shortRtt, 0.5, 1.0)},
+	 * {@code newLimit = limit * gradient + sqrt(limit)} 를 {@code smoothing} 비율로 반영합니다.
+	 * </p>
+	 */
+	private void update(long rttNanos, int inflightAtStart) {
+		if (longRttNanos == 0) {
+			shortRttNanos = rttNanos;
+			longRttNanos = rttNanos;
+			return;
+		}
+		shortRttNanos = ema(shortRttNanos, rttNanos, SHORT_WINDOW);
+		longRttNanos = ema(longRttNanos, rttNanos, LONG_WINDOW);
+
+		// 평소보다 훨씬 빨라졌다면(장애 회복 등) 장기 평균을 빠르게 따라 내려감
+		if (longRttNanos > shortRttNanos * 2) {
+			longRttNanos *= 0.95;
+		}
+
+		// 한도의 절반도 쓰지 않는 중에는 한도를 늘릴 근거가 없음
+		if (inflightAtStart < limit / 2 && shortRttNanos <= longRttNanos * config.getRttTolerance()) {
+			return;
+		}
+
+		double gradient = Math.max(0.5, Math.min(1.0, longRttNanos * config.getRttTolerance() / shortRttNanos));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+		newLimit = limit * (1 - config.getSmoothing()) + newLimit * config.getSmoothing();
+		limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), newLimit));
+	}
+
+	private static double ema(double current, long sample, int window) {
+		double alpha = 2.0 / (window + 1);
+		return current * (1 - alpha) + sample * alpha;
+	}
+
+	private static void closeQuietly(ClientHttpResponse response) {
+		if (response != null) {
+			response.close();
+		}
+	}
+
+	private CoreApiException reject(CoreApiFamily family) {
+		meterRegistry.counter("core.client.rejected", "family", family.getTag(), "reason", "limit").increment();
+		log.warn("[Core API 호출 차단] family={}, reason=limit, limit={}", family.getTag(), (int)limit);
+		return new CoreApiException(
+			ErrorBaseCode.CORE_API_UNAVAILABLE,
+			HttpStatus.SERVICE_UNAVAILABLE,
+			"Core 동시 호출 한도를 초과했습니다. (limit=" + (int)limit + ")"
+		);
+	}
+
+	private enum Outcome {
+		/** 응답 시간을 한도 계산에 반영 */
+		SAMPLED,
+		/** 과부하 신호 (I/O 예외, 본문 읽기 실패, 5xx, 429) */
+		DROPPED,
+		/** 한도에 반영하지 않음 */
+		IGNORED
+	}
+}
@@ -0,0 +1,67 @@
+package dev.syntax.global.core;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import dev.syntax.global.exception.CoreApiException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 마감 시각({@link RequestDeadline})이 지났거나 임박한 경우 Core를 호출하지 않고 즉시 실패하는 RestTemplate 인터셉터입니다.
+ * <p>
+ * 남은 시간이 {@code core.api.deadline.min-remaining}보다 적으면
+ * {@link ErrorBaseCode#CORE_API_DEADLINE_EXCEEDED}(504)로 실패하고,
+ * 그 외에는 설정에 따라 남은 시간을 {@code X-Request-Deadline} 헤더(밀리초)로 Core에 전달합니다.
+ * 응답 대기 시간을 남은 시간으로 줄이는 것은 {@code CoreRestTemplateConfig}의 요청 컨텍스트에서 처리합니다.
+ * </p>
+ * <p>
+ * 한도/벌크헤드 자리를 차지하기 전에 판단하도록 가장 바깥 인터셉터로 등록합니다.
+ * 거절 건수는 {@code core.client.rejected}(family, reason=deadline) 카운터로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoreDeadlineInterceptor implements ClientHttpRequestInterceptor {
+
+	private final CoreApiProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+
+		CoreApiFamily family = CoreApiFamily.fromPath(request.getURI().getPath()).orElse(null);
+		Duration remaining = RequestDeadline.remaining();
+		if (family == null || remaining == null) {
+			return execution.execute(request, body);
+		}
+
+		CoreApiProperties.Deadline config = properties.getDeadline();
+		if (remaining.compareTo(config.getMinRemaining()) < 0) {
+			meterRegistry.counter("core.client.rejected", "family", family.getTag(), "reason", "deadline").increment();
+			log.warn("[Core API 호출 차단] family={}, reason=deadline, remaining={}ms",
+				family.getTag(), remaining.toMillis());
+			throw new CoreApiException(
+				ErrorBaseCode.CORE_API_DEADLINE_EXCEEDED,
+				HttpStatus.GATEWAY_TIMEOUT,
+				"요청 처리 시간이 초과되어 Core " + family.getTag() + " API를 호출하지 않았습니다."
+			);
+		}
+
+		if (config.isForwardHeader()) {
+			request.getHeaders().set(RequestDeadline.HEADER, String.valueOf(remaining.toMillis()));
+		}
+		return execution.execute(request, body);
+	}
+}
@@ -0,0 +1,269 @@
+package dev.syntax.global.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회(GET) Core 호출의 꼬리 지연을 줄이기 위해 요청을 헤지(hedge)하는 RestTemplate 인터셉터입니다.
+ * <p>
+ * 호출이 계열별 최근 응답 시간의 {@code delay-percentile} 분위수 안에 끝나지 않으면
+ * 같은 요청을 한 번 더 보내고, 먼저 도착한 응답을 사용합니다. 늦게 도착한 응답은 바로 닫아 연결을 반납합니다.
+ * </p>
+ * <ul>
+ *   <li>대상: {@code core.api.hedge.families}에 속한 GET 호출 (기본값: 계좌, 거래 내역, 투자)</li>
+ *   <li>예산: 호출마다 {@code budget-ratio}만큼 쌓이고 헤지 한 번에 1씩 소모 ({@code budget-burst} 상한)</li>
+ *   <li>첫 요청이 헤지 전에 실패하면 헤지하지 않고 그대로 실패합니다. (재시도는 이 인터셉터의 역할이 아님)</li>
+ *   <li>요청 마감 시각({@link RequestDeadline})은 헤지 전용 풀의 스레드로 전달됩니다.</li>
+ * </ul>
+ * <p>
+ * 요청을 다시 실행하므로 {@link CoreRetryInterceptor}와 마찬가지로 헤더를 추가하는 인터셉터들보다 뒤에 등록해야 합니다.
+ * 헤지 수는 {@code core.client.hedge.fired}, 헤지 요청이 먼저 응답한 수는 {@code core.client.hedge.won},
+ * 예산 부족으로 헤지하지 않은 수는 {@code core.client.hedge.throttled} 카운터(family 태그)로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CoreHedgingInterceptor implements ClientHttpRequestInterceptor {
+
+	private static final String METRIC_PREFIX = "core.client.hedge";
+
+	/** 분위수 대기 시간을 다시 계산하는 주기 */
+	private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final CoreApiProperties.Hedge config;
+	private final Executor executor;
+	private final Map<CoreApiFamily, FamilyState> states = new EnumMap<>(CoreApiFamily.class);
+
+	public CoreHedgingInterceptor(
+		CoreApiProperties properties,
+		@Qualifier("coreHedgeExecutor") Executor executor,
+		MeterRegistry meterRegistry
+	) {
+		this.config = properties.getHedge();
+		this.executor = executor;
+		for (CoreApiFamily family : CoreApiFamily.values()) {
+			states.put(family, new FamilyState(family, config, meterRegistry));
+		}
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+
+		if (!config.isEnabled() || request.getMethod() != HttpMethod.GET) {
+			return execution.execute(request, body);
+		}
+		CoreApiFamily family = CoreApiFamily.fromPath(request.getURI().getPath())
+			.filter(config.getFamilies()::contains)
+			.orElse(null);
+		if (family == null) {
+			return execution.execute(request, body);
+		}
+
+		FamilyState state = states.get(family);
+		state.deposit();
+
+		Race race = new Race(state);
+		if (!race.launch(request, body, execution, false)) {
+			// 헤지 전용 풀이 가득 찬 경우: 헤지 없이 호출 스레드에서 실행
+			return execution.execute(request, body);
+		}
+
+		try {
+			return race.result.get(state.delayNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			if (!state.tryWithdraw()) {
+				state.throttled.increment();
+			} else if (race.launch(request, body, execution, true)) {
+				state.fired.increment();
+				log.debug("[Core 헤지] {} {}", request.getMethod(), request.getURI().getPath());
+			} else {
+				state.refund();
+			}
+			return await(race);
+		} catch (InterruptedException | ExecutionException e) {
+			return rethrow(race, e);
+		}
+	}
+
+	private ClientHttpResponse await(Race race) throws IOException {
+		try {
+			return race.result.get();
+		} catch (InterruptedException | ExecutionException e) {
+			return rethrow(race, e);
+		}
+	}
+
+	private ClientHttpResponse rethrow(Race race, Exception e) throws IOException {
+		if (e instanceof InterruptedException) {
+			// 진행 중인 요청의 응답은 도착하는 대로 닫히도록 결과를 취소
+			race.result.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Core 응답 대기 중 인터럽트되었습니다.");
+		}
+		Throwable cause = e.getCause();
+		if (cause instanceof IOException ioException) {
+			throw ioException;
+		}
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		throw new IOException(cause);
+	}
+
+	/**
+	 * 하나의 호출에 대해 경쟁하는 요청(최초 요청, 헤지 요청)들의 결과를 모읍니다.
+	 * <p>
+	 * 먼저 성공한 요청이 {@link #result}를 완료하고, 이후에 도착한 응답은 닫습니다.
+	 * 모든 요청이 실패한 경우에만 마지막 예외로 실패합니다.
+	 * </p>
+	 */
+	private final class Race {
+
+		private final FamilyState state;
+		private final CompletableFuture<ClientHttpResponse> result = new CompletableFuture<>();
+		private final AtomicInteger outstanding = new AtomicInteger();
+
+		private Race(FamilyState state) {
+			this.state = state;
+		}
+
+		/**
+		 * 요청 하나를 헤지 전용 풀에서 실행합니다.
+		 *
+		 * @return 실행을 시작했으면 true, 이미 결과가 정해졌거나 풀이 가득 차 실행하지 않았으면 false
+		 */
+		boolean launch(HttpRequest request, byte[] body, ClientHttpRequestExecution execution, boolean hedge) {
+			outstanding.incrementAndGet();
+			if (result.isDone()) {
+				outstanding.decrementAndGet();
+				return false;
+			}
+			long startNanos = System.nanoTime();
+			try {
+				executor.execute(RequestDeadline.wrap(() -> run(request, body, execution, hedge, startNanos)));
+				return true;
+			} catch (RejectedExecutionException e) {
+				outstanding.decrementAndGet();
+				return false;
+			}
+		}
+
+		private void run(HttpRequest request, byte[] body, ClientHttpRequestExecution execution, boolean hedge,
+			long startNanos) {
+
+			ClientHttpResponse response;
+			try {
+				response = execution.execute(request, body);
+			} catch (IOException | RuntimeException e) {
+				if (outstanding.decrementAndGet() == 0) {
+					result.completeExceptionally(e);
+				}
+				return;
+			}
+
+			state.latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+			if (!result.complete(response)) {
+				response.close();
+				return;
+			}
+			if (hedge) {
+				state.won.increment();
+			}
+		}
+	}
+
+	/**
+	 * Core API 계열별 응답 시간 분포, 헤지 예산, 메트릭을 관리합니다.
+	 */
+	private static final class FamilyState {
+
+		private final CoreApiProperties.Hedge config;
+		private final Timer latency;
+		private final Counter fired;
+		private final Counter won;
+		private final Counter throttled;
+
+		private double budget;
+		private volatile long cachedDelayNanos;
+		private volatile long delayComputedAtNanos;
+
+		private FamilyState(CoreApiFamily family, CoreApiProperties.Hedge config, MeterRegistry meterRegistry) {
+			this.config = config;
+			this.budget = config.getBudgetBurst();
+			this.latency = Timer.builder(METRIC_PREFIX + ".latency")
+				.description("헤지 대상 Core 조회 요청 하나의 응답 시간 (헤지 대기 시간 계산용)")
+				.tag("family", family.getTag())
+				.publishPercentiles(config.getDelayPercentile())
+				.distributionStatisticExpiry(Duration.ofMinutes(1))
+				.register(meterRegistry);
+			this.fired = meterRegistry.counter(METRIC_PREFIX + ".fired", "family", family.getTag());
+			this.won = meterRegistry.counter(METRIC_PREFIX + ".won", "family", family.getTag());
+			this.throttled = meterRegistry.counter(METRIC_PREFIX + ".throttled", "family", family.getTag());
+		}
+
+		synchronized void deposit() {
+			budget = Math.min(budget + config.getBudgetRatio(), config.getBudgetBurst());
+		}
+
+		synchronized boolean tryWithdraw() {
+			if (budget < 1) {
+				return false;
+			}
+			budget -= 1;
+			return true;
+		}
+
+		synchronized void refund() {
+			budget = Math.min(budget + 1, config.getBudgetBurst());
+		}
+
+		/**
+		 * 헤지 요청을 보내기까지 기다릴 시간을 반환합니다. 분위수 계산 비용을 줄이기 위해 1초 동안 재사용합니다.
+		 */
+		long delayNanos() {
+			long now = System.nanoTime();
+			if (delayComputedAtNanos != 0 && now - delayComputedAtNanos < DELAY_REFRESH_NANOS) {
+				return cachedDelayNanos;
+			}
+			long delay = config.getInitialDelay().toNanos();
+			if (latency.count() >= config.getMinSamples()) {
+				for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+					if (value.value() > 0) {
+						delay = (long)value.value(TimeUnit.NANOSECONDS);
+					}
+				}
+			}
+			cachedDelayNanos = Math.max(delay, config.getMinDelay().toNanos());
+			delayComputedAtNanos = now;
+			return cachedDelayNanos;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package dev.syntax.global.core;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 응답을 닫을 때 Core 호출이 끝났음을 알리는 {@link ClientHttpResponse} 래퍼입니다.
+ * <p>
+ * RestTemplate은 인터셉터 체인이 응답 헤더를 반환한 뒤에 본문을 읽으므로,
+ * 인터셉터 안에서 동시 호출 한도나 벌크헤드 자리를 반납하면 본문 전송 구간이 보호되지 않습니다.
+ * 이 래퍼는 {@link #close()}가 처음 호출될 때 한 번만 완료 콜백을 실행하며,
+ * 본문을 읽는 중 발생한 I/O 예외(읽기 타임아웃, 연결 재설정 등)를 콜백에 함께 전달합니다.
+ * </p>
+ */
+final class CoreReleasingResponse implements ClientHttpResponse {
+
+	/**
+	 * 응답을 닫을 때 실행할 콜백입니다.
+	 */
+	@FunctionalInterface
+	interface Completion {
+
+		/**
+		 * @param bodyFailure 본문을 읽는 중 발생한 첫 I/O 예외, 없으면 null
+		 */
+		void complete(IOException bodyFailure);
+	}
+
+	private final ClientHttpResponse delegate;
+	private final Completion completion;
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private volatile IOException bodyFailure;
+	private InputStream body;
+
+	CoreReleasingResponse(ClientHttpResponse delegate, Completion completion) {
+		this.delegate = delegate;
+		this.completion = completion;
+	}
+
+	@Override
+	public HttpStatusCode getStatusCode() throws IOException {
+		return delegate.getStatusCode();
+	}
+
+	@Override
+	public String getStatusText() throws IOException {
+		return delegate.getStatusText();
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		return delegate.getHeaders();
+	}
+
+	@Override
+	public InputStream getBody() throws IOException {
+		if (body == null) {
+			try {
+				body = new FailureRecordingStream(delegate.getBody());
+			} catch (IOException e) {
+				record(e);
+				throw e;
+			}
+		}
+		return body;
+	}
+
+	@Override
+	public void close() {
+		try {
+			delegate.close();
+		} finally {
+			if (closed.compareAndSet(false, true)) {
+				completion.complete(bodyFailure);
+			}
+		}
+	}
+
+	private void record(IOException e) {
+		if (bodyFailure == null) {
+			bodyFailure = e;
+		}
+	}
+
+	/**
+	 * 본문을 읽는 중 발생한 I/O 예외를 기록합니다.
+	 */
+	private final class FailureRecordingStream extends FilterInputStream {
+
+		private FailureRecordingStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			try {
+				return super.read();
+			} catch (IOException e) {
+				record(e);
+				throw e;
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			try {
+				return super.read(b, off, len);
+			} catch (IOException e) {
+				record(e);
+				throw e;
+			}
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			try {
+				return super.skip(n);
+			} catch (IOException e) {
+				record(e);
+				throw e;
+			}
+		}
+
+		@Override
+		public int available() throws IOException {
+			try {
+				return super.available();
+			} catch (IOException e) {
+				record(e);
+				throw e;
+			}
+		}
+	}
+}
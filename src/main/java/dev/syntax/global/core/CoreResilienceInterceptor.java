@@ -0,0 +1,123 @@
+package dev.syntax.global.core;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+
+import dev.syntax.global.exception.CoreApiException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Core API 계열별 서킷 브레이커와 세마포어 벌크헤드를 적용하는 RestTemplate 인터셉터입니다.
+ * <p>
+ * 요청 경로로 {@link CoreApiFamily}를 판별하여 해당 계열의 Resilience4j 인스턴스
+ * ({@code core-accounts}, {@code core-investments} 등)를 사용합니다.
+ * 서킷이 열려 있거나 벌크헤드가 가득 찬 경우 Core 서버를 호출하지 않고
+ * {@link ErrorBaseCode#CORE_API_UNAVAILABLE}로 즉시 실패합니다.
+ * </p>
+ * <p>
+ * I/O 예외와 5xx 응답은 실패로, 그 외 응답은 성공으로 기록합니다.
+ * 4xx는 비즈니스 오류이므로 서킷 상태에 영향을 주지 않습니다.
+ * 벌크헤드 자리 반납과 성공/실패 기록은 응답 본문을 읽고 응답을 닫을 때 하므로,
+ * 본문 전송 중인 호출도 벌크헤드에 포함되고 본문을 읽다 발생한 읽기 타임아웃/연결 재설정도 실패로 기록됩니다.
+ * 거절 건수는 {@code core.client.rejected}(family, reason) 카운터로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoreResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final BulkheadRegistry bulkheadRegistry;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+
+		CoreApiFamily family = CoreApiFamily.fromPath(request.getURI().getPath()).orElse(null);
+		if (family == null) {
+			// Core 서버가 아닌 외부 API 호출은 그대로 통과
+			return execution.execute(request, body);
+		}
+
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(family.instanceName());
+		Bulkhead bulkhead = bulkheadRegistry.bulkhead(family.instanceName());
+
+		if (!circuitBreaker.tryAcquirePermission()) {
+			throw reject(family, "circuit_open");
+		}
+		if (!bulkhead.tryAcquirePermission()) {
+			circuitBreaker.releasePermission();
+			throw reject(family, "bulkhead_full");
+		}
+
+		long start = System.nanoTime();
+		ClientHttpResponse response = null;
+		HttpStatusCode statusCode;
+		try {
+			response = execution.execute(request, body);
+			statusCode = response.getStatusCode();
+		} catch (IOException | RuntimeException e) {
+			if (response != null) {
+				response.close();
+			}
+			circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+			bulkhead.onComplete();
+			throw e;
+		} catch (Error e) {
+			circuitBreaker.releasePermission();
+			bulkhead.onComplete();
+			throw e;
+		}
+
+		// 본문 전송까지 벌크헤드에 포함하고, 본문 읽기 실패도 서킷 브레이커에 반영하도록 응답을 닫을 때 기록
+		return new CoreReleasingResponse(response, bodyFailure -> {
+			try {
+				record(circuitBreaker, statusCode, bodyFailure, System.nanoTime() - start);
+			} finally {
+				bulkhead.onComplete();
+			}
+		});
+	}
+
+	private static void record(CircuitBreaker circuitBreaker, HttpStatusCode statusCode, IOException bodyFailure,
+		long elapsed) {
+
+		if (bodyFailure != null) {
+			circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, bodyFailure);
+		} else if (statusCode.is5xxServerError()) {
+			HttpStatus status = HttpStatus.resolve(statusCode.value());
+			circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS,
+				new HttpServerErrorException(status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR));
+		} else {
+			circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private CoreApiException reject(CoreApiFamily family, String reason) {
+		meterRegistry.counter("core.client.rejected", "family", family.getTag(), "reason", reason).increment();
+		log.warn("[Core API 호출 차단] family={}, reason={}", family.getTag(), reason);
+		return new CoreApiException(
+			ErrorBaseCode.CORE_API_UNAVAILABLE,
+			HttpStatus.SERVICE_UNAVAILABLE,
+			"Core " + family.getTag() + " API 호출이 차단되었습니다. (" + reason + ")"
+		);
+	}
+}
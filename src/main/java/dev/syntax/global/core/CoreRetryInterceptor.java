@@ -0,0 +1,153 @@
+package dev.syntax.global.core;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상태를 변경하는 Core 호출에 멱등 키를 붙이고, Core에 도달하지 못한 실패만 재시도하는 RestTemplate 인터셉터입니다.
+ * <p>
+ * POST/PUT/PATCH/DELETE 요청에 {@code Idempotency-Key} 헤더(UUID)를 추가하고, 재시도도 같은 키로 보냅니다.
+ * 다만 현재 Core 서버가 이 키로 중복 요청을 걸러낸다는 보장이 없으므로(스텁 서버만 키를 읽음),
+ * 요청이 Core에 전달되지 않았음이 확실한 실패만 재시도합니다.
+ * 응답 읽기 타임아웃, 연결 리셋, 5xx 응답은 Core가 이미 요청을 처리했을 수 있으므로
+ * (매수/매도, 계좌 개설, 자동이체 등록이 중복 실행될 수 있음) 재시도하지 않고 그대로 반환합니다.
+ * Core의 멱등 키 지원이 확인되기 전까지 이 범위를 넓히지 않습니다.
+ * </p>
+ * <ul>
+ *   <li>재시도 대상: 연결 실패({@link ConnectException}, 연결 타임아웃, 호스트를 찾을 수 없음),
+ *       연결 풀에서 연결을 얻지 못한 경우({@link ConnectionRequestTimeoutException})</li>
+ *   <li>대기 시간: {@code initial-backoff}부터 {@code multiplier}배씩 증가 ({@code max-backoff} 상한), 절반 구간 지터</li>
+ *   <li>{@code max-attempts} 또는 {@code deadline}(요청 마감 시각이 더 이르면 그 시각)에 도달하면 마지막 실패를 그대로 반환</li>
+ * </ul>
+ * <p>
+ * 다시 실행할 때는 이후 인터셉터를 거치지 않고 바로 전송되므로, 헤더를 추가하는 인터셉터들보다 뒤에 등록해야 합니다.
+ * 재시도 수는 {@code core.client.retries}(family, method, outcome) 카운터로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoreRetryInterceptor implements ClientHttpRequestInterceptor {
+
+	/** 멱등 키 요청 헤더 이름 */
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	private static final Set<HttpMethod> MUTATING_METHODS =
+		Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+	/** 요청을 보내기 전에 발생하는 실패 (Core에 도달하지 않았으므로 재시도해도 중복 처리되지 않음) */
+	private static final List<Class<? extends IOException>> NOT_SENT_FAILURES = List.of(
+		ConnectException.class,
+		ConnectTimeoutException.class,
+		NoRouteToHostException.class,
+		UnknownHostException.class,
+		ConnectionRequestTimeoutException.class
+	);
+
+	private final CoreApiProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+
+		CoreApiFamily family = CoreApiFamily.fromPath(request.getURI().getPath()).orElse(null);
+		if (family == null || !MUTATING_METHODS.contains(request.getMethod())) {
+			return execution.execute(request, body);
+		}
+
+		if (!request.getHeaders().containsKey(IDEMPOTENCY_KEY_HEADER)) {
+			request.getHeaders().set(IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString());
+		}
+
+		CoreApiProperties.Retry retry = properties.getRetry();
+		if (!retry.isEnabled() || retry.getMaxAttempts() <= 1) {
+			return execution.execute(request, body);
+		}
+
+		long deadlineNanos = System.nanoTime() + RequestDeadline.cap(retry.getDeadline()).toNanos();
+		long backoffMillis = retry.getInitialBackoff().toMillis();
+
+		for (int attempt = 1; ; attempt++) {
+			IOException failure;
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				if (attempt > 1) {
+					record(family, request, "recovered");
+				}
+				return response;
+			} catch (IOException e) {
+				if (!isNotSent(e)) {
+					// Core가 이미 처리했을 수 있는 실패는 재시도하지 않음
+					throw e;
+				}
+				failure = e;
+			}
+
+			long sleepMillis = jitter(backoffMillis);
+			String giveUpReason = attempt >= retry.getMaxAttempts() ? "exhausted"
+				: System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepMillis) >= deadlineNanos ? "deadline"
+				: null;
+
+			if (giveUpReason != null) {
+				record(family, request, giveUpReason);
+				throw failure;
+			}
+
+			log.warn("[Core 재시도] {} {} attempt={}, 원인: {}", request.getMethod(), request.getURI().getPath(), attempt,
+				failure.getMessage());
+			record(family, request, "retried");
+
+			try {
+				Thread.sleep(sleepMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw failure;
+			}
+			backoffMillis = Math.min((long)(backoffMillis * retry.getMultiplier()), retry.getMaxBackoff().toMillis());
+		}
+	}
+
+	/**
+	 * 요청이 Core에 전달되기 전에 발생한 실패인지 확인합니다.
+	 */
+	private static boolean isNotSent(IOException e) {
+		return NOT_SENT_FAILURES.stream().anyMatch(type -> type.isInstance(e));
+	}
+
+	/**
+	 * 대기 시간의 절반은 고정, 나머지 절반은 무작위로 하여 동시에 실패한 요청들이 같은 순간에 재시도하지 않도록 합니다.
+	 */
+	private static long jitter(long backoffMillis) {
+		long half = backoffMillis / 2;
+		return half + ThreadLocalRandom.current().nextLong(half + 1);
+	}
+
+	private void record(CoreApiFamily family, HttpRequest request, String outcome) {
+		meterRegistry.counter("core.client.retries",
+			"family", family.getTag(),
+			"method", request.getMethod().name(),
+			"outcome", outcome
+		).increment();
+	}
+}
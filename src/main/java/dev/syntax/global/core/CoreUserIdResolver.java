@@ -0,0 +1,35 @@
+package dev.syntax.global.core;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import dev.syntax.global.auth.dto.UserContext;
+
+/**
+ * 현재 SecurityContext의 인증 사용자로부터 Core User ID를 꺼내는 유틸리티입니다.
+ * <p>
+ * Core 요청의 {@code X-Core-User-Id} 헤더와, Core 응답을 사용자 단위로 묶는
+ * 컴포넌트(요청 병합, 캐시 등)가 같은 기준으로 사용자를 식별하도록 합니다.
+ * </p>
+ */
+public final class CoreUserIdResolver {
+
+	/** Core 서버에 사용자를 전달하는 요청 헤더 이름 */
+	public static final String HEADER = "X-Core-User-Id";
+
+	private CoreUserIdResolver() {
+	}
+
+	/**
+	 * 현재 인증된 사용자의 Core User ID를 반환합니다.
+	 *
+	 * @return Core User ID, 인증 정보가 없거나 Core 계정이 없으면 null
+	 */
+	public static Long currentCoreUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof UserContext user) {
+			return user.getCoreUserId();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,89 @@
+package dev.syntax.global.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Core 응답을 채널 DB에 보관하기 위해 JSON + GZIP 형태로 직렬화/역직렬화하는 유틸리티입니다.
+ * <p>
+ * 마감된 달의 포트폴리오, 거래 내역처럼 다시 바뀌지 않는 Core 응답을
+ * 작은 크기로 저장하는 데 사용합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class GzipJsonCodec {
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 객체를 JSON으로 직렬화한 뒤 GZIP으로 압축합니다.
+	 *
+	 * @param value 직렬화할 객체
+	 * @return 압축된 바이트 배열과 압축 전 JSON 크기
+	 */
+	public Encoded encode(Object value) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(value);
+			try (OutputStream out = new GZIPOutputStream(buffer)) {
+				out.write(json);
+			}
+			return new Encoded(buffer.toByteArray(), json.length);
+		} catch (IOException e) {
+			throw new UncheckedIOException("GZIP JSON 직렬화에 실패했습니다.", e);
+		}
+	}
+
+	/**
+	 * {@link #encode(Object)}로 압축된 바이트 배열을 객체로 복원합니다.
+	 *
+	 * @param payload 압축된 바이트 배열
+	 * @param type    복원할 타입
+	 * @return 복원된 객체
+	 */
+	public <T> T decode(byte[] payload, Class<T> type) {
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+			return objectMapper.readValue(in, type);
+		} catch (IOException e) {
+			throw new UncheckedIOException("GZIP JSON 역직렬화에 실패했습니다.", e);
+		}
+	}
+
+	/**
+	 * {@link #encode(Object)}로 압축된 바이트 배열을 제네릭 타입 객체로 복원합니다.
+	 *
+	 * @param payload 압축된 바이트 배열
+	 * @param type    복원할 타입
+	 * @return 복원된 객체
+	 */
+	public <T> T decode(byte[] payload, TypeReference<T> type) {
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+			return objectMapper.readValue(in, type);
+		} catch (IOException e) {
+			throw new UncheckedIOException("GZIP JSON 역직렬화에 실패했습니다.", e);
+		}
+	}
+
+	/**
+	 * 압축 결과
+	 *
+	 * @param payload 압축된 바이트 배열
+	 * @param rawSize 압축 전 JSON 크기 (byte)
+	 */
+	public record Encoded(byte[] payload, int rawSize) {
+	}
+}
@@ -0,0 +1,112 @@
+package dev.syntax.global.core;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 현재 요청의 처리 마감 시각(deadline)을 스레드 단위로 보관하는 유틸리티입니다.
+ * <p>
+ * {@link dev.syntax.global.filter.DeadlineFilter}가 요청마다 마감 시각을 정하고,
+ * Core 호출은 남은 시간만큼만 응답을 기다립니다. 여러 Core 호출을 차례로 하는 요청도
+ * 전체가 하나의 예산을 나누어 쓰므로, 이미 성공할 수 없는 요청이 스레드와 Core 처리량을 계속 쓰지 않습니다.
+ * </p>
+ * <p>
+ * 다른 스레드에서 Core를 호출하는 경우 {@link #wrap(Supplier)}로 마감 시각을 함께 전달합니다.
+ * </p>
+ */
+public final class RequestDeadline {
+
+	/** 남은 시간(밀리초)을 주고받는 요청 헤더 이름 */
+	public static final String HEADER = "X-Request-Deadline";
+
+	private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+	private RequestDeadline() {
+	}
+
+	/**
+	 * 지금부터 주어진 시간 뒤를 현재 스레드의 마감 시각으로 정합니다.
+	 *
+	 * @param budget 요청 처리 예산
+	 */
+	public static void start(Duration budget) {
+		DEADLINE_NANOS.set(System.nanoTime() + budget.toNanos());
+	}
+
+	/**
+	 * 현재 스레드의 마감 시각을 제거합니다.
+	 */
+	public static void clear() {
+		DEADLINE_NANOS.remove();
+	}
+
+	/**
+	 * 마감 시각까지 남은 시간을 반환합니다.
+	 *
+	 * @return 남은 시간 (이미 지났으면 0 이하), 마감 시각이 없으면 null
+	 */
+	public static Duration remaining() {
+		Long deadlineNanos = DEADLINE_NANOS.get();
+		return deadlineNanos == null ? null : Duration.ofNanos(deadlineNanos - System.nanoTime());
+	}
+
+	/**
+	 * 주어진 타임아웃을 남은 시간 이하로 줄입니다.
+	 * <p>
+	 * HttpClient는 0을 무제한으로 해석하므로 최소 1ms를 반환합니다.
+	 * </p>
+	 *
+	 * @param timeout 설정된 타임아웃
+	 * @return 타임아웃과 남은 시간 중 작은 값, 마감 시각이 없으면 설정된 타임아웃
+	 */
+	public static Duration cap(Duration timeout) {
+		Duration remaining = remaining();
+		if (remaining == null || remaining.compareTo(timeout) >= 0) {
+			return timeout;
+		}
+		return remaining.toMillis() < 1 ? Duration.ofMillis(1) : remaining;
+	}
+
+	/**
+	 * 현재 스레드의 마감 시각을 실행 스레드로 전달하도록 작업을 감쌉니다.
+	 *
+	 * @param task 다른 스레드에서 실행할 작업
+	 * @return 마감 시각을 전달하는 작업 (마감 시각이 없으면 원래 작업)
+	 */
+	public static <T> Supplier<T> wrap(Supplier<T> task) {
+		Long deadlineNanos = DEADLINE_NANOS.get();
+		if (deadlineNanos == null) {
+			return task;
+		}
+		return () -> {
+			Long previous = DEADLINE_NANOS.get();
+			DEADLINE_NANOS.set(deadlineNanos);
+			try {
+				return task.get();
+			} finally {
+				if (previous == null) {
+					DEADLINE_NANOS.remove();
+				} else {
+					DEADLINE_NANOS.set(previous);
+				}
+			}
+		};
+	}
+
+	/**
+	 * 현재 스레드의 마감 시각을 실행 스레드로 전달하도록 작업을 감쌉니다.
+	 *
+	 * @param task 다른 스레드에서 실행할 작업
+	 * @return 마감 시각을 전달하는 작업 (마감 시각이 없으면 원래 작업)
+	 */
+	public static Runnable wrap(Runnable task) {
+		if (DEADLINE_NANOS.get() == null) {
+			return task;
+		}
+		Supplier<Void> wrapped = wrap(() -> {
+			task.run();
+			return null;
+		});
+		return wrapped::get;
+	}
+}
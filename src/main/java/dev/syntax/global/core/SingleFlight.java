@@ -0,0 +1,80 @@
+package dev.syntax.global.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나의 실제 호출로 합치는(single-flight) 유틸리티입니다.
+ * <p>
+ * 어떤 키에 대한 호출이 진행 중일 때 같은 키로 들어온 호출은 새 요청을 보내지 않고
+ * 진행 중인 호출의 결과(또는 예외)를 그대로 공유합니다.
+ * 호출이 끝나면 키가 제거되므로 결과를 캐시하지는 않습니다.
+ * </p>
+ *
+ * <pre>{@code
+ * SingleFlight<Long, CoreUserAccountListRes> flight = new SingleFlight<>(counter);
+ * CoreUserAccountListRes res = flight.execute(coreUserId, () -> fetchFromCore());
+ * }</pre>
+ *
+ * @param <K> 호출을 구분하는 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Counter coalescedCounter;
+
+	/**
+	 * @param coalescedCounter 진행 중인 호출에 합류한(실제 호출을 생략한) 호출 수를 기록할 카운터
+	 */
+	public SingleFlight(Counter coalescedCounter) {
+		this.coalescedCounter = coalescedCounter;
+	}
+
+	/**
+	 * 키에 대해 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 호출합니다.
+	 *
+	 * @param key      호출 키
+	 * @param supplier 실제 호출
+	 * @return 호출 결과 (합류한 호출끼리는 같은 인스턴스)
+	 */
+	public V execute(K key, Supplier<V> supplier) {
+		CompletableFuture<V> call = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+
+		if (existing != null) {
+			coalescedCounter.increment();
+			return await(existing);
+		}
+
+		try {
+			V result = supplier.get();
+			call.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, call);
+		}
+	}
+
+	private V await(CompletableFuture<V> call) {
+		try {
+			return call.join();
+		} catch (CompletionException e) {
+			// 원래 호출에서 발생한 예외를 그대로 전달하여 전역 예외 처리 흐름을 유지
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package dev.syntax.global.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 처리 마감 시각(deadline)을 정하는 서블릿 필터.
+ *
+ * <p>
+ * 마감 시각은 {@code core.api.deadline.budget} 뒤이며, 클라이언트가 {@code X-Request-Deadline}
+ * 헤더(남은 밀리초)를 보낸 경우 둘 중 이른 시각을 사용합니다.
+ * 요청 안의 Core 호출들은 {@link RequestDeadline}의 남은 시간만큼만 응답을 기다리고,
+ * 남은 시간이 없으면 Core를 호출하지 않고 실패합니다.
+ * </p>
+ *
+ * <p><b>예외:</b> {@code /actuator}, {@code /internal}로 시작하는 경로에는 마감 시각을 두지 않습니다.</p>
+ *
+ * @since 1.0
+ */
+@Profile("!test") // 테스트 환경에서는 사용 x
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // DrainFilter 바로 다음
+public class DeadlineFilter extends OncePerRequestFilter {
+    private final CoreApiProperties properties;
+    public DeadlineFilter(CoreApiProperties properties) { this.properties = properties; }
+
+    /**
+     * 마감 시각을 정하고 체인을 진행한 뒤, 처리 완료 후(정상/예외 무관) 반드시 제거합니다.
+     *
+     * @param req   현재 HTTP 요청
+     * @param res   현재 HTTP 응답
+     * @param chain 다음 필터로 요청을 전달하기 위한 체인
+     * @throws ServletException 필터 처리 중 서블릿 예외가 발생한 경우
+     * @throws IOException      I/O 예외가 발생한 경우
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        CoreApiProperties.Deadline config = properties.getDeadline();
+        String uri = req.getRequestURI();
+        if (!config.isEnabled() || uri.startsWith("/actuator") || uri.startsWith("/internal")) {
+            chain.doFilter(req, res);
+            return;
+        }
+
+        RequestDeadline.start(budget(config.getBudget(), req.getHeader(RequestDeadline.HEADER)));
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    /**
+     * 설정된 예산과 클라이언트가 보낸 남은 시간 중 작은 값을 반환합니다. (헤더 값이 올바르지 않으면 무시)
+     */
+    private static Duration budget(Duration configured, String header) {
+        if (header == null || header.isBlank()) {
+            return configured;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            return millis >= 0 && millis < configured.toMillis() ? Duration.ofMillis(millis) : configured;
+        } catch (NumberFormatException e) {
+            return configured;
+        }
+    }
+}
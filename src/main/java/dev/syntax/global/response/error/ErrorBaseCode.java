@@ -155,6 +155,7 @@ public enum ErrorBaseCode implements ErrorCode {
 	CORE_API_NOT_FOUND(HttpStatus.NOT_FOUND, "Core 서버에서 요청한 리소스를 찾을 수 없습니다."),
 	CORE_API_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "Core 서버 응답 시간이 초과되었습니다."),
 	CORE_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Core 서버를 사용할 수 없습니다."),
+	CORE_API_DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "요청 처리 시간이 초과되었습니다."),
 
 	/**
 	 * 501 NOT IMPLEMENTED
@@ -170,6 +171,7 @@ public enum ErrorBaseCode implements ErrorCode {
 	 * 503 SERVICE_UNAVAILABLE
 	 */
 	SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE"),
+	PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 비밀번호를 확인할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	/**
 	 * 504 GATEWAY_TIMEOUT
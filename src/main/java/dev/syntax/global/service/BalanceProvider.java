@@ -25,9 +25,10 @@ import dev.syntax.domain.user.entity.User;
  * Core 서비스 연동 시 자녀 수 또는 계좌 타입 수만큼 API가 반복 호출되는
  * N+1 문제를 방지하기 위한 설계입니다.</p>
  *
- * <p>Local 환경에서는 LocalBalanceProvider에서 기본값(0L)을 반환하며,
- * 운영 환경에서는 CoreBalanceProvider에서 실제 Core API 연동 로직을 구현합니다.</p>
+ * <p>Local 환경(local 프로필)에서는 LocalBalanceProvider에서 기본값(0L)을 반환하며,
+ * 그 외 환경에서는 CoreBalanceProvider가 가족 단위 Core 계좌 목록 조회로 실제 잔액을 반환합니다.</p>
  *
+ * @see dev.syntax.global.service.CoreBalanceProvider
  * @see dev.syntax.global.service.LocalBalanceProvider
  * @see dev.syntax.domain.user.entity.User
  * @see dev.syntax.domain.account.enums.AccountType
@@ -0,0 +1,228 @@
+package dev.syntax.global.service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.Hibernate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.syntax.domain.account.client.CoreAccountAsyncClient;
+import dev.syntax.domain.account.client.CoreAccountClient;
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
+import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
+import dev.syntax.domain.account.dto.core.CoreChildAccountInfoRes;
+import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
+import dev.syntax.domain.account.enums.AccountType;
+import dev.syntax.domain.user.entity.User;
+import dev.syntax.domain.user.entity.UserRelationship;
+import dev.syntax.domain.user.enums.Role;
+import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.CoreAsyncExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Core 계좌 목록을 기반으로 잔액을 조회하는 {@link BalanceProvider} 구현체입니다.
+ * <p>
+ * Core 계좌 목록은 부모 기준으로 조회하면 자녀 계좌까지 함께 내려오므로,
+ * 가족(부모) 단위로 한 번 조회한 뒤 부모/자녀 각각의 계좌 타입별 잔액을 Core User ID 단위로 캐시합니다.
+ * 같은 가족의 다른 자녀 잔액은 이 캐시에서 응답하므로 자녀 수만큼 Core를 호출하지 않습니다.
+ * </p>
+ * <p>
+ * 캐시에 없는 잔액은 {@link CoreAccountSnapshotCache}(stale-while-revalidate)를 거치지 않고
+ * Core에서 바로 조회하므로, 응답하는 잔액은 최대 {@code core.api.balance-cache.ttl}만큼만 오래되었습니다.
+ * </p>
+ * <ul>
+ *   <li>캐시 보관 시간: {@code core.api.balance-cache.ttl}</li>
+ *   <li>{@link CoreAccountSnapshotCache}의 스냅샷이 무효화되면 해당 사용자의 잔액도 함께 무효화됩니다.</li>
+ *   <li>여러 가족의 잔액을 조회할 때는 가족별 계좌 목록 조회를 병렬로 보냅니다.</li>
+ * </ul>
+ * <p>
+ * 캐시 통계는 {@code core.balance} 캐시 메트릭으로, 가족 단위 조회 수는
+ * {@code core.balance.family.fetches} 카운터로 노출됩니다.
+ * </p>
+ */
+@Service
+@Profile("!local")
+public class CoreBalanceProvider implements BalanceProvider {
+
+	private static final String METRIC_PREFIX = "core.balance";
+
+	private final CoreAccountClient coreAccountClient;
+	private final CoreAccountAsyncClient coreAccountAsyncClient;
+	private final UserRepository userRepository;
+	private final Cache<Long, Map<AccountType, Long>> cache;
+	private final Counter familyFetches;
+
+	public CoreBalanceProvider(
+		CoreAccountClient coreAccountClient,
+		CoreAccountAsyncClient coreAccountAsyncClient,
+		CoreAccountSnapshotCache snapshotCache,
+		UserRepository userRepository,
+		CoreApiProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.coreAccountClient = coreAccountClient;
+		this.coreAccountAsyncClient = coreAccountAsyncClient;
+		this.userRepository = userRepository;
+
+		CoreApiProperties.BalanceCache config = properties.getBalanceCache();
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(config.getMaxSize())
+			.expireAfterWrite(config.getTtl())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_PREFIX);
+		this.familyFetches = meterRegistry.counter(METRIC_PREFIX + ".family.fetches");
+
+		snapshotCache.addEvictionListener(cache::invalidate);
+	}
+
+	@Override
+	public long getUserTotalBalance(User user) {
+		return getBalancesByType(user).values().stream()
+			.mapToLong(Long::longValue)
+			.sum();
+	}
+
+	@Override
+	public long getUserBalanceByType(User user, AccountType type) {
+		return getBalancesByType(user).getOrDefault(type, 0L);
+	}
+
+	/**
+	 * 사용자와 그 가족의 잔액을 조회합니다.
+	 * <p>
+	 * 사용자가 보유한 계좌 타입만 포함되며, 보유하지 않은 계좌 타입은 맵에 없습니다.
+	 * 자녀의 부모 관계가 로드되어 있으면 부모 기준으로 조회하여 형제 자녀의 잔액까지 함께 캐시합니다.
+	 * </p>
+	 */
+	@Override
+	public Map<AccountType, Long> getBalancesByType(User user) {
+		Long coreUserId = user.getCoreUserId();
+		if (coreUserId == null) {
+			return Map.of();
+		}
+		Map<AccountType, Long> cached = cache.getIfPresent(coreUserId);
+		if (cached != null) {
+			return cached;
+		}
+
+		Long familyKey = Objects.requireNonNullElse(loadedParentCoreUserId(user), coreUserId);
+		return index(familyKey, coreAccountClient.getLatestUserAccounts(familyKey))
+			.getOrDefault(coreUserId, Map.of());
+	}
+
+	/**
+	 * 여러 사용자의 총 잔액을 조회합니다.
+	 * <p>
+	 * 캐시에 없는 사용자는 부모 기준으로 묶어 가족마다 한 번씩만 Core 계좌 목록을 조회합니다.
+	 * Core 사용자가 아니거나 Core 응답에 없는 사용자의 잔액은 0입니다.
+	 * </p>
+	 *
+	 * @param userIds 채널 사용자 ID 목록
+	 * @return 채널 사용자 ID → 총 잔액 (요청 순서 유지)
+	 */
+	@Override
+	public Map<Long, Long> getBalancesForUsers(List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Long, Long> coreUserIds = new HashMap<>();
+		Map<Long, Map<AccountType, Long>> balances = new HashMap<>();
+		Map<Long, CompletableFuture<CoreUserAccountListRes>> families = new LinkedHashMap<>();
+
+		for (UserRepository.CoreUserIdView row : userRepository.findCoreUserIdsWithParent(userIds)) {
+			Long coreUserId = row.getCoreUserId();
+			if (coreUserId == null || coreUserIds.putIfAbsent(row.getUserId(), coreUserId) != null) {
+				continue;
+			}
+			Map<AccountType, Long> cached = cache.getIfPresent(coreUserId);
+			if (cached != null) {
+				balances.put(coreUserId, cached);
+				continue;
+			}
+			Long familyKey = Objects.requireNonNullElse(row.getParentCoreUserId(), coreUserId);
+			families.computeIfAbsent(familyKey, coreAccountAsyncClient::getLatestUserAccounts);
+		}
+
+		families.forEach((familyKey, future) -> balances.putAll(index(familyKey, CoreAsyncExecutor.join(future))));
+
+		Map<Long, Long> result = new LinkedHashMap<>();
+		for (Long userId : userIds) {
+			Map<AccountType, Long> byType = balances.getOrDefault(coreUserIds.get(userId), Map.of());
+			result.put(userId, byType.values().stream().mapToLong(Long::longValue).sum());
+		}
+		return result;
+	}
+
+	/**
+	 * 가족 단위 계좌 목록을 Core User ID별 계좌 타입 잔액으로 나누어 캐시합니다.
+	 *
+	 * @param familyKey 계좌 목록을 조회한 Core User ID
+	 * @param accounts  Core 계좌 목록
+	 * @return Core User ID → 계좌 타입별 잔액
+	 */
+	private Map<Long, Map<AccountType, Long>> index(Long familyKey, CoreUserAccountListRes accounts) {
+		familyFetches.increment();
+		if (accounts == null) {
+			return Map.of();
+		}
+
+		Map<Long, Map<AccountType, Long>> indexed = new HashMap<>();
+		indexed.put(familyKey, sumByType(accounts.accounts()));
+		if (accounts.children() != null) {
+			for (CoreChildAccountInfoRes child : accounts.children()) {
+				if (child != null && child.userId() != null) {
+					indexed.put(child.userId(), sumByType(child.accounts()));
+				}
+			}
+		}
+		cache.putAll(indexed);
+		return indexed;
+	}
+
+	private static Map<AccountType, Long> sumByType(List<CoreAccountItemRes> accounts) {
+		if (accounts == null || accounts.isEmpty()) {
+			return Map.of();
+		}
+		Map<AccountType, Long> byType = new EnumMap<>(AccountType.class);
+		for (CoreAccountItemRes account : accounts) {
+			if (account.accountType() != null) {
+				long balance = account.balance() == null ? 0L : account.balance().longValue();
+				byType.merge(account.accountType(), balance, Long::sum);
+			}
+		}
+		return Collections.unmodifiableMap(byType);
+	}
+
+	/**
+	 * 자녀의 부모 관계가 이미 로드되어 있으면 부모의 Core User ID를 반환합니다.
+	 * (지연 로딩을 일으키지 않기 위해 로드되지 않은 경우 null)
+	 */
+	private static Long loadedParentCoreUserId(User user) {
+		if (user.getRole() == Role.PARENT || user.getParents() == null || !Hibernate.isInitialized(user.getParents())) {
+			return null;
+		}
+		return user.getParents().stream()
+			.map(UserRelationship::getParent)
+			.filter(Objects::nonNull)
+			.map(User::getCoreUserId)
+			.filter(Objects::nonNull)
+			.findFirst()
+			.orElse(null);
+	}
+}
@@ -4,13 +4,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Core 서버 없이 실행하는 local 프로필용 {@link BalanceProvider}입니다. 모든 잔액을 0으로 반환합니다.
+ */
 @Service
+@Profile("local")
 @RequiredArgsConstructor
 public class LocalBalanceProvider implements BalanceProvider {
 
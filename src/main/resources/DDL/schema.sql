@@ -76,6 +76,7 @@ create table if not exists user_service
     provider_id        varchar(255)                      null,
     push_enabled       bit                               not null,
     role               enum ('CHILD', 'ADMIN', 'PARENT') not null,
+    security_version   bigint default 0                  not null,
     simple_password    varchar(255)                      not null,
     constraint UKlv7sxdds0uxxy5r6bhtc9sm8g
     unique (email)
@@ -247,3 +248,35 @@ create table if not exists user_relationship
     foreign key (parent_id) references user_service (user_id)
     );
 
+create index idx_family_otp_child
+    on user_relationship (family_otp, child_id);
+
+
+create table if not exists portfolio_snapshot
+(
+    portfolio_snapshot_id bigint auto_increment
+    primary key,
+    created_at            datetime(6) not null,
+    cano                  varchar(50) not null,
+    year                  int         not null,
+    month                 int         not null,
+    payload               mediumblob  not null,
+    raw_size              int         not null,
+    constraint uk_portfolio_snapshot_cano_ym
+    unique (cano, year, month)
+    );
+
+create table if not exists transaction_month_snapshot
+(
+    transaction_month_snapshot_id bigint auto_increment
+    primary key,
+    created_at                    datetime(6) not null,
+    account_no                    varchar(50) not null,
+    year                          int         not null,
+    month                         int         not null,
+    item_count                    int         not null,
+    payload                       mediumblob  not null,
+    raw_size                      int         not null,
+    constraint uk_transaction_month_snapshot_account_ym
+    unique (account_no, year, month)
+    );
@@ -0,0 +1,34 @@
+package dev.syntax.stub;
+
+import java.util.TimeZone;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+/**
+ * 실제 Core 뱅킹 서버 없이 채널 서버를 부하 테스트하기 위한 Core 대역(stub) 서버입니다.
+ * <p>
+ * 채널의 Core 클라이언트들이 호출하는 엔드포인트를 같은 경로와 응답 형태로 제공하며,
+ * 응답 데이터는 시드 기반으로 생성되어 같은 요청에는 항상 같은 데이터를 응답합니다.
+ * 엔드포인트별 응답 지연 분포와 에러율은 {@code core-stub.yml}에서 설정합니다.
+ * </p>
+ * <p>
+ * 별도 소스셋({@code src/stub})으로 빌드되어 채널 jar에는 포함되지 않습니다.
+ * <pre>{@code
+ * gradle bootRunCoreStub
+ * # 채널 서버는 core.api.base-url=http://localhost:18080 으로 실행
+ * }</pre>
+ * </p>
+ */
+@SpringBootApplication
+@EnableConfigurationProperties(CoreStubProperties.class)
+public class CoreStubApplication {
+
+	public static void main(String[] args) {
+		TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+		// 같은 클래스패스에 채널의 application.yml이 있더라도 읽지 않도록 설정 파일 이름을 분리
+		System.setProperty("spring.config.name", "core-stub");
+		SpringApplication.run(CoreStubApplication.class, args);
+	}
+}
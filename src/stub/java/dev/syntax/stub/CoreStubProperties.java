@@ -0,0 +1,128 @@
+package dev.syntax.stub;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Core 대역 서버의 데이터 생성 및 장애 주입 설정입니다.
+ * <p>
+ * 설정 예시 (core-stub.yml):
+ * <pre>{@code
+ * core-stub:
+ *   seed: 42
+ *   transactions-per-day: 3
+ *   defaults:
+ *     median-latency: 30ms
+ *     p99-latency: 300ms
+ *     error-rate: 0.0
+ *   endpoints:
+ *     transactions-period:
+ *       median-latency: 120ms
+ *       p99-latency: 1500ms
+ *       error-rate: 0.01
+ * }</pre>
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "core-stub")
+public class CoreStubProperties {
+
+	/**
+	 * 데이터 생성 시드입니다. 같은 시드로 실행한 대역 서버는 같은 데이터를 응답합니다.
+	 */
+	private long seed = 42L;
+
+	/**
+	 * 계좌별 하루 평균 거래 건수입니다. (실제 건수는 0 ~ 2배 사이에서 날짜별로 정해짐)
+	 */
+	private int transactionsPerDay = 3;
+
+	/**
+	 * 설정된 경우 요청의 {@code X-API-KEY}가 이 값과 다르면 401로 응답합니다.
+	 */
+	private String apiKey;
+
+	/**
+	 * 엔드포인트별 설정이 없을 때 적용할 지연/에러 설정입니다.
+	 */
+	private Behavior defaults = Behavior.defaults();
+
+	/**
+	 * 엔드포인트 이름({@link StubEndpoint})별 지연/에러 설정입니다.
+	 * <p>
+	 * 지정하지 않은 항목은 {@link #defaults}의 값을 사용합니다.
+	 * </p>
+	 */
+	private Map<String, Behavior> endpoints = new HashMap<>();
+
+	/**
+	 * 엔드포인트에 적용할 지연/에러 설정을 반환합니다.
+	 *
+	 * @param endpoint 엔드포인트 이름
+	 * @return 기본값과 병합된 설정
+	 */
+	public Behavior behaviorOf(String endpoint) {
+		Behavior override = endpoints.get(endpoint);
+		if (override == null) {
+			return defaults;
+		}
+		Behavior merged = new Behavior();
+		merged.setMedianLatency(override.getMedianLatency() != null
+			? override.getMedianLatency() : defaults.getMedianLatency());
+		merged.setP99Latency(override.getP99Latency() != null
+			? override.getP99Latency() : defaults.getP99Latency());
+		merged.setErrorRate(override.getErrorRate() != null
+			? override.getErrorRate() : defaults.getErrorRate());
+		merged.setErrorStatus(override.getErrorStatus() != null
+			? override.getErrorStatus() : defaults.getErrorStatus());
+		return merged;
+	}
+
+	/**
+	 * 엔드포인트 하나의 응답 지연 분포와 에러율입니다.
+	 * <p>
+	 * 응답 지연은 중앙값과 p99를 맞춘 로그 정규 분포에서 뽑습니다.
+	 * p99가 중앙값 이하이면 항상 중앙값만큼 지연합니다.
+	 * </p>
+	 */
+	@Getter
+	@Setter
+	public static class Behavior {
+
+		/**
+		 * 응답 지연의 중앙값
+		 */
+		private Duration medianLatency;
+
+		/**
+		 * 응답 지연의 99 분위수
+		 */
+		private Duration p99Latency;
+
+		/**
+		 * 에러로 응답할 비율 (0.0 ~ 1.0)
+		 */
+		private Double errorRate;
+
+		/**
+		 * 에러 응답의 HTTP 상태 코드
+		 */
+		private Integer errorStatus;
+
+		static Behavior defaults() {
+			Behavior behavior = new Behavior();
+			behavior.setMedianLatency(Duration.ofMillis(30));
+			behavior.setP99Latency(Duration.ofMillis(300));
+			behavior.setErrorRate(0.0);
+			behavior.setErrorStatus(503);
+			return behavior;
+		}
+	}
+}
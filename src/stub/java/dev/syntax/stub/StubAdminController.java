@@ -0,0 +1,166 @@
+package dev.syntax.stub;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.syntax.stub.SyntheticCoreData.Account;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Core 관리자 API(자동이체 목록/실행, 실패 거래 목록)의 대역입니다.
+ * <p>
+ * 대상 클라이언트: {@code CoreAutoTransferAdminClient}, {@code CoreTransactionAdminClient}.
+ * 목록은 최신순으로 고정된 건수만큼 있는 것처럼 페이지 단위로 생성합니다.
+ * </p>
+ */
+@RestController
+@RequestMapping("/core/banking/admin")
+@RequiredArgsConstructor
+public class StubAdminController {
+
+	private static final long AUTO_TRANSFER_TOTAL = 240;
+	private static final long FAILED_TRANSACTION_TOTAL = 75;
+
+	private final SyntheticCoreData data;
+
+	@StubEndpoint("admin-auto-transfers")
+	@GetMapping("/auto-transfer")
+	public PageRes<AutoTransferRes> getAutoTransfers(
+		@RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "20") int size,
+		@RequestParam(required = false) String status,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+	) {
+		LocalDateTime latest = endDate != null ? endDate.atTime(23, 0) : LocalDateTime.now();
+		return page(page, size, AUTO_TRANSFER_TOTAL, index -> {
+			SplittableRandom random = data.random("auto-transfer", index);
+			long parentId = random.nextLong(1, 10_000);
+			long childId = SyntheticCoreData.CHILD_ID_OFFSET + parentId * 4 + 1;
+			int transferDay = random.nextInt(1, 29);
+			LocalDate nextTransferDay = LocalDate.now().withDayOfMonth(transferDay);
+			if (!nextTransferDay.isAfter(LocalDate.now())) {
+				nextTransferDay = nextTransferDay.plusMonths(1);
+			}
+			return new AutoTransferRes(
+				index + 1,
+				parentId,
+				data.account(parentId, "DEPOSIT").accountId(),
+				data.account(childId, "ALLOWANCE").accountId(),
+				BigDecimal.valueOf(random.nextInt(1, 21) * 5_000L),
+				"용돈",
+				transferDay,
+				nextTransferDay,
+				status != null ? status : (random.nextInt(10) == 0 ? "INACTIVE" : "ACTIVE"),
+				createdAt(latest, startDate, index, AUTO_TRANSFER_TOTAL)
+			);
+		});
+	}
+
+	@StubEndpoint("admin-auto-transfer-execute")
+	@PostMapping("/auto-transfer/{autoTransferId}/execute")
+	public ResponseEntity<Void> executeAutoTransfer(@PathVariable Long autoTransferId) {
+		return ResponseEntity.ok().build();
+	}
+
+	@StubEndpoint("admin-failed-transactions")
+	@GetMapping("/transaction/failed")
+	public PageRes<FailedTransactionRes> getFailedTransactions(
+		@RequestParam(defaultValue = "false") boolean autoTransferOnly,
+		@RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "20") int size
+	) {
+		LocalDateTime now = LocalDateTime.now();
+		return page(page, size, FAILED_TRANSACTION_TOTAL, index -> {
+			SplittableRandom random = data.random("failed-transaction", index);
+			long childId = SyntheticCoreData.CHILD_ID_OFFSET + random.nextLong(1, 10_000) * 4 + 1;
+			Account account = data.account(childId, "ALLOWANCE");
+			boolean autoTransfer = autoTransferOnly || random.nextBoolean();
+			LocalDateTime transactionDate = createdAt(now, null, index, FAILED_TRANSACTION_TOTAL);
+			return new FailedTransactionRes(
+				index + 1,
+				childId,
+				account.accountId(),
+				account.accountNumber(),
+				autoTransfer ? "DEPOSIT" : "WITHDRAW",
+				autoTransfer ? "AUTO_TRANSFER" : "PAYMENT",
+				BigDecimal.valueOf(random.nextInt(1, 21) * 5_000L),
+				account.balance(),
+				autoTransfer ? "자동이체" : "편의점",
+				autoTransfer ? "TRANSFER" : "FOOD",
+				"FAILED",
+				transactionDate,
+				transactionDate
+			);
+		});
+	}
+
+	/**
+	 * 전체 {@code total}건 중 요청한 페이지에 해당하는 항목만 생성합니다. (index 0이 최신)
+	 */
+	private static <T> PageRes<T> page(int page, int size, long total, LongFunction<T> generator) {
+		List<T> content = new ArrayList<>(size);
+		for (long index = (long)page * size; index < Math.min(total, (long)(page + 1) * size); index++) {
+			content.add(generator.apply(index));
+		}
+		return new PageRes<>(content, page, size, total, (int)((total + size - 1) / size));
+	}
+
+	/**
+	 * 최신 시각부터 시작 날짜(없으면 30일 전)까지 항목들을 고르게 배치합니다.
+	 */
+	private static LocalDateTime createdAt(LocalDateTime latest, LocalDate startDate, long index, long total) {
+		LocalDateTime earliest = startDate != null ? startDate.atStartOfDay() : latest.minusDays(30);
+		long spanMinutes = Math.max(1, Duration.between(earliest, latest).toMinutes());
+		return latest.minusMinutes(spanMinutes * index / total);
+	}
+
+	public record PageRes<T>(List<T> content, int page, int size, long totalElements, int totalPages) {
+	}
+
+	public record AutoTransferRes(
+		Long id,
+		Long userId,
+		Long fromAccountId,
+		Long toAccountId,
+		BigDecimal amount,
+		String memo,
+		Integer transferDay,
+		LocalDate nextTransferDay,
+		String status,
+		LocalDateTime createdAt
+	) {
+	}
+
+	public record FailedTransactionRes(
+		Long id,
+		Long userId,
+		Long accountId,
+		String accountNumber,
+		String code,
+		String type,
+		BigDecimal amount,
+		BigDecimal balanceAfter,
+		String merchantName,
+		String category,
+		String status,
+		LocalDateTime transactionDate,
+		LocalDateTime createdAt
+	) {
+	}
+}
@@ -0,0 +1,170 @@
+package dev.syntax.stub;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dev.syntax.stub.SyntheticCoreData.Account;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Core 뱅킹 API(계좌, 사용자 초기화, 자동이체)의 대역입니다.
+ * <p>
+ * 대상 클라이언트: {@code CoreAccountClient}, {@code CoreUserClient}, {@code CoreGoalClient},
+ * {@code CoreAutoTransferClient}
+ * </p>
+ */
+@RestController
+@RequestMapping("/core/banking")
+@RequiredArgsConstructor
+public class StubBankingController {
+
+	private static final String USER_ID_HEADER = "X-Core-User-Id";
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	private final SyntheticCoreData data;
+
+	// ===== 계좌 =====
+
+	@StubEndpoint("accounts")
+	@GetMapping("/account")
+	public AccountListRes getAccounts(@RequestHeader(USER_ID_HEADER) Long userId) {
+		if (data.isChild(userId)) {
+			return new AccountListRes(data.accountsOf(userId), List.of());
+		}
+		List<ChildAccountsRes> children = data.childrenOf(userId).stream()
+			.map(childId -> new ChildAccountsRes(childId, data.accountsOf(childId)))
+			.toList();
+		return new AccountListRes(data.accountsOf(userId), children);
+	}
+
+	@StubEndpoint("account-check")
+	@GetMapping("/account/check")
+	public Boolean hasInvestmentAccount(@RequestParam Long userId) {
+		return data.accountsOf(userId).stream().anyMatch(account -> "INVEST".equals(account.accountType()));
+	}
+
+	@StubEndpoint("account-investment-create")
+	@PostMapping("/account/investment")
+	public InvestmentAccountRes createInvestmentAccount(@RequestParam Long userId) {
+		Account account = data.account(userId, "INVEST");
+		return new InvestmentAccountRes(account.accountNumber(), userId, data.depositOf(account.accountNumber()));
+	}
+
+	@StubEndpoint("account-create")
+	@PostMapping("/account/create")
+	public Account createChildAccount(@RequestBody CreateAccountReq req) {
+		return data.account(req.childCoreId(), "ALLOWANCE");
+	}
+
+	@StubEndpoint("goal-account-create")
+	@PostMapping("/goal/account")
+	public Account createGoalAccount(@RequestBody GoalAccountReq req) {
+		return data.account(req.childCoreId(), "GOAL");
+	}
+
+	@StubEndpoint("account-status")
+	@PutMapping("/account/{accountNo}/status")
+	public AccountStatusRes updateAccountStatus(@PathVariable String accountNo, @RequestBody AccountStatusReq req) {
+		return new AccountStatusRes(data.accountIdOf(accountNo), req.status());
+	}
+
+	// ===== 사용자 초기화 =====
+
+	@StubEndpoint("init")
+	@PostMapping("/init")
+	public InitRes init(@RequestBody InitReq req) {
+		boolean child = !"PARENT".equals(req.role());
+		long coreUserId = data.nextUserId(child);
+		return new InitRes(coreUserId, child ? null : data.account(coreUserId, "DEPOSIT"));
+	}
+
+	// ===== 자동이체 =====
+
+	@StubEndpoint("auto-transfer-create")
+	@PostMapping("/auto-transfer/create")
+	public AutoTransferRes createAutoTransfer(
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+	) {
+		return new AutoTransferRes(data.nextId(idempotencyKey));
+	}
+
+	@StubEndpoint("goal-auto-transfer-create")
+	@PostMapping("/auto-transfer/goal-by-user")
+	public AutoTransferRes createGoalAutoTransfer(
+		@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+	) {
+		return new AutoTransferRes(data.nextId(idempotencyKey));
+	}
+
+	@StubEndpoint("auto-transfer-update")
+	@PutMapping("/auto-transfer/{autoTransferId}")
+	public ResponseEntity<Void> updateAutoTransfer(@PathVariable Long autoTransferId) {
+		return ResponseEntity.ok().build();
+	}
+
+	@StubEndpoint("auto-transfer-delete")
+	@DeleteMapping("/auto-transfer/{autoTransferId}")
+	public ResponseEntity<Void> deleteAutoTransfer(@PathVariable Long autoTransferId) {
+		return ResponseEntity.ok().build();
+	}
+
+	@StubEndpoint("auto-transfer-pay-day")
+	@PutMapping("/auto-transfer/{autoTransferId}/pay-day")
+	public PayDayRes updatePayDay(@PathVariable Long autoTransferId, @RequestBody Integer payDay) {
+		return new PayDayRes(autoTransferId, payDay);
+	}
+
+	public record AccountListRes(
+		List<Account> accounts,
+		@JsonInclude(JsonInclude.Include.NON_EMPTY)
+		List<ChildAccountsRes> children
+	) {
+	}
+
+	public record ChildAccountsRes(Long userId, List<Account> accounts) {
+	}
+
+	public record InvestmentAccountRes(String accountNumber, Long userId, Long balance) {
+	}
+
+	public record CreateAccountReq(Long parentCoreId, Long childCoreId) {
+	}
+
+	public record GoalAccountReq(Long childCoreId, String name) {
+	}
+
+	public record AccountStatusReq(String status) {
+	}
+
+	public record AccountStatusRes(Long accountId, String status) {
+	}
+
+	public record InitReq(Long channelUserId, String role, String name, String phoneNumber, String birthDate) {
+	}
+
+	public record InitRes(
+		Long coreUserId,
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		Account account
+	) {
+	}
+
+	public record AutoTransferRes(Long autoTransferId) {
+	}
+
+	public record PayDayRes(Long autoTransferId, Integer payDay) {
+	}
+}
@@ -0,0 +1,23 @@
+package dev.syntax.stub;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Core 대역 서버의 핸들러 메서드에 엔드포인트 이름을 붙입니다.
+ * <p>
+ * {@link StubFaultInterceptor}가 이 이름으로 {@code core-stub.endpoints.<이름>}의
+ * 지연/에러 설정을 찾아 적용합니다.
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StubEndpoint {
+
+	/**
+	 * 엔드포인트 이름 (예: {@code transactions-period})
+	 */
+	String value();
+}
@@ -0,0 +1,88 @@
+package dev.syntax.stub;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link StubEndpoint}가 붙은 핸들러에 엔드포인트별 응답 지연과 에러를 주입합니다.
+ * <p>
+ * 에러 응답 본문은 Core 서버와 같은 {@code {"message": "..."}} 형태입니다.
+ * 지연과 에러 여부는 요청마다 무작위로 정해지며, 응답 데이터와 달리 시드를 따르지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StubFaultInterceptor implements HandlerInterceptor {
+
+	/** 표준 정규 분포의 99 분위수 */
+	private static final double Z_99 = 2.3263;
+
+	private final CoreStubProperties properties;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+		throws IOException, InterruptedException {
+
+		if (!(handler instanceof HandlerMethod handlerMethod)) {
+			return true;
+		}
+		StubEndpoint endpoint = handlerMethod.getMethodAnnotation(StubEndpoint.class);
+		if (endpoint == null) {
+			return true;
+		}
+
+		String apiKey = properties.getApiKey();
+		if (apiKey != null && !apiKey.equals(request.getHeader("X-API-KEY"))) {
+			writeError(response, HttpStatus.UNAUTHORIZED.value(), "유효하지 않은 API 키입니다.");
+			return false;
+		}
+
+		CoreStubProperties.Behavior behavior = properties.behaviorOf(endpoint.value());
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		long delayNanos = sampleDelayNanos(behavior, random);
+		if (delayNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(delayNanos);
+		}
+		if (random.nextDouble() < behavior.getErrorRate()) {
+			writeError(response, behavior.getErrorStatus(), "Core 대역 서버 주입 에러 (" + endpoint.value() + ")");
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 중앙값과 p99를 맞춘 로그 정규 분포에서 지연 시간을 뽑습니다.
+	 */
+	private static long sampleDelayNanos(CoreStubProperties.Behavior behavior, ThreadLocalRandom random) {
+		long median = behavior.getMedianLatency().toNanos();
+		long p99 = behavior.getP99Latency().toNanos();
+		if (median <= 0) {
+			return 0;
+		}
+		if (p99 <= median) {
+			return median;
+		}
+		double sigma = Math.log((double)p99 / median) / Z_99;
+		return (long)(median * Math.exp(sigma * random.nextGaussian()));
+	}
+
+	private static void writeError(HttpServletResponse response, int status, String message) throws IOException {
+		response.setStatus(status);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.getWriter().write("{\"message\":\"" + message + "\"}");
+	}
+}
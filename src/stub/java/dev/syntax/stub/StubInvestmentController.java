@@ -0,0 +1,339 @@
+package dev.syntax.stub;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import dev.syntax.stub.SyntheticCoreData.Holding;
+import dev.syntax.stub.SyntheticCoreData.Stock;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Core 투자 API(종목 시세, 투자 계좌, 매매, 포트폴리오)의 대역입니다.
+ * <p>
+ * 대상 클라이언트: {@code CoreInvestmentClient}.
+ * 매매 요청은 항상 접수되며 보유 종목/예수금에는 반영되지 않습니다.
+ * </p>
+ */
+@RestController
+@RequestMapping("/core/investments")
+@RequiredArgsConstructor
+public class StubInvestmentController {
+
+	private static final String USER_ID_HEADER = "X-Core-User-Id";
+
+	/** 포트폴리오 상위 종목 수 (나머지는 "기타"로 묶음) */
+	private static final int TOP_HOLDINGS = 3;
+
+	private final SyntheticCoreData data;
+
+	// ===== 종목 =====
+
+	@StubEndpoint("stocks-buy")
+	@GetMapping("/stocks/buy")
+	public StocksRes getStocksForBuy() {
+		return stocks();
+	}
+
+	@StubEndpoint("stocks-sell")
+	@GetMapping("/stocks/sell")
+	public StocksRes getStocksForSell() {
+		return stocks();
+	}
+
+	@StubEndpoint("stock-detail")
+	@GetMapping("/stocks/detail/{code}")
+	public StockDetailRes getStockDetail(
+		@PathVariable String code,
+		@RequestHeader(value = USER_ID_HEADER, required = false) Long userId
+	) {
+		Stock stock = data.stock(code)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "종목이 없습니다."));
+		LocalDate today = LocalDate.now();
+		long price = data.priceOf(stock, today);
+
+		String cano = data.account(userId == null ? 0L : userId, "INVEST").accountNumber();
+		long deposit = data.depositOf(cano);
+		long holdingQuantity = data.holdingsOf(cano, today).stream()
+			.filter(holding -> holding.stock().equals(stock))
+			.mapToLong(Holding::quantity)
+			.sum();
+
+		return new StockDetailRes(
+			stock.code(),
+			stock.name(),
+			price,
+			prevRate(stock, today),
+			String.valueOf(data.volumeOf(stock, today)),
+			deposit,
+			(int)(deposit / price),
+			holdingQuantity
+		);
+	}
+
+	// ===== 투자 계좌 =====
+
+	@StubEndpoint("invest-account")
+	@GetMapping("/account/{cano}")
+	public AccountRes getInvestAccount(@PathVariable String cano) {
+		Summary summary = summarize(cano, LocalDate.now());
+		return new AccountRes(
+			cano,
+			data.accountIdOf(cano) / 10,
+			String.valueOf(summary.deposit()),
+			String.valueOf(summary.evaluation()),
+			String.valueOf(summary.profit()),
+			summary.profitRate(),
+			summary.items()
+		);
+	}
+
+	@StubEndpoint("invest-dashboard")
+	@GetMapping("/dashboard/{cano}")
+	public DashboardRes getDashboard(@PathVariable String cano) {
+		Summary summary = summarize(cano, LocalDate.now());
+		return new DashboardRes(
+			data.accountIdOf(cano) / 10,
+			String.valueOf(summary.deposit()),
+			String.valueOf(summary.deposit() + summary.evaluation()),
+			String.valueOf(summary.evaluation()),
+			String.valueOf(summary.profit()),
+			summary.profitRate(),
+			summary.items().subList(0, Math.min(TOP_HOLDINGS, summary.items().size()))
+		);
+	}
+
+	// ===== 매매 =====
+
+	@StubEndpoint("trade-buy")
+	@PostMapping("/trade/buy")
+	public TradeOrderRes buy(@RequestBody TradeOrderReq req) {
+		return TradeOrderRes.requested("TTTTC0012U", req);
+	}
+
+	@StubEndpoint("trade-sell")
+	@PostMapping("/trade/sell")
+	public TradeOrderRes sell(@RequestBody TradeOrderReq req) {
+		return TradeOrderRes.requested("TTTCO011U", req);
+	}
+
+	// ===== 포트폴리오 =====
+
+	@StubEndpoint("portfolio")
+	@GetMapping("/portfolio")
+	public PortfolioRes getMonthlyPortfolio(
+		@RequestParam String cano,
+		@RequestParam int year,
+		@RequestParam int month
+	) {
+		Summary summary = summarize(cano, YearMonth.of(year, month).atEndOfMonth());
+
+		List<HoldingItemRes> holdings = summary.items().stream()
+			.map(item -> new HoldingItemRes(item.productCode(), item.productName(), item.quantity(),
+				item.avgPrice(), item.currentPrice(), item.evaluationAmount(), item.profitAmount(),
+				String.format("%.2f", item.profitRate()), item.weight()))
+			.toList();
+
+		List<TopHoldingRes> topHoldings = new ArrayList<>();
+		double others = 0;
+		for (int i = 0; i < summary.items().size(); i++) {
+			HoldingItem item = summary.items().get(i);
+			if (i < TOP_HOLDINGS) {
+				topHoldings.add(new TopHoldingRes(item.productName(), item.weight()));
+			} else {
+				others += item.weight();
+			}
+		}
+		if (others > 0) {
+			topHoldings.add(new TopHoldingRes("기타", others));
+		}
+
+		return new PortfolioRes(
+			data.accountIdOf(cano) / 10,
+			String.valueOf(summary.deposit()),
+			String.valueOf(summary.evaluation()),
+			String.valueOf(summary.profit()),
+			String.format("%.2f", summary.profitRate()),
+			holdings,
+			topHoldings
+		);
+	}
+
+	@StubEndpoint("portfolio-dates")
+	@GetMapping("/portfolio/dates")
+	public List<PortfolioDateRes> getAvailableDates(@RequestParam String cano) {
+		YearMonth lastMonth = YearMonth.now().minusMonths(1);
+		List<PortfolioDateRes> dates = new ArrayList<>();
+		for (int i = 0; i < data.portfolioMonthsOf(cano); i++) {
+			YearMonth month = lastMonth.minusMonths(i);
+			dates.add(new PortfolioDateRes(month.getYear(), month.getMonthValue()));
+		}
+		return dates;
+	}
+
+	private StocksRes stocks() {
+		LocalDate today = LocalDate.now();
+		List<PriceItem> output = data.stocks().stream()
+			.map(stock -> {
+				long price = data.priceOf(stock, today);
+				long change = price - data.priceOf(stock, today.minusDays(1));
+				return new PriceItem(stock.code(), stock.name(), String.valueOf(price), String.valueOf(change),
+					prevRate(stock, today), String.valueOf(data.volumeOf(stock, today)));
+			})
+			.toList();
+		return new StocksRes(output);
+	}
+
+	private String prevRate(Stock stock, LocalDate date) {
+		long prev = data.priceOf(stock, date.minusDays(1));
+		return String.format("%.2f", (double)(data.priceOf(stock, date) - prev) / prev * 100);
+	}
+
+	private Summary summarize(String cano, LocalDate date) {
+		List<Holding> holdings = data.holdingsOf(cano, date);
+		long evaluation = holdings.stream().mapToLong(Holding::evaluationAmount).sum();
+		long profit = holdings.stream().mapToLong(Holding::profitAmount).sum();
+		long invested = evaluation - profit;
+
+		List<HoldingItem> items = holdings.stream()
+			.map(holding -> new HoldingItem(
+				holding.stock().code(),
+				holding.stock().name(),
+				String.valueOf(holding.quantity()),
+				String.valueOf(holding.avgPrice()),
+				String.valueOf(holding.currentPrice()),
+				String.valueOf(holding.evaluationAmount()),
+				String.valueOf(holding.profitAmount()),
+				holding.profitRate(),
+				Math.round((double)holding.evaluationAmount() / evaluation * 10_000) / 10_000.0
+			))
+			.toList();
+		double profitRate = invested == 0 ? 0.0 : Math.round((double)profit / invested * 10_000) / 100.0;
+		return new Summary(data.depositOf(cano), evaluation, profit, profitRate, items);
+	}
+
+	private record Summary(long deposit, long evaluation, long profit, double profitRate, List<HoldingItem> items) {
+	}
+
+	public record StocksRes(List<PriceItem> output) {
+	}
+
+	public record PriceItem(
+		@JsonProperty("inter_shrn_iscd") String productCode,
+		@JsonProperty("inter_kor_isnm") String productName,
+		@JsonProperty("inter2_prpr") String currentPrice,
+		@JsonProperty("inter2_prdy_vrss") String prevPriceChange,
+		@JsonProperty("prdy_ctrt") String prevRate,
+		@JsonProperty("acml_vol") String accumulatedVolume
+	) {
+	}
+
+	public record StockDetailRes(
+		String productCode,
+		String productName,
+		long currentPrice,
+		String prevRate,
+		String accumulatedVolume,
+		long depositAmount,
+		int maxBuyQuantity,
+		long holdingQuantity
+	) {
+	}
+
+	public record HoldingItem(
+		String productCode,
+		String productName,
+		String quantity,
+		String avgPrice,
+		String currentPrice,
+		String evaluationAmount,
+		String profitAmount,
+		Double profitRate,
+		Double weight
+	) {
+	}
+
+	public record HoldingItemRes(
+		String productCode,
+		String productName,
+		String quantity,
+		String avgPrice,
+		String currentPrice,
+		String evaluationAmount,
+		String profitAmount,
+		String profitRate,
+		Double weight
+	) {
+	}
+
+	public record AccountRes(
+		String cano,
+		Long userId,
+		String depositAmount,
+		String totEvluAmt,
+		String totalProfitAmount,
+		Double totalProfitRate,
+		List<HoldingItem> holdings
+	) {
+	}
+
+	public record DashboardRes(
+		Long userId,
+		String depositAmount,
+		String totalAssetAmount,
+		String totEvluAmt,
+		String totalProfitAmount,
+		Double totalProfitRate,
+		List<HoldingItem> top3Holdings
+	) {
+	}
+
+	public record TradeOrderReq(String cano, String productCode, String productName, int quantity, String price) {
+	}
+
+	public record TradeOrderRes(
+		String tradeType,
+		String productCode,
+		String productName,
+		long quantity,
+		String price,
+		String status
+	) {
+
+		static TradeOrderRes requested(String tradeType, TradeOrderReq req) {
+			return new TradeOrderRes(tradeType, req.productCode(), req.productName(), req.quantity(), req.price(),
+				"REQUESTED");
+		}
+	}
+
+	public record PortfolioRes(
+		Long userId,
+		String depositAmount,
+		String totEvluAmt,
+		String totalProfitAmount,
+		String totalProfitRate,
+		List<HoldingItemRes> holdings,
+		List<TopHoldingRes> topHoldings
+	) {
+	}
+
+	public record TopHoldingRes(String productName, Double weight) {
+	}
+
+	public record PortfolioDateRes(int year, int month) {
+	}
+}
@@ -0,0 +1,93 @@
+package dev.syntax.stub;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import dev.syntax.stub.SyntheticCoreData.Transaction;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Core 거래 내역 API의 대역입니다.
+ * <p>
+ * 대상 클라이언트: {@code CoreAccountClient}, {@code CoreGoalClient}
+ * </p>
+ */
+@RestController
+@RequestMapping("/core/transaction")
+@RequiredArgsConstructor
+public class StubTransactionController {
+
+	private static final DateTimeFormatter DETAIL_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm:ss");
+
+	/** 기간 없이 전체 내역을 조회할 때 돌려줄 기간 */
+	private static final int HISTORY_MONTHS = 3;
+
+	private final SyntheticCoreData data;
+
+	@StubEndpoint("transactions-period")
+	@GetMapping("/account/{accountNo}/period")
+	public HistoryRes getTransactionsByPeriod(
+		@PathVariable String accountNo,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+	) {
+		return new HistoryRes(data.transactions(accountNo, startDate, endDate), data.balanceOf(accountNo));
+	}
+
+	@StubEndpoint("transactions")
+	@GetMapping("/account/{accountNo}")
+	public HistoryRes getTransactions(@PathVariable String accountNo) {
+		LocalDate today = LocalDate.now();
+		List<Transaction> transactions = data.transactions(accountNo, today.minusMonths(HISTORY_MONTHS), today);
+		return new HistoryRes(transactions, data.balanceOf(accountNo));
+	}
+
+	@StubEndpoint("transaction-detail")
+	@GetMapping("/detail/{transactionId}")
+	public DetailRes getTransactionDetail(@PathVariable Long transactionId) {
+		Transaction transaction = data.transaction(transactionId)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "거래 내역이 없습니다."));
+		return new DetailRes(
+			transaction.merchantName(),
+			format(transaction.amount()),
+			transaction.transactionDate().format(DETAIL_DATE_FORMAT),
+			transaction.transactionType(),
+			transaction.category(),
+			format(transaction.amount()),
+			format(transaction.balanceAfter()),
+			transaction.code()
+		);
+	}
+
+	private static String format(BigDecimal amount) {
+		// DecimalFormat은 스레드 안전하지 않으므로 호출마다 생성
+		return new DecimalFormat("#,###").format(amount);
+	}
+
+	public record HistoryRes(List<Transaction> transactions, BigDecimal balance) {
+	}
+
+	public record DetailRes(
+		String merchantName,
+		String amount,
+		String transactionDate,
+		String type,
+		String category,
+		String approveAmount,
+		String balanceAfter,
+		String code
+	) {
+	}
+}
@@ -0,0 +1,22 @@
+package dev.syntax.stub;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Core 대역 서버의 장애 주입 인터셉터를 등록합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class StubWebConfig implements WebMvcConfigurer {
+
+	private final StubFaultInterceptor faultInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(faultInterceptor).addPathPatterns("/core/**");
+	}
+}
@@ -0,0 +1,325 @@
+package dev.syntax.stub;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Core 대역 서버가 응답할 사용자, 계좌, 거래 내역, 종목 데이터를 시드 기반으로 생성합니다.
+ * <p>
+ * 모든 값은 (시드, 사용자 ID/계좌번호/날짜 등 키)로부터 계산되므로 상태를 저장하지 않으면서도
+ * 같은 요청에는 항상 같은 데이터를 응답합니다.
+ * </p>
+ * <ul>
+ *   <li>{@link #CHILD_ID_OFFSET} 미만의 사용자 ID는 부모, 이상은 자녀입니다.
+ *       부모 {@code p}의 자녀는 {@code CHILD_ID_OFFSET + p * 4 + i} (i = 1..3) 입니다.</li>
+ *   <li>거래 ID에는 계좌 키, 날짜, 그 날의 순번이 들어 있어 상세 조회 시 같은 거래를 다시 만들 수 있습니다.</li>
+ *   <li>매매 요청 등 상태 변경 호출은 데이터에 반영하지 않습니다.</li>
+ * </ul>
+ */
+@Component
+public class SyntheticCoreData {
+
+	public static final long CHILD_ID_OFFSET = 1_000_000_000L;
+
+	private static final int MAX_CHILDREN = 3;
+
+	private static final String[][] MERCHANTS = {
+		{"SHOPPING", "다이소", "무신사", "올리브영", "쿠팡"},
+		{"EDU", "교보문고", "알라딘", "영어학원", "문구점"},
+		{"TRANSPORT", "티머니", "카카오T", "코레일", "지하철"},
+		{"ENT", "CGV", "넷플릭스", "코인노래방", "닌텐도 eShop"},
+		{"FOOD", "GS25", "CU", "스타벅스", "맥도날드", "배스킨라빈스"},
+		{"ETC", "네이버페이", "카카오페이", "토스"}
+	};
+
+	private static final List<Stock> STOCKS = List.of(
+		new Stock("005930", "삼성전자", 71_800),
+		new Stock("000660", "SK하이닉스", 178_000),
+		new Stock("035420", "NAVER", 198_500),
+		new Stock("035720", "카카오", 43_150),
+		new Stock("005380", "현대차", 241_000),
+		new Stock("051910", "LG화학", 372_500),
+		new Stock("068270", "셀트리온", 181_300),
+		new Stock("105560", "KB금융", 78_900),
+		new Stock("207940", "삼성바이오로직스", 789_000),
+		new Stock("259960", "크래프톤", 241_500)
+	);
+
+	private final CoreStubProperties properties;
+	private final AtomicLong parentSequence = new AtomicLong(1);
+	private final AtomicLong childSequence = new AtomicLong(CHILD_ID_OFFSET * 2);
+	private final AtomicLong idSequence = new AtomicLong(1);
+
+	public SyntheticCoreData(CoreStubProperties properties) {
+		this.properties = properties;
+	}
+
+	// ===== 사용자 / 계좌 =====
+
+	public boolean isChild(long userId) {
+		return userId >= CHILD_ID_OFFSET;
+	}
+
+	/**
+	 * 부모의 자녀 ID 목록을 반환합니다. (0 ~ 3명)
+	 */
+	public List<Long> childrenOf(long parentId) {
+		int count = random("children", parentId).nextInt(MAX_CHILDREN + 1);
+		List<Long> children = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			children.add(CHILD_ID_OFFSET + parentId * 4 + i);
+		}
+		return children;
+	}
+
+	/**
+	 * 사용자의 계좌 목록을 반환합니다.
+	 * <p>
+	 * 부모는 입출금 계좌 하나, 자녀는 용돈 계좌와 (사용자에 따라) 목표/투자 계좌를 가집니다.
+	 * </p>
+	 */
+	public List<Account> accountsOf(long userId) {
+		if (!isChild(userId)) {
+			return List.of(account(userId, "DEPOSIT"));
+		}
+		SplittableRandom random = random("accounts", userId);
+		List<Account> accounts = new ArrayList<>();
+		accounts.add(account(userId, "ALLOWANCE"));
+		if (random.nextBoolean()) {
+			accounts.add(account(userId, "GOAL"));
+		}
+		if (random.nextBoolean()) {
+			accounts.add(account(userId, "INVEST"));
+		}
+		return accounts;
+	}
+
+	public Account account(long userId, String accountType) {
+		int typeIndex = List.of("DEPOSIT", "ALLOWANCE", "GOAL", "INVEST").indexOf(accountType);
+		String accountNumber = String.format("%d-%04d-%06d",
+			110 + typeIndex * 10, (userId / 1_000_000) % 10_000, userId % 1_000_000);
+		return new Account(userId * 10 + typeIndex, accountNumber, accountType, balanceOf(accountNumber));
+	}
+
+	/**
+	 * 계좌번호로부터 계좌 ID를 계산합니다. ({@link #account}의 역연산)
+	 */
+	public long accountIdOf(String accountNumber) {
+		String[] parts = accountNumber.split("-");
+		if (parts.length != 3) {
+			return accountKey(accountNumber);
+		}
+		long typeIndex = (Long.parseLong(parts[0]) - 110) / 10;
+		long userId = Long.parseLong(parts[1]) * 1_000_000 + Long.parseLong(parts[2]);
+		return userId * 10 + typeIndex;
+	}
+
+	/**
+	 * 계좌의 현재 잔액을 반환합니다. (1,000원 단위)
+	 */
+	public BigDecimal balanceOf(String accountNumber) {
+		return BigDecimal.valueOf(random("balance", accountNumber).nextLong(0, 2_000) * 1_000);
+	}
+
+	/**
+	 * 새 사용자 ID를 발급합니다.
+	 */
+	public long nextUserId(boolean child) {
+		return child ? childSequence.getAndIncrement() : parentSequence.getAndIncrement();
+	}
+
+	/**
+	 * 새 리소스(자동이체 등) ID를 발급합니다.
+	 * <p>
+	 * 멱등 키가 있으면 키로부터 ID를 계산하여, 같은 키로 재시도한 요청에는 같은 ID를 응답합니다.
+	 * </p>
+	 */
+	public long nextId(String idempotencyKey) {
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return idSequence.getAndIncrement();
+		}
+		return random("id", idempotencyKey).nextLong(1_000_000, Long.MAX_VALUE);
+	}
+
+	// ===== 거래 내역 =====
+
+	/**
+	 * 기간 내 거래 내역을 최신순으로 반환합니다. 현재 시각 이후의 거래는 포함하지 않습니다.
+	 */
+	public List<Transaction> transactions(String accountNumber, LocalDate startDate, LocalDate endDate) {
+		int key = accountKey(accountNumber);
+		LocalDateTime now = LocalDateTime.now();
+		LocalDate last = endDate.isAfter(now.toLocalDate()) ? now.toLocalDate() : endDate;
+
+		List<Transaction> result = new ArrayList<>();
+		for (LocalDate date = last; !date.isBefore(startDate); date = date.minusDays(1)) {
+			for (Transaction transaction : day(key, date)) {
+				if (!transaction.transactionDate().isAfter(now)) {
+					result.add(transaction);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 거래 ID로 거래를 다시 생성합니다.
+	 */
+	public Optional<Transaction> transaction(long transactionId) {
+		int key = (int)(transactionId >>> 24);
+		LocalDate date = LocalDate.ofEpochDay((transactionId >>> 8) & 0xFFFF);
+		int index = (int)(transactionId & 0xFF);
+		List<Transaction> day = day(key, date);
+		return index < day.size() ? Optional.of(day.get(index)) : Optional.empty();
+	}
+
+	/**
+	 * 하루치 거래 내역을 최신순으로 생성합니다.
+	 */
+	private List<Transaction> day(int key, LocalDate date) {
+		SplittableRandom random = random("transactions", key, date.toEpochDay());
+		int count = Math.min(random.nextInt(properties.getTransactionsPerDay() * 2 + 1), 0xFF);
+
+		List<LocalDateTime> times = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			times.add(date.atTime(LocalTime.ofSecondOfDay(random.nextInt(7 * 3600, 23 * 3600))));
+		}
+		times.sort(Comparator.reverseOrder());
+
+		List<Transaction> transactions = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			long transactionId = ((long)key << 24) | (date.toEpochDay() << 8) | i;
+			boolean deposit = random.nextInt(100) < 15;
+			String[] merchants = deposit ? null : MERCHANTS[random.nextInt(MERCHANTS.length)];
+			transactions.add(new Transaction(
+				transactionId,
+				deposit ? "용돈" : merchants[1 + random.nextInt(merchants.length - 1)],
+				BigDecimal.valueOf(deposit ? random.nextInt(1, 11) * 10_000L : random.nextInt(10, 500) * 100L),
+				deposit ? "DEPOSIT" : "WITHDRAW",
+				times.get(i),
+				deposit ? "TRANSFER" : merchants[0],
+				BigDecimal.valueOf(random.nextLong(0, 20_000) * 100),
+				deposit ? "TRANSFER" : "PAY_IN_FULL"
+			));
+		}
+		return transactions;
+	}
+
+	private static int accountKey(String accountNumber) {
+		return accountNumber.hashCode() & Integer.MAX_VALUE;
+	}
+
+	// ===== 종목 / 투자 =====
+
+	public List<Stock> stocks() {
+		return STOCKS;
+	}
+
+	public Optional<Stock> stock(String code) {
+		return STOCKS.stream().filter(stock -> stock.code().equals(code)).findFirst();
+	}
+
+	/**
+	 * 종목의 날짜별 종가를 반환합니다. (기준가의 ±15%, 100원 단위)
+	 */
+	public long priceOf(Stock stock, LocalDate date) {
+		double ratio = 0.85 + random("price", stock.code(), date.toEpochDay()).nextDouble() * 0.3;
+		return Math.round(stock.basePrice() * ratio / 100) * 100;
+	}
+
+	public long volumeOf(Stock stock, LocalDate date) {
+		return random("volume", stock.code(), date.toEpochDay()).nextLong(100_000, 20_000_000);
+	}
+
+	/**
+	 * 투자 계좌의 예수금을 반환합니다. (1,000원 단위)
+	 */
+	public long depositOf(String cano) {
+		return random("deposit", cano).nextLong(10, 1_000) * 1_000;
+	}
+
+	/**
+	 * 투자 계좌의 보유 종목을 반환합니다. 보유 종목과 수량은 계좌별로 고정이고, 현재가만 날짜에 따라 달라집니다.
+	 */
+	public List<Holding> holdingsOf(String cano, LocalDate date) {
+		SplittableRandom random = random("holdings", cano);
+		int count = random.nextInt(6);
+		List<Stock> shuffled = new ArrayList<>(STOCKS);
+		for (int i = shuffled.size() - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			shuffled.set(i, shuffled.set(j, shuffled.get(i)));
+		}
+
+		List<Holding> holdings = new ArrayList<>(count);
+		for (Stock stock : shuffled.subList(0, count)) {
+			long quantity = random.nextLong(1, 31);
+			long avgPrice = Math.round(stock.basePrice() * (0.8 + random.nextDouble() * 0.4) / 100) * 100;
+			holdings.add(new Holding(stock, quantity, avgPrice, priceOf(stock, date)));
+		}
+		holdings.sort(Comparator.comparingLong(Holding::evaluationAmount).reversed());
+		return holdings;
+	}
+
+	/**
+	 * 월별 포트폴리오를 조회할 수 있는 최근 월 수를 반환합니다. (1 ~ 12)
+	 */
+	public int portfolioMonthsOf(String cano) {
+		return random("portfolio-months", cano).nextInt(1, 13);
+	}
+
+	/**
+	 * 시드와 키로부터 결정적인 난수 생성기를 만듭니다.
+	 */
+	SplittableRandom random(Object... keys) {
+		return new SplittableRandom(properties.getSeed() ^ (Arrays.deepHashCode(keys) * 0x9E3779B97F4A7C15L));
+	}
+
+	public record Account(
+		Long accountId,
+		String accountNumber,
+		String accountType,
+		BigDecimal balance
+	) {
+	}
+
+	public record Transaction(
+		Long transactionId,
+		String merchantName,
+		BigDecimal amount,
+		String code,
+		LocalDateTime transactionDate,
+		String category,
+		BigDecimal balanceAfter,
+		String transactionType
+	) {
+	}
+
+	public record Stock(String code, String name, long basePrice) {
+	}
+
+	public record Holding(Stock stock, long quantity, long avgPrice, long currentPrice) {
+
+		public long evaluationAmount() {
+			return currentPrice * quantity;
+		}
+
+		public long profitAmount() {
+			return evaluationAmount() - avgPrice * quantity;
+		}
+
+		public double profitRate() {
+			return Math.round((double)profitAmount() / (avgPrice * quantity) * 10_000) / 100.0;
+		}
+	}
+}
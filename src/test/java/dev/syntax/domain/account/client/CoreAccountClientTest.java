@@ -0,0 +1,111 @@
+package dev.syntax.domain.account.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
+import dev.syntax.domain.account.repository.TransactionMonthSnapshotRepository;
+import dev.syntax.global.core.CoreApiFamily;
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.CoreConcurrencyLimitInterceptor;
+import dev.syntax.global.core.CoreResilienceInterceptor;
+import dev.syntax.global.core.GzipJsonCodec;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CoreAccountClientTest {
+
+	private static final String ACCOUNT_NO = "1234567890";
+
+	@Mock
+	private CoreAccountSnapshotCache snapshotCache;
+
+	@Mock
+	private TransactionMonthSnapshotRepository snapshotRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+	private CoreConcurrencyLimitInterceptor limiter;
+	private MockRestServiceServer server;
+	private CoreAccountClient client;
+
+	@BeforeEach
+	void setUp() {
+		CoreApiProperties properties = new CoreApiProperties();
+		properties.setBaseUrl("http://core");
+		properties.getTransactionStore().setEnabled(false);
+
+		limiter = new CoreConcurrencyLimitInterceptor(properties, meterRegistry);
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.getInterceptors().add(limiter);
+		restTemplate.getInterceptors().add(
+			new CoreResilienceInterceptor(CircuitBreakerRegistry.ofDefaults(), bulkheadRegistry, meterRegistry));
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		CoreTransactionMonthStore monthStore = new CoreTransactionMonthStore(snapshotRepository,
+			new GzipJsonCodec(objectMapper), properties, transactionManager, meterRegistry);
+		client = new CoreAccountClient(restTemplate, properties, snapshotCache, monthStore,
+			new CoreTransactionStreamReader(objectMapper), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("거래 내역 스트리밍은 응답 본문을 모두 읽을 때까지 동시 호출 한도와 벌크헤드 자리를 차지한다")
+	void streamedRead_holdsPermitsUntilExtractorFinishes() {
+		// given
+		LocalDate date = LocalDate.of(2025, 3, 2);
+		server.expect(requestTo("http://core/core/transaction/account/" + ACCOUNT_NO
+				+ "/period?startDate=" + date + "&endDate=" + date))
+			.andRespond(withSuccess("""
+				{"transactions": [
+				  {"transactionId": 1, "amount": -5000, "transactionDate": "2025-03-02T12:00:00"},
+				  {"transactionId": 2, "amount": -3000, "transactionDate": "2025-03-02T13:00:00"}
+				], "balance": 92000}
+				""", MediaType.APPLICATION_JSON));
+		Bulkhead bulkhead = bulkheadRegistry.bulkhead(CoreApiFamily.TRANSACTIONS.instanceName());
+		int bulkheadCapacity = bulkhead.getMetrics().getMaxAllowedConcurrentCalls();
+
+		List<Integer> inflightDuringRead = new ArrayList<>();
+		List<Integer> bulkheadAvailableDuringRead = new ArrayList<>();
+
+		// when
+		CoreTransactionStreamRes res = client.forEachTransactionByPeriod(ACCOUNT_NO, date, date, item -> {
+			inflightDuringRead.add(limiter.getInflight());
+			bulkheadAvailableDuringRead.add(bulkhead.getMetrics().getAvailableConcurrentCalls());
+		});
+
+		// then
+		assertThat(res.count()).isEqualTo(2);
+		assertThat(inflightDuringRead).containsExactly(1, 1);
+		assertThat(bulkheadAvailableDuringRead).containsOnly(bulkheadCapacity - 1);
+		assertThat(limiter.getInflight()).isZero();
+		assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(bulkheadCapacity);
+		server.verify();
+	}
+}
@@ -0,0 +1,73 @@
+package dev.syntax.domain.account.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
+import dev.syntax.global.core.CoreApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoreAccountSnapshotCacheTest {
+
+	private static final Long USER_A = 1L;
+	private static final Long USER_B = 2L;
+
+	private CoreAccountSnapshotCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new CoreAccountSnapshotCache(new CoreApiProperties(), Runnable::run, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 무효화는 진행 중인 조회 결과의 저장을 막지 않는다")
+	void evictOtherUser_doesNotBlockConcurrentLoad() {
+		// given: 사용자 B를 조회하는 도중 사용자 A가 무효화됨
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		cache.get(USER_B, id -> {
+			calls.incrementAndGet();
+			cache.evict(USER_A);
+			return snapshot();
+		});
+		cache.get(USER_B, id -> {
+			calls.incrementAndGet();
+			return snapshot();
+		});
+
+		// then: 첫 조회 결과가 저장되어 두 번째 조회는 캐시에서 응답
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("조회 도중 같은 사용자가 무효화되면 조회 결과를 저장하지 않는다")
+	void evictSameUser_discardsInFlightLoad() {
+		// given
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		cache.get(USER_A, id -> {
+			calls.incrementAndGet();
+			cache.evict(USER_A);
+			return snapshot();
+		});
+		cache.get(USER_A, id -> {
+			calls.incrementAndGet();
+			return snapshot();
+		});
+
+		// then
+		assertThat(calls).hasValue(2);
+	}
+
+	private CoreUserAccountListRes snapshot() {
+		return new CoreUserAccountListRes(List.of(), List.of());
+	}
+}
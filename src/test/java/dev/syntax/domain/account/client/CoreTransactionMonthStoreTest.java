@@ -0,0 +1,164 @@
+package dev.syntax.domain.account.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import dev.syntax.domain.account.dto.core.CoreTransactionHistoryRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
+import dev.syntax.domain.account.entity.TransactionMonthSnapshot;
+import dev.syntax.domain.account.repository.TransactionMonthSnapshotRepository;
+import dev.syntax.domain.report.enums.Category;
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.GzipJsonCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CoreTransactionMonthStoreTest {
+
+	private static final String ACCOUNT_NO = "1234567890";
+
+	@Mock
+	private TransactionMonthSnapshotRepository snapshotRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final FakeStreamer streamer = new FakeStreamer();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private CoreTransactionMonthStore store;
+
+	@BeforeEach
+	void setUp() {
+		CoreApiProperties properties = new CoreApiProperties();
+		properties.getTransactionStore().setSettleGrace(Duration.ZERO);
+		GzipJsonCodec codec = new GzipJsonCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+		store = new CoreTransactionMonthStore(snapshotRepository, codec, properties, transactionManager, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("마감된 달은 Core에서 한 번만 조회하고 이후에는 보관본으로 응답한다")
+	void closedMonth_fetchedOnce() {
+		// given
+		YearMonth last = YearMonth.now().minusMonths(1);
+		LocalDate start = last.atDay(1);
+		LocalDate end = last.atEndOfMonth();
+		when(snapshotRepository.findByAccountNoAndYearAndMonth(ACCOUNT_NO, last.getYear(), last.getMonthValue()))
+			.thenReturn(Optional.empty());
+		streamer.respond(start, end, new CoreTransactionHistoryRes(List.of(item(1L, last.atDay(3))), BigDecimal.TEN));
+
+		// when
+		collect(start, end);
+		List<CoreTransactionItemRes> second = new ArrayList<>();
+		store.forEach(ACCOUNT_NO, start, end, streamer, second::add);
+
+		// then
+		assertThat(second).extracting(CoreTransactionItemRes::transactionId).containsExactly(1L);
+		assertThat(streamer.calls).isEqualTo(1);
+		verify(snapshotRepository).save(any(TransactionMonthSnapshot.class));
+		assertThat(meterRegistry.counter("core.transaction.store.calls.avoided").count()).isEqualTo(1.0);
+		assertThat(meterRegistry.counter("core.transaction.store.bytes.saved").count()).isPositive();
+	}
+
+	@Test
+	@DisplayName("이번 달을 포함한 기간은 이번 달 Core 조회 결과와 마감된 달 보관본을 응답 순서대로 이어서 전달한다")
+	void rangeAcrossOpenMonth_stitched() {
+		// given
+		YearMonth now = YearMonth.now();
+		YearMonth last = now.minusMonths(1);
+		LocalDate start = last.atDay(15);
+		LocalDate end = now.atEndOfMonth();
+
+		when(snapshotRepository.findByAccountNoAndYearAndMonth(ACCOUNT_NO, last.getYear(), last.getMonthValue()))
+			.thenReturn(Optional.empty());
+		streamer.respond(last.atDay(1), last.atEndOfMonth(), new CoreTransactionHistoryRes(
+			List.of(item(3L, last.atDay(20)), item(2L, last.atDay(16)), item(1L, last.atDay(2))), null));
+		streamer.respond(now.atDay(1), end, new CoreTransactionHistoryRes(List.of(item(4L, now.atDay(1))), BigDecimal.TEN));
+
+		// when
+		List<CoreTransactionItemRes> items = new ArrayList<>();
+		CoreTransactionStreamRes res = store.forEach(ACCOUNT_NO, start, end, streamer, items::add);
+
+		// then
+		assertThat(items).extracting(CoreTransactionItemRes::transactionId).containsExactly(4L, 3L, 2L);
+		assertThat(res.count()).isEqualTo(3);
+		assertThat(res.balance()).isEqualTo(BigDecimal.TEN);
+	}
+
+	@Test
+	@DisplayName("이번 달만 조회하면 Core에 그대로 위임한다")
+	void openMonthOnly_delegated() {
+		// given
+		YearMonth now = YearMonth.now();
+		streamer.respond(now.atDay(1), now.atEndOfMonth(),
+			new CoreTransactionHistoryRes(List.of(item(1L, now.atDay(1))), BigDecimal.ONE));
+
+		// when
+		CoreTransactionStreamRes res = store.forEach(ACCOUNT_NO, now.atDay(1), now.atEndOfMonth(), streamer, item -> {
+		});
+
+		// then
+		assertThat(res).isEqualTo(new CoreTransactionStreamRes(1, BigDecimal.ONE));
+		assertThat(streamer.calls).isEqualTo(1);
+		verifyNoInteractions(snapshotRepository);
+	}
+
+	private void collect(LocalDate start, LocalDate end) {
+		store.forEach(ACCOUNT_NO, start, end, streamer, item -> {
+		});
+	}
+
+	private CoreTransactionItemRes item(Long id, LocalDate date) {
+		return new CoreTransactionItemRes(id, "편의점", new BigDecimal("1000"), "WITHDRAW",
+			date.atTime(12, 0), Category.FOOD, new BigDecimal("5000"), "일시불");
+	}
+
+	/**
+	 * 기간별로 미리 정해진 Core 응답을 한 건씩 전달하는 조회 함수
+	 */
+	private static class FakeStreamer implements CoreTransactionMonthStore.PeriodStreamer {
+
+		private final Map<List<LocalDate>, CoreTransactionHistoryRes> responses = new HashMap<>();
+		private int calls;
+
+		void respond(LocalDate start, LocalDate end, CoreTransactionHistoryRes res) {
+			responses.put(List.of(start, end), res);
+		}
+
+		@Override
+		public CoreTransactionStreamRes stream(String accountNo, LocalDate startDate, LocalDate endDate,
+			Consumer<CoreTransactionItemRes> sink) {
+			calls++;
+			CoreTransactionHistoryRes res = responses.get(List.of(startDate, endDate));
+			if (res == null) {
+				return null;
+			}
+			res.transactions().forEach(sink);
+			return new CoreTransactionStreamRes(res.transactions().size(), res.balance());
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package dev.syntax.domain.account.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
+import dev.syntax.domain.report.enums.Category;
+
+class CoreTransactionStreamReaderTest {
+
+	private final CoreTransactionStreamReader reader =
+		new CoreTransactionStreamReader(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+	@Test
+	@DisplayName("거래 내역을 응답 순서대로 한 건씩 전달하고 건수와 잔액을 반환한다")
+	void read_streamsItems() throws IOException {
+		// given
+		String json = """
+			{
+			  "meta": {"page": 1, "tags": ["a", "b"]},
+			  "transactions": [
+			    {"transactionId": 2, "merchantName": "편의점", "amount": -5000, "code": "WITHDRAW",
+			     "transactionDate": "2025-03-02T12:00:00", "category": "FOOD", "balanceAfter": 95000,
+			     "transactionType": "일시불", "extra": {"ignored": true}},
+			    {"transactionId": 1, "merchantName": "용돈", "amount": 100000, "code": "DEPOSIT",
+			     "transactionDate": "2025-03-01T09:00:00", "category": "TRANSFER", "balanceAfter": 100000,
+			     "transactionType": "이체"}
+			  ],
+			  "balance": 95000
+			}
+			""";
+		List<CoreTransactionItemRes> items = new ArrayList<>();
+
+		// when
+		CoreTransactionStreamRes res = reader.read(body(json), items::add);
+
+		// then
+		assertThat(items).extracting(CoreTransactionItemRes::transactionId).containsExactly(2L, 1L);
+		assertThat(items.get(0).category()).isEqualTo(Category.FOOD);
+		assertThat(res.count()).isEqualTo(2);
+		assertThat(res.balance()).isEqualByComparingTo(new BigDecimal("95000"));
+	}
+
+	@Test
+	@DisplayName("transactions가 null이면 전달 없이 0건으로 처리한다")
+	void read_nullTransactions() throws IOException {
+		// given
+		List<CoreTransactionItemRes> items = new ArrayList<>();
+
+		// when
+		CoreTransactionStreamRes res = reader.read(body("{\"transactions\": null, \"balance\": null}"), items::add);
+
+		// then
+		assertThat(items).isEmpty();
+		assertThat(res).isEqualTo(new CoreTransactionStreamRes(0, null));
+	}
+
+	@Test
+	@DisplayName("본문이 비어 있거나 null이면 null을 반환한다")
+	void read_emptyBody() throws IOException {
+		assertThat(reader.read(body(""), item -> {
+		})).isNull();
+		assertThat(reader.read(body("null"), item -> {
+		})).isNull();
+	}
+
+	private InputStream body(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
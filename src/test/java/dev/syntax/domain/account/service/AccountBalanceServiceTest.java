@@ -4,7 +4,7 @@ import dev.syntax.domain.account.dto.AccountSummaryRes;
 import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
 import dev.syntax.domain.account.dto.core.CoreChildAccountInfoRes;
 import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
-import dev.syntax.domain.account.client.CoreAccountClient;
+import dev.syntax.domain.account.client.CoreAccountAsyncClient;
 import dev.syntax.domain.account.dto.AccountBalanceRes;
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
@@ -17,17 +17,21 @@ import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,11 +53,14 @@ class AccountBalanceServiceTest {
    private CardRepository cardRepository;
 
    @Mock
-   private CoreAccountClient coreAccountClient;
+   private CoreAccountAsyncClient coreAccountAsyncClient;
 
    @Mock
    private UserRepository userRepository;
 
+   @Spy
+   private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
        /**
      * TC-ACCOUNT-003: 자녀 본인 계좌 잔액 조회 성공
      *
@@ -103,8 +110,8 @@ class AccountBalanceServiceTest {
         // 자녀 계좌 정보를 포함한 Core 응답 생성
         CoreChildAccountInfoRes childInfo = new CoreChildAccountInfoRes(2L, childAccounts);
         
-        when(coreAccountClient.getUserAccounts())
-                .thenReturn(new CoreUserAccountListRes(List.of(), List.of(childInfo)));
+        when(coreAccountAsyncClient.getUserAccounts())
+                .thenReturn(CompletableFuture.completedFuture(new CoreUserAccountListRes(List.of(), List.of(childInfo))));
 
         // 카드 보유 여부 Mock
         when(accountRepository.findByUserIdAndType(2L, AccountType.ALLOWANCE))
@@ -120,5 +127,7 @@ class AccountBalanceServiceTest {
         assertThat(res.getInvest()).isEqualTo("30,000");
         assertThat(res.getGoal()).isEqualTo("20,000");
         assertThat(res.getCard().isHasCard()).isTrue();
+        assertThat(meterRegistry.find("account.summary.step").tag("step", "core_accounts").timer().count())
+                .isEqualTo(1);
    }
 }
@@ -5,6 +5,7 @@ import dev.syntax.domain.account.dto.AccountHistoryReq;
 import dev.syntax.domain.account.dto.AccountHistoryRes;
 import dev.syntax.domain.account.dto.core.CoreTransactionHistoryRes;
 import dev.syntax.domain.account.dto.core.CoreTransactionItemRes;
+import dev.syntax.domain.account.dto.core.CoreTransactionStreamRes;
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.account.repository.AccountRepository;
@@ -29,6 +30,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -154,10 +156,14 @@ class AccountHistoryServiceImplTest {
         when(accountRepository.findByUserIdAndType(CHILD_USER_ID, AccountType.ALLOWANCE))
                 .thenReturn(Optional.of(allowanceAccount));
 
-        // 2. coreAccountClient.getAccountTransactionsByPeriod() 호출 시 Core 응답 반환 Mocking
-        when(coreAccountClient.getAccountTransactionsByPeriod(
-                eq(ACCOUNT_NO), eq(coreClientStartDate), eq(coreClientEndDate)))
-                .thenReturn(coreRes);
+        // 2. coreAccountClient.forEachTransactionByPeriod() 호출 시 Core 거래를 한 건씩 전달하도록 Mocking
+        when(coreAccountClient.forEachTransactionByPeriod(
+                eq(ACCOUNT_NO), eq(coreClientStartDate), eq(coreClientEndDate), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<CoreTransactionItemRes> sink = invocation.getArgument(3);
+                    coreRes.transactions().forEach(sink);
+                    return new CoreTransactionStreamRes(coreRes.transactions().size(), coreRes.balance());
+                });
 
         // WHEN
         // AccountHistoryServiceImpl.getHistory()는 List<AccountHistoryRes>를 반환합니다.
@@ -199,7 +205,7 @@ class AccountHistoryServiceImplTest {
                 .findByUserIdAndType(eq(CHILD_USER_ID), eq(AccountType.ALLOWANCE));
         // DTO의 LocalDate 필드 값 (String 변환 값)으로 CoreAccountClient가 호출되었는지 검증
         verify(coreAccountClient, times(1))
-                .getAccountTransactionsByPeriod(eq(ACCOUNT_NO), eq(coreClientStartDate), eq(coreClientEndDate));
+                .forEachTransactionByPeriod(eq(ACCOUNT_NO), eq(coreClientStartDate), eq(coreClientEndDate), any());
     }
 
     // ----------------------------------------------------------------------------------
@@ -22,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import dev.syntax.domain.account.client.CoreAccountClient;
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
 import dev.syntax.domain.account.dto.CreateChildAccountReq;
 import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
 import dev.syntax.domain.account.dto.core.CoreInvestmentAccountRes;
@@ -36,6 +37,7 @@ import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.entity.UserRelationship;
 import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.auth.dto.UserContext;
 
 @ExtendWith(MockitoExtension.class)
 class BankAccountServiceTest {
@@ -54,6 +56,9 @@ class BankAccountServiceTest {
     @Mock
     private CoreAccountClient coreAccountClient;
 
+    @Mock
+    private CoreAccountSnapshotCache accountSnapshotCache;
+
     @Mock
     private CoreInvestmentClient coreInvestmentClient;
 
@@ -111,7 +116,7 @@ class BankAccountServiceTest {
         when(coreAccountClient.createChildAccount(any())).thenReturn(coreResponse);
 
         // when
-        bankAccountService.createChildAllowanceAccount(parent, req);
+        bankAccountService.createChildAllowanceAccount(new UserContext(parent), req);
 
         // then
         verify(userRepository).findById(2L);
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +33,7 @@ import dev.syntax.domain.user.entity.UserRelationship;
 import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRelationshipRepository;
 import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.auth.service.UserContextCache;
 import dev.syntax.global.exception.BusinessException;
 import dev.syntax.global.response.error.ErrorAuthCode;
 
@@ -54,6 +57,12 @@ class FamilyServiceImplTest {
 	@Mock
 	private NotificationService notificationService;
 
+	@Mock
+	private UserContextCache userContextCache;
+
+	@Mock
+	private PendingFamilyOtpIndex pendingOtpIndex;
+
 	@InjectMocks
 	private FamilyServiceImpl familyService;
 
@@ -100,6 +109,7 @@ class FamilyServiceImplTest {
 		assertThat(res.familyOtp()).matches("\\d{6}");
 		verify(otpRateLimitService).validateAndRecordOtpRequest(1L);
 		verify(relationshipRepository).save(any(UserRelationship.class));
+		verify(pendingOtpIndex).register(eq(res.familyOtp()), any());
 	}
 
 	/**
@@ -146,9 +156,54 @@ class FamilyServiceImplTest {
         // 알림 전송 검증 - 부모와 자녀에게 각각 다른 알림 전송
         verify(notificationService, times(1)).sendFamilyRegistrationNotice(parentUser, childUser.getName());
         verify(notificationService, times(1)).sendFamilyRegistrationChildNotice(childUser, parentUser.getName());
+
+        // 부모/자녀 인증 캐시 무효화 검증
+        verify(userContextCache).invalidate(parentUser.getId(), childUser.getId());
     }
 
+    @Test
+    @DisplayName("메모리 인덱스에 있는 OTP는 OTP 검색 없이 관계 ID로 조회한다")
+    void verifyOtp_indexed() {
+        UserRelationship pending = UserRelationship.builder()
+                .id(100L)
+                .parent(parentUser)
+                .child(null)
+                .familyOtp("123456")
+                .build();
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(childUser));
+        when(pendingOtpIndex.find("123456"))
+                .thenReturn(Optional.of(new PendingFamilyOtpIndex.Pending(100L, Long.MAX_VALUE)));
+        when(relationshipRepository.findById(100L)).thenReturn(Optional.of(pending));
+
+        // when
+        OtpVerifyRes res = familyService.verifyOtpAndCreateRelationship(2L, new OtpVerifyReq("123456"));
 
-	
+        // then
+        assertThat(res.parentId()).isEqualTo(parentUser.getId());
+        verify(relationshipRepository, never()).findByFamilyOtpAndChildIsNull(anyString());
+        verify(pendingOtpIndex).remove("123456", 100L);
+    }
+
+    @Test
+    @DisplayName("메모리 인덱스에 없고 DB의 OTP가 1분을 넘었으면 시간 초과 예외가 발생한다")
+    void verifyOtp_timeout() {
+        UserRelationship pending = UserRelationship.builder()
+                .id(100L)
+                .parent(parentUser)
+                .child(null)
+                .familyOtp("123456")
+                .build();
+        ReflectionTestUtils.setField(pending, "createdAt", LocalDateTime.now().minusMinutes(2));
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(childUser));
+        when(relationshipRepository.findByFamilyOtpAndChildIsNull("123456")).thenReturn(Optional.of(pending));
+
+        // when & then
+        assertThatThrownBy(() -> familyService.verifyOtpAndCreateRelationship(2L, new OtpVerifyReq("123456")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorAuthCode.FAMILY_OTP_TIMEOUT);
+    }
 
 }
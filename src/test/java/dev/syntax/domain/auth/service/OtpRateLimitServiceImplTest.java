@@ -0,0 +1,162 @@
+package dev.syntax.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import dev.syntax.domain.auth.repository.OtpRateLimitRepository;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OtpRateLimitServiceImplTest {
+
+	@Mock
+	private OtpRateLimitRepository repository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MutableClock clock = new MutableClock();
+
+	@Test
+	@DisplayName("1분에 3회까지 허용하고, 1분이 지나면 다시 허용한다 (DB 조회 없음)")
+	void oneMinuteLimit() {
+		// given
+		OtpRateLimitServiceImpl service = service(false);
+		for (int i = 0; i < 3; i++) {
+			service.validateAndRecordOtpRequest(1L);
+			clock.advance(Duration.ofSeconds(10));
+		}
+
+		// when & then
+		assertThatThrownBy(() -> service.validateAndRecordOtpRequest(1L))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorBaseCode.OTP_TOO_MANY_REQUESTS);
+		service.validateAndRecordOtpRequest(2L); // 다른 사용자는 영향 없음
+
+		clock.advance(Duration.ofSeconds(31));
+		service.validateAndRecordOtpRequest(1L);
+		assertThat(meterRegistry.get("auth.otp.rate-limit.rejected").counter().count()).isEqualTo(1.0);
+		verifyNoInteractions(repository, transactionManager);
+	}
+
+	@Test
+	@DisplayName("10분에 5회까지 허용하고, 거절된 요청은 횟수에 포함하지 않는다")
+	void tenMinuteLimit() {
+		// given
+		OtpRateLimitServiceImpl service = service(false);
+		for (int i = 0; i < 5; i++) {
+			service.validateAndRecordOtpRequest(1L);
+			clock.advance(Duration.ofMinutes(2));
+		}
+		// 첫 요청 후 10분이 되기 직전
+		clock.advance(Duration.ofSeconds(-1));
+
+		// when & then
+		assertThatThrownBy(() -> service.validateAndRecordOtpRequest(1L))
+			.isInstanceOf(BusinessException.class);
+		clock.advance(Duration.ofSeconds(1));
+		service.validateAndRecordOtpRequest(1L);
+	}
+
+	@Test
+	@DisplayName("요청이 없는 사용자의 버퍼는 10분 뒤 제거된다")
+	void evictIdleWindows() {
+		// given
+		OtpRateLimitServiceImpl service = service(false);
+		service.validateAndRecordOtpRequest(1L);
+		clock.advance(Duration.ofMinutes(5));
+		service.validateAndRecordOtpRequest(2L);
+
+		// when
+		clock.advance(Duration.ofMinutes(6));
+		service.evictIdleWindows();
+
+		// then
+		assertThat(meterRegistry.get("auth.otp.rate-limit.users").gauge().value()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("DB 기록을 켜면 다른 서버의 요청까지 합산해 거절하고, 메모리 기록도 되돌린다")
+	void persist_rejectedByDatabase() {
+		// given
+		OtpRateLimitServiceImpl service = service(true);
+		given(repository.countRecentRequests(eq(1L), any(), any())).willReturn(counts(4, 4));
+
+		// when & then
+		assertThatThrownBy(() -> service.validateAndRecordOtpRequest(1L))
+			.isInstanceOf(BusinessException.class);
+		verify(repository).save(any());
+		verify(transactionManager).rollback(any());
+		verify(transactionManager, never()).commit(any());
+
+		// 메모리 기록이 남아 있지 않으므로 DB가 허용하면 통과
+		given(repository.countRecentRequests(eq(1L), any(), any())).willReturn(counts(1, 1));
+		service.validateAndRecordOtpRequest(1L);
+		service.validateAndRecordOtpRequest(1L);
+		service.validateAndRecordOtpRequest(1L);
+	}
+
+	private OtpRateLimitServiceImpl service(boolean persist) {
+		return new OtpRateLimitServiceImpl(repository, transactionManager, persist, meterRegistry, clock);
+	}
+
+	private OtpRateLimitRepository.RecentRequestCounts counts(long count10Min, long count1Min) {
+		return new OtpRateLimitRepository.RecentRequestCounts() {
+			@Override
+			public long getCount10Min() {
+				return count10Min;
+			}
+
+			@Override
+			public long getCount1Min() {
+				return count1Min;
+			}
+		};
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("Asia/Seoul");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
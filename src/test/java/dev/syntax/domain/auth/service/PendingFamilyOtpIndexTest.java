@@ -0,0 +1,97 @@
+package dev.syntax.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PendingFamilyOtpIndexTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MutableClock clock = new MutableClock();
+	private final PendingFamilyOtpIndex index = new PendingFamilyOtpIndex(meterRegistry, clock);
+
+	@Test
+	@DisplayName("등록한 OTP는 1분 동안 조회되고, 1분이 지나면 조회되지 않는다")
+	void find_expiresAfterTtl() {
+		// given
+		index.register("123456", 100L);
+
+		// when & then
+		clock.advance(Duration.ofSeconds(59));
+		assertThat(index.find("123456")).get().extracting(PendingFamilyOtpIndex.Pending::relationshipId)
+			.isEqualTo(100L);
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(index.find("123456")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("타이밍 휠이 만료된 OTP만 제거한다")
+	void tick_removesExpiredOnly() {
+		// given
+		index.register("111111", 1L);
+		clock.advance(Duration.ofSeconds(30));
+		index.register("222222", 2L);
+
+		// when
+		clock.advance(Duration.ofSeconds(31));
+		index.tick();
+
+		// then
+		assertThat(meterRegistry.get("auth.family.otp.pending").gauge().value()).isEqualTo(1.0);
+		assertThat(index.contains("222222")).isTrue();
+
+		clock.advance(Duration.ofSeconds(30));
+		index.tick();
+		assertThat(meterRegistry.get("auth.family.otp.pending").gauge().value()).isEqualTo(0.0);
+	}
+
+	@Test
+	@DisplayName("같은 코드로 다시 등록된 관계는 이전 관계의 제거 요청으로 지워지지 않는다")
+	void remove_onlyMatchingRelationship() {
+		// given
+		index.register("123456", 100L);
+		index.register("123456", 200L);
+
+		// when
+		index.remove("123456", 100L);
+
+		// then
+		assertThat(index.find("123456")).get().extracting(PendingFamilyOtpIndex.Pending::relationshipId)
+			.isEqualTo(200L);
+		index.remove("123456", 200L);
+		assertThat(index.find("123456")).isEmpty();
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant now = Instant.parse("2025-01-01T00:00:00.500Z");
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("Asia/Seoul");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package dev.syntax.domain.auth.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.syntax.domain.auth.store.TempTokenStore.TempToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InMemoryTempTokenStoreTest {
+
+	private final AtomicLong nanos = new AtomicLong();
+	private final InMemoryTempTokenStore store = new InMemoryTempTokenStore(100, new SimpleMeterRegistry(), nanos::get);
+
+	@Test
+	@DisplayName("저장한 토큰은 유효 시간 동안 조회되고, 지나면 조회되지 않는다")
+	void find_expiresAfterTtl() {
+		// given
+		TempToken tempToken = new TempToken("token-1", "kakao-1", "kakao@teenyfinny.io", "카카오");
+		store.save(tempToken, Duration.ofMinutes(5));
+
+		// when & then
+		advance(Duration.ofMinutes(4));
+		assertThat(store.find("token-1")).contains(tempToken);
+
+		advance(Duration.ofMinutes(1));
+		assertThat(store.find("token-1")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("같은 카카오 사용자에게 새 토큰을 발급하면 이전 토큰은 삭제된다")
+	void save_replacesPreviousTokenOfProvider() {
+		// given
+		store.save(new TempToken("token-1", "kakao-1", null, "카카오"), Duration.ofMinutes(5));
+
+		// when
+		store.save(new TempToken("token-2", "kakao-1", null, "카카오"), Duration.ofMinutes(5));
+
+		// then
+		assertThat(store.find("token-1")).isEmpty();
+		assertThat(store.find("token-2")).isPresent();
+	}
+
+	@Test
+	@DisplayName("가입에 사용한 토큰은 삭제된다")
+	void delete() {
+		// given
+		store.save(new TempToken("token-1", "kakao-1", null, "카카오"), Duration.ofMinutes(5));
+
+		// when
+		store.delete("token-1");
+
+		// then
+		assertThat(store.find("token-1")).isEmpty();
+	}
+
+	private void advance(Duration duration) {
+		nanos.addAndGet(duration.toNanos());
+	}
+}
@@ -6,7 +6,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -87,7 +86,7 @@ class CardCreateServiceTest {
             given(req.getChildId()).willReturn(childId);
             given(userContext.getId()).willReturn(parentId);
             given(userContext.getRole()).willReturn(Role.PARENT.name());
-            given(userContext.getChildren()).willReturn(List.of(childId));
+            given(userContext.hasChild(childId)).willReturn(true);
 
             // 계좌 조회 및 카드 중복 확인 Mocking
             given(accountRepository.findByUserIdAndType(childId, AccountType.ALLOWANCE))
@@ -130,7 +129,7 @@ class CardCreateServiceTest {
             given(req.getChildId()).willReturn(otherChildId);
             given(userContext.getId()).willReturn(parentId);
             given(userContext.getRole()).willReturn(Role.PARENT.name());
-            given(userContext.getChildren()).willReturn(List.of(childId)); // 다른 자녀만 있음
+            given(userContext.hasChild(otherChildId)).willReturn(false); // 다른 자녀만 있음
 
             // when & then
             assertThatThrownBy(() -> cardCreateService.createCard(req, userContext))
@@ -149,7 +148,7 @@ class CardCreateServiceTest {
             given(req.getChildId()).willReturn(childId);
             given(userContext.getId()).willReturn(parentId);
             given(userContext.getRole()).willReturn(Role.PARENT.name());
-            given(userContext.getChildren()).willReturn(List.of(childId));
+            given(userContext.hasChild(childId)).willReturn(true);
 
             given(accountRepository.findByUserIdAndType(childId, AccountType.ALLOWANCE))
                     .willReturn(Optional.empty());
@@ -172,7 +171,7 @@ class CardCreateServiceTest {
             given(req.getChildId()).willReturn(childId);
             given(userContext.getId()).willReturn(parentId);
             given(userContext.getRole()).willReturn(Role.PARENT.name());
-            given(userContext.getChildren()).willReturn(List.of(childId));
+            given(userContext.hasChild(childId)).willReturn(true);
 
             given(accountRepository.findByUserIdAndType(childId, AccountType.ALLOWANCE))
                     .willReturn(Optional.of(account));
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -90,7 +89,7 @@ class CardInquiryServiceTest {
 
             // given(userContext.getId()).willReturn(parentId); // Unnecessary
             given(userContext.getRole()).willReturn(Role.PARENT.name());
-            given(userContext.getChildren()).willReturn(List.of(childId));
+            given(userContext.hasChild(childId)).willReturn(true);
 
             given(accountRepository.findByUserIdAndType(childId, AccountType.ALLOWANCE))
                     .willReturn(Optional.of(account));
@@ -129,7 +128,7 @@ class CardInquiryServiceTest {
 
             // given(userContext.getId()).willReturn(parentId); // Unnecessary
             given(userContext.getRole()).willReturn(Role.PARENT.name());
-            given(userContext.getChildren()).willReturn(List.of(childId)); // 다른 자녀만 있음
+            given(userContext.hasChild(otherChildId)).willReturn(false); // 다른 자녀만 있음
 
             // when & then
             assertThatThrownBy(() -> cardInquiryService.getCardInfo(otherChildId, userContext))
@@ -1,5 +1,6 @@
 package dev.syntax.domain.goal.service;
 
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.account.repository.AccountRepository;
@@ -51,6 +52,7 @@ class GoalServiceImplTest {
     @Mock private GoalAccountService goalAccountService;
     @Mock private AutoTransferService autoTransferService;
     @Mock private AccountRepository accountRepository;
+    @Mock private CoreAccountSnapshotCache accountSnapshotCache;
 
     @InjectMocks
     private GoalServiceImpl goalService;
@@ -94,6 +96,10 @@ class GoalServiceImplTest {
         childContext = new UserContext(child);
         parentContext = new UserContext(parent);
 
+        // 서비스는 UserContext의 ID로 User 엔티티를 직접 조회합니다.
+        lenient().when(userRepository.findById(child.getId())).thenReturn(Optional.of(child));
+        lenient().when(userRepository.findById(parent.getId())).thenReturn(Optional.of(parent));
+
         // 5. Goal 및 Account 정의
         ongoingGoal = Goal.builder()
                 .id(11L).user(child).status(GoalStatus.ONGOING)
@@ -130,7 +136,7 @@ class GoalServiceImplTest {
         when(goalRepository.existsByUserAndStatus(eq(child), eq(GoalStatus.ONGOING))).thenReturn(false);
 
         // Mocking: getParent() 호출
-        when(userRepository.findById(any())).thenReturn(Optional.of(parent));
+        when(userRepository.findById(childContext.getParentId())).thenReturn(Optional.of(parent));
 
         // WHEN
         goalService.createGoal(childContext, req);
@@ -213,6 +219,6 @@ class GoalServiceImplTest {
 
         // 실패 후 후속 작업이 없는지 검증
         verify(notificationService, never()).sendGoalCompleteRequestNotice(any(), any());
-        verify(userRepository, never()).findById(any());
+        verify(userRepository, only()).findById(child.getId());
     }
 }
\ No newline at end of file
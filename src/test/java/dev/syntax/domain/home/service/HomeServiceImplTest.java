@@ -8,6 +8,7 @@ import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.home.dto.HomeRes;
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.enums.Role;
+import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,6 +40,9 @@ class HomeServiceImplTest {
     @Mock
     private CoreAccountClient coreAccountClient;
 
+    @Mock
+    private UserRepository userRepository;
+
     // UserContext에 필요한 필드 Mock Data
     private final Long PARENT_ID = 1L;
     private final String PARENT_NAME = "부모님";
@@ -81,7 +86,9 @@ class HomeServiceImplTest {
 
         // 2. Mock Parent UserContext 설정 (자녀 목록 비어있음)
         parentContextNoChildren = mock(UserContext.class);
-        when(parentContextNoChildren.getUser()).thenReturn(mockParent);
+        when(parentContextNoChildren.getId()).thenReturn(PARENT_ID);
+        when(parentContextNoChildren.getRole()).thenReturn(Role.PARENT.name());
+        when(userRepository.findByIdWithChildren(PARENT_ID)).thenReturn(Optional.of(mockParent));
         // UserContext의 getChildren()은 HomeServiceImpl에서 직접 사용되지 않으므로, UnnecessaryStubbingException을 피하기 위해 제거합니다.
         // when(parentContextNoChildren.getChildren()).thenReturn(Collections.emptyList());
 
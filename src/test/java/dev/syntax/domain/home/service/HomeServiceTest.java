@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import dev.syntax.domain.home.dto.HomeRes;
 import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.entity.UserRelationship;
 import dev.syntax.domain.user.enums.Role;
+import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +36,9 @@ class HomeServiceTest {
 	@Mock
 	private CoreAccountClient coreAccountClient;
 
+	@Mock
+	private UserRepository userRepository;
+
 	@Test
 	@DisplayName("부모 - 자녀 없는 경우")
 	void parent_no_children() {
@@ -47,6 +52,7 @@ class HomeServiceTest {
 			.build();
 
 		UserContext context = new UserContext(parent);
+		given(userRepository.findByIdWithChildren(parent.getId())).willReturn(Optional.of(parent));
 
 		// Core 계좌 조회 Mock — 파라미터 없음
 		CoreUserAccountListRes coreAccounts = new CoreUserAccountListRes(
@@ -91,6 +97,7 @@ class HomeServiceTest {
 			.build();
 
 		UserContext context = new UserContext(parent);
+		given(userRepository.findByIdWithChildren(parent.getId())).willReturn(Optional.of(parent));
 
 		// Core 계좌 조회 Mock
 		CoreUserAccountListRes coreAccounts = new CoreUserAccountListRes(
@@ -130,6 +137,7 @@ class HomeServiceTest {
 			.build();
 
 		UserContext context = new UserContext(child);
+		given(userRepository.findById(child.getId())).willReturn(Optional.of(child));
 
 		CoreUserAccountListRes coreAccounts = new CoreUserAccountListRes(
 			List.of(
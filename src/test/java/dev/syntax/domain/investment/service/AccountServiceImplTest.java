@@ -3,6 +3,8 @@ package dev.syntax.domain.investment.service;
 import dev.syntax.domain.account.client.CoreAccountClient;
 import dev.syntax.domain.account.dto.core.CoreInvestmentAccountRes;
 import dev.syntax.global.core.CoreApiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -23,6 +25,9 @@ class AccountServiceImplTest {
     @Mock
     private CoreApiProperties properties;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -35,9 +40,10 @@ class AccountServiceImplTest {
         CoreInvestmentAccountRes mockRes = new CoreInvestmentAccountRes("12345678", 1L, 0L);
 
         when(coreRestTemplate.postForObject(
-                properties.getBaseUrl() + "/core/banking/account/investment?userId=" + userId,
+                properties.getBaseUrl() + "/core/banking/account/investment?userId={userId}",
                 null,
-                CoreInvestmentAccountRes.class
+                CoreInvestmentAccountRes.class,
+                userId
         )).thenReturn(mockRes);
 
         CoreInvestmentAccountRes res = coreAccountClient.createInvestmentAccount(userId);
@@ -51,9 +57,10 @@ class AccountServiceImplTest {
         Long userId = 1L;
 
         when(coreRestTemplate.postForObject(
-                properties.getBaseUrl() + "/core/banking/account/investment?userId=" + userId,
+                properties.getBaseUrl() + "/core/banking/account/investment?userId={userId}",
                 null,
-                CoreInvestmentAccountRes.class
+                CoreInvestmentAccountRes.class,
+                userId
         )).thenReturn(null);
 
         CoreInvestmentAccountRes res = coreAccountClient.createInvestmentAccount(userId);
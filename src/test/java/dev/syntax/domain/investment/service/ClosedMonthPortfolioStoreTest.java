@@ -0,0 +1,163 @@
+package dev.syntax.domain.investment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.syntax.domain.investment.client.CoreInvestmentClient;
+import dev.syntax.domain.investment.dto.TopHoldingItem;
+import dev.syntax.domain.investment.dto.res.PortfolioRes;
+import dev.syntax.domain.investment.entity.PortfolioSnapshot;
+import dev.syntax.domain.investment.repository.PortfolioSnapshotRepository;
+import dev.syntax.global.core.CoreApiProperties;
+import dev.syntax.global.core.GzipJsonCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ClosedMonthPortfolioStoreTest {
+
+	private static final String CANO = "12345678";
+
+	@Mock
+	private CoreInvestmentClient coreInvestmentClient;
+
+	@Mock
+	private PortfolioSnapshotRepository portfolioSnapshotRepository;
+
+	private final GzipJsonCodec codec = new GzipJsonCodec(new ObjectMapper());
+	private ClosedMonthPortfolioStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new ClosedMonthPortfolioStore(
+			coreInvestmentClient, portfolioSnapshotRepository, codec,
+			new CoreApiProperties(), new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("이번 달 포트폴리오는 항상 Core에서 조회한다")
+	void getPortfolio_currentMonth_alwaysCore() {
+		// given
+		YearMonth now = YearMonth.now();
+		when(coreInvestmentClient.getMonthlyPortfolio(CANO, now.getYear(), now.getMonthValue()))
+			.thenReturn(portfolio("1,000"));
+
+		// when
+		store.getPortfolio(CANO, now.getYear(), now.getMonthValue());
+		store.getPortfolio(CANO, now.getYear(), now.getMonthValue());
+
+		// then
+		verify(coreInvestmentClient, times(2)).getMonthlyPortfolio(CANO, now.getYear(), now.getMonthValue());
+		verifyNoInteractions(portfolioSnapshotRepository);
+	}
+
+	@Test
+	@DisplayName("마감된 달은 Core에서 한 번만 조회해 저장하고 이후 메모리에서 응답한다")
+	void getPortfolio_closedMonth_fetchOnceAndPersist() {
+		// given
+		YearMonth last = YearMonth.now().minusMonths(1);
+		when(portfolioSnapshotRepository.findByCanoAndYearAndMonth(CANO, last.getYear(), last.getMonthValue()))
+			.thenReturn(Optional.empty());
+		when(coreInvestmentClient.getMonthlyPortfolio(CANO, last.getYear(), last.getMonthValue(), null))
+			.thenReturn(portfolio("2,000"));
+
+		// when
+		PortfolioRes first = store.getPortfolio(CANO, last.getYear(), last.getMonthValue());
+		PortfolioRes second = store.getPortfolio(CANO, last.getYear(), last.getMonthValue());
+
+		// then
+		assertThat(second).isEqualTo(first);
+		verify(coreInvestmentClient, times(1)).getMonthlyPortfolio(CANO, last.getYear(), last.getMonthValue(), null);
+
+		ArgumentCaptor<PortfolioSnapshot> captor = ArgumentCaptor.forClass(PortfolioSnapshot.class);
+		verify(portfolioSnapshotRepository).save(captor.capture());
+		assertThat(codec.decode(captor.getValue().getPayload(), PortfolioRes.class)).isEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("DB에 저장된 마감 월은 Core를 호출하지 않는다")
+	void getPortfolio_closedMonth_fromDatabase() {
+		// given
+		YearMonth last = YearMonth.now().minusMonths(2);
+		PortfolioRes stored = portfolio("3,000");
+		GzipJsonCodec.Encoded encoded = codec.encode(stored);
+		when(portfolioSnapshotRepository.findByCanoAndYearAndMonth(CANO, last.getYear(), last.getMonthValue()))
+			.thenReturn(Optional.of(PortfolioSnapshot.builder()
+				.cano(CANO).year(last.getYear()).month(last.getMonthValue())
+				.payload(encoded.payload()).rawSize(encoded.rawSize())
+				.build()));
+
+		// when
+		PortfolioRes res = store.getPortfolio(CANO, last.getYear(), last.getMonthValue());
+
+		// then
+		assertThat(res).isEqualTo(stored);
+		verify(coreInvestmentClient, never()).getMonthlyPortfolio(anyString(), anyInt(), anyInt(), any());
+	}
+
+	@Test
+	@DisplayName("백필은 계좌 소유자의 Core User ID로 Core를 조회한다")
+	void warm_usesOwnerCoreUserId() {
+		// given
+		YearMonth last = YearMonth.now().minusMonths(2);
+		when(portfolioSnapshotRepository.findByCanoAndYearAndMonth(CANO, last.getYear(), last.getMonthValue()))
+			.thenReturn(Optional.empty());
+		when(coreInvestmentClient.getMonthlyPortfolio(CANO, last.getYear(), last.getMonthValue(), 77L))
+			.thenReturn(portfolio("4,000"));
+
+		// when
+		boolean warmed = store.warm(CANO, last.getYear(), last.getMonthValue(), 77L);
+
+		// then
+		assertThat(warmed).isTrue();
+		verify(coreInvestmentClient).getMonthlyPortfolio(CANO, last.getYear(), last.getMonthValue(), 77L);
+		verify(portfolioSnapshotRepository).save(any(PortfolioSnapshot.class));
+	}
+
+	@Test
+	@DisplayName("월이 바뀐 직후 settle-grace 동안은 지난 달을 보관하지 않고 Core에서 조회한다")
+	void closedMonth_withinSettleGrace_notArchived() {
+		// given
+		CoreApiProperties properties = new CoreApiProperties();
+		properties.getPortfolioArchive().setSettleGrace(Duration.ofDays(62));
+		store = new ClosedMonthPortfolioStore(
+			coreInvestmentClient, portfolioSnapshotRepository, codec, properties, new SimpleMeterRegistry());
+		YearMonth last = YearMonth.now().minusMonths(1);
+
+		// when
+		boolean warmed = store.warm(CANO, last.getYear(), last.getMonthValue(), 77L);
+		store.getPortfolio(CANO, last.getYear(), last.getMonthValue());
+
+		// then
+		assertThat(warmed).isFalse();
+		verify(coreInvestmentClient).getMonthlyPortfolio(CANO, last.getYear(), last.getMonthValue());
+		verifyNoInteractions(portfolioSnapshotRepository);
+	}
+
+	private PortfolioRes portfolio(String depositAmount) {
+		return PortfolioRes.builder()
+			.userId(1L)
+			.depositAmount(depositAmount)
+			.totEvluAmt("10,000")
+			.totalProfitAmount("500")
+			.totalProfitRate("5.00")
+			.holdings(List.of())
+			.topHoldings(List.of(new TopHoldingItem("삼성전자", 100.0)))
+			.build();
+	}
+}
@@ -203,6 +203,8 @@ class QuizServiceImplTest {
         // GIVEN
         // getParent() 로직 Mocking: childContext의 PARENT_ID로 부모 User를 조회하면 설정된 parent 객체를 반환
         when(userRepository.findById(childContext.getParentId())).thenReturn(Optional.of(parent));
+        // 자녀 본인은 UserContext의 ID로 조회
+        when(userRepository.findById(child.getId())).thenReturn(Optional.of(child));
 
         // WHEN
         quizService.sendInvestmentAccountRequest(childContext);
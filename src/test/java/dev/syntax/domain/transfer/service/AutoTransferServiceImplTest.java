@@ -1,5 +1,6 @@
 package dev.syntax.domain.transfer.service;
 
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
 import dev.syntax.domain.account.entity.Account;
 import dev.syntax.domain.account.enums.AccountType;
 import dev.syntax.domain.account.repository.AccountRepository;
@@ -30,7 +31,6 @@ import org.mockito.quality.Strictness; // 추가
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Arrays; // 추가
 import java.util.HashSet; // 추가
 import java.util.List; // 추가
 
@@ -58,6 +58,9 @@ class AutoTransferServiceImplTest {
     @Mock
     private CoreAutoTransferClient coreAutoTransferClient;
 
+    @Mock
+    private CoreAccountSnapshotCache accountSnapshotCache;
+
     // Mock Data
     private final Long PARENT_ID = 1L;
     private final Long CHILD_ID = 10L;
@@ -130,9 +133,8 @@ class AutoTransferServiceImplTest {
         when(parentContext.getId()).thenReturn(PARENT_ID);
         when(parentContext.getRole()).thenReturn(Role.PARENT.name());
 
-        when(parentContext.getUser()).thenReturn(mockParent);
-        // UserContext의 getChildren()이 List<Long>을 반환하도록 정의되어 있으므로 이에 맞게 수정합니다.
-        when(parentContext.getChildren()).thenReturn(Arrays.asList(CHILD_ID));
+        // 부모-자녀 관계 확인은 hasChild()로 수행합니다.
+        when(parentContext.hasChild(CHILD_ID)).thenReturn(true);
 
         // 2. Mock Account 설정 (Account 엔티티 구조 변경 반영)
         // Account.builder()는 실제 엔티티 구현에 의존하므로, Role을 가진 mockParent를 사용합니다.
@@ -242,7 +244,8 @@ class AutoTransferServiceImplTest {
 
         // UserContext를 Mock하여 PARENT가 아닌 사용자 Context를 정의합니다.
         UserContext childContext = mock(UserContext.class);
-        when(childContext.getUser()).thenReturn(mockChild);
+        when(childContext.getId()).thenReturn(CHILD_ID);
+        when(childContext.getRole()).thenReturn(Role.CHILD.name());
 
         // WHEN & THEN
         BusinessException thrown = assertThrows(BusinessException.class, () -> {
@@ -20,6 +20,7 @@ import dev.syntax.domain.user.entity.User;
 import dev.syntax.domain.user.enums.Role;
 import dev.syntax.domain.user.repository.UserRepository;
 import dev.syntax.global.auth.dto.UserContext;
+import dev.syntax.global.auth.service.SecurityVersionTable;
 import dev.syntax.global.auth.service.UserContextServiceImpl;
 
 class JwtTokenProviderTest {
@@ -151,4 +152,117 @@ class JwtTokenProviderTest {
         assertThat(refreshedUser.getId()).isEqualTo(1L);
         assertThat(refreshedUser.getEmail()).isEqualTo("test@teenyfinny.io");
     }
+
+	@Test
+	@DisplayName("같은 토큰을 다시 검증하면 서명 검증 없이 캐시된 Claims를 반환한다")
+	void 검증된_토큰_재사용() {
+		// given
+		User user = User.builder()
+			.id(1L)
+			.email("test@teenyfinny.io")
+			.role(Role.PARENT)
+			.build();
+		UserContext context = new UserContext(user);
+		String token = provider.generateToken(
+			new UsernamePasswordAuthenticationToken(context, null, context.getAuthorities()));
+		when(userContextService.loadUserById(1L)).thenReturn(context);
+
+		// when
+		var first = provider.verify(token);
+		var second = provider.verify(token);
+		var restoredAuth = provider.getAuthentication(second);
+
+		// then
+		assertThat(first).isNotNull();
+		assertThat(second).isSameAs(first);
+		assertThat(((UserContext)restoredAuth.getPrincipal()).getId()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("서명이 변조된 토큰은 검증에 실패한다")
+	void 변조된_토큰_검증_실패() {
+		// given
+		User user = User.builder()
+			.id(1L)
+			.email("test@teenyfinny.io")
+			.role(Role.PARENT)
+			.build();
+		UserContext context = new UserContext(user);
+		String token = provider.generateToken(
+			new UsernamePasswordAuthenticationToken(context, null, context.getAuthorities()));
+		provider.verify(token);
+
+		String signature = token.substring(token.lastIndexOf('.') + 1);
+		String tampered = token.substring(0, token.lastIndexOf('.') + 1)
+			+ (signature.charAt(0) == 'A' ? 'B' : 'A') + signature.substring(1);
+
+		// when & then
+		assertThat(provider.verify(tampered)).isNull();
+		assertThat(provider.validateToken(tampered)).isFalse();
+	}
+
+	@Test
+	@DisplayName("Stateless 모드에서 보안 버전이 최신이면 DB 조회 없이 토큰으로 인증 객체를 만든다")
+	void stateless_최신_버전_DB_조회_없음() {
+		// given
+		SecurityVersionTable versionTable = mock(SecurityVersionTable.class);
+		JwtTokenProvider statelessProvider = statelessProvider(versionTable);
+		User parent = User.builder()
+			.id(1L)
+			.email("parent@teenyfinny.io")
+			.role(Role.PARENT)
+			.coreUserId(100L)
+			.build();
+		UserContext context = new UserContext(parent);
+		String token = statelessProvider.generateToken(
+			new UsernamePasswordAuthenticationToken(context, null, context.getAuthorities()));
+		when(versionTable.isCurrent(1L, 0L)).thenReturn(true);
+
+		// when
+		var restoredAuth = statelessProvider.getAuthentication(token);
+
+		// then
+		UserContext restored = (UserContext)restoredAuth.getPrincipal();
+		assertThat(restored.getId()).isEqualTo(1L);
+		assertThat(restored.getRole()).isEqualTo("PARENT");
+		assertThat(restored.getCoreUserId()).isEqualTo(100L);
+		assertThat(restored.getChildren()).isEmpty();
+		assertThat(restoredAuth.getAuthorities()).extracting("authority").containsExactly("ROLE_PARENT");
+		verify(userContextService, never()).loadUserById(any());
+	}
+
+	@Test
+	@DisplayName("Stateless 모드에서 보안 버전이 오래되었으면 DB에서 최신 사용자 정보를 조회한다")
+	void stateless_오래된_버전_DB_조회() {
+		// given
+		SecurityVersionTable versionTable = mock(SecurityVersionTable.class);
+		JwtTokenProvider statelessProvider = statelessProvider(versionTable);
+		User parent = User.builder()
+			.id(1L)
+			.email("parent@teenyfinny.io")
+			.role(Role.PARENT)
+			.build();
+		UserContext context = new UserContext(parent);
+		String token = statelessProvider.generateToken(
+			new UsernamePasswordAuthenticationToken(context, null, context.getAuthorities()));
+		when(versionTable.isCurrent(1L, 0L)).thenReturn(false);
+		when(userContextService.loadUserById(1L)).thenReturn(context);
+
+		// when
+		var restoredAuth = statelessProvider.getAuthentication(token);
+
+		// then
+		assertThat(restoredAuth.getPrincipal()).isSameAs(context);
+		verify(userContextService).loadUserById(1L);
+	}
+
+	private JwtTokenProvider statelessProvider(SecurityVersionTable versionTable) {
+		return new JwtTokenProvider(
+			"z6BLCa71yUubJVvxoI1PLcFlec1qiwb+szYXKvGmlIAHwYX1F5WVq2jNP05AyAaQrpQw/iR7/DnkiEHOWtQvRg==",
+			1L,
+			userContextService,
+			true,
+			versionTable
+		);
+	}
 }
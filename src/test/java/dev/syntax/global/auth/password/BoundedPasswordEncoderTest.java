@@ -0,0 +1,117 @@
+package dev.syntax.global.auth.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("해시 생성과 검증은 전용 풀에서 실행되고 지연 시간이 기록된다")
+	void encodeAndMatches_runOnPool() {
+		// given
+		executor = executor(1, 4);
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, false, registry);
+
+		// when
+		String hash = encoder.encode("123456");
+		boolean matched = encoder.matches("123456", hash);
+		boolean mismatched = encoder.matches("654321", hash);
+
+		// then
+		assertThat(matched).isTrue();
+		assertThat(mismatched).isFalse();
+		assertThat(registry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+		assertThat(registry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("풀과 대기열이 가득 차면 기다리지 않고 503으로 실패한다")
+	void queueFull_failsFast() throws Exception {
+		// given
+		executor = executor(1, 0);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking(started, release), executor, false, registry);
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		assertThatThrownBy(() -> encoder.encode("second"))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorBaseCode.PASSWORD_HASHING_BUSY);
+		assertThat(registry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1.0);
+		assertThat(registry.get("auth.password.hash.active").gauge().value()).isEqualTo(1.0);
+
+		release.countDown();
+		assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hash:first");
+	}
+
+	@Test
+	@DisplayName("rehash-on-verify가 켜져 있을 때만 cost가 낮은 해시의 재저장을 요청한다")
+	void upgradeEncoding_onlyWhenEnabled() {
+		// given
+		executor = executor(1, 4);
+		String weakHash = new BCryptPasswordEncoder(4).encode("123456");
+		BoundedPasswordEncoder enabled = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), executor, true, registry);
+		BoundedPasswordEncoder disabled = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), executor, false,
+			new SimpleMeterRegistry());
+
+		// when & then
+		assertThat(enabled.upgradeEncoding(weakHash)).isTrue();
+		assertThat(enabled.upgradeEncoding(new BCryptPasswordEncoder(5).encode("123456"))).isFalse();
+		assertThat(disabled.upgradeEncoding(weakHash)).isFalse();
+	}
+
+	private ThreadPoolTaskExecutor executor(int poolSize, int queueCapacity) {
+		ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+		pool.setCorePoolSize(poolSize);
+		pool.setMaxPoolSize(poolSize);
+		pool.setQueueCapacity(queueCapacity);
+		pool.initialize();
+		return pool;
+	}
+
+	private PasswordEncoder blocking(CountDownLatch started, CountDownLatch release) {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(1, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "hash:" + rawPassword;
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encodedPassword.equals("hash:" + rawPassword);
+			}
+		};
+	}
+}
@@ -0,0 +1,152 @@
+package dev.syntax.global.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import dev.syntax.domain.user.enums.Role;
+import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.auth.dto.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserContextServiceImplTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private UserContextCache userContextCache;
+	private UserContextServiceImpl userContextService;
+
+	private final List<UserRepository.PrincipalView> parentRows = List.of(
+		new Row(1L, "parent@teenyfinny.io", Role.PARENT, 100L, 0L, null, 3L),
+		new Row(1L, "parent@teenyfinny.io", Role.PARENT, 100L, 0L, null, 2L),
+		new Row(1L, "parent@teenyfinny.io", Role.PARENT, 100L, 0L, null, null) // OTP 대기 중인 관계
+	);
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		userContextCache = new UserContextCache(true, 100, Duration.ofMinutes(1), meterRegistry);
+		userContextService = new UserContextServiceImpl(userRepository, userContextCache);
+	}
+
+	@Test
+	@DisplayName("같은 사용자를 다시 인증하면 DB를 조회하지 않고 캐시된 UserContext를 반환한다")
+	void loadUserById_cached() {
+		// given
+		given(userRepository.findPrincipalRowsById(1L)).willReturn(parentRows);
+
+		// when
+		UserContext first = userContextService.loadUserById(1L);
+		UserContext second = userContextService.loadUserById(1L);
+
+		// then
+		assertThat(second).isSameAs(first);
+		verify(userRepository, times(1)).findPrincipalRowsById(1L);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.user.context").tag("result", "hit")
+			.functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("무효화된 사용자는 다음 인증 시 DB에서 다시 조회한다")
+	void loadUserById_afterInvalidate_reloads() {
+		// given
+		given(userRepository.findPrincipalRowsById(1L)).willReturn(parentRows);
+		userContextService.loadUserById(1L);
+
+		// when
+		userContextCache.invalidate(1L);
+		userContextService.loadUserById(1L);
+
+		// then
+		verify(userRepository, times(2)).findPrincipalRowsById(1L);
+	}
+
+	@Test
+	@DisplayName("projection 조회 결과로 자녀 ID를 정렬해 담고, 대기 중인 관계는 제외한다")
+	void loadUserById_buildsPrincipalFromRows() {
+		// given
+		given(userRepository.findPrincipalRowsById(1L)).willReturn(parentRows);
+
+		// when
+		UserContext context = userContextService.loadUserById(1L);
+
+		// then
+		assertThat(context.getId()).isEqualTo(1L);
+		assertThat(context.getRole()).isEqualTo("PARENT");
+		assertThat(context.getCoreUserId()).isEqualTo(100L);
+		assertThat(context.getParentId()).isNull();
+		assertThat(context.getChildren()).containsExactly(2L, 3L);
+		assertThat(context.hasChild(3L)).isTrue();
+		assertThat(context.hasChild(4L)).isFalse();
+		assertThat(context.getPassword()).isNull();
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 사용자는 예외를 던지고 캐시하지 않는다")
+	void loadUserById_notFound() {
+		// given
+		given(userRepository.findPrincipalRowsById(99L)).willReturn(List.of());
+
+		// when & then
+		assertThatThrownBy(() -> userContextService.loadUserById(99L))
+			.isInstanceOf(UsernameNotFoundException.class);
+		assertThatThrownBy(() -> userContextService.loadUserById(99L))
+			.isInstanceOf(UsernameNotFoundException.class);
+		verify(userRepository, times(2)).findPrincipalRowsById(99L);
+	}
+
+	private record Row(Long id, String email, Role role, Long coreUserId, Long securityVersion, Long parentId,
+		Long childId) implements UserRepository.PrincipalView {
+
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getEmail() {
+			return email;
+		}
+
+		@Override
+		public Role getRole() {
+			return role;
+		}
+
+		@Override
+		public Long getCoreUserId() {
+			return coreUserId;
+		}
+
+		@Override
+		public Long getSecurityVersion() {
+			return securityVersion;
+		}
+
+		@Override
+		public Long getParentId() {
+			return parentId;
+		}
+
+		@Override
+		public Long getChildId() {
+			return childId;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import dev.syntax.domain.user.entity.User;
+import dev.syntax.domain.user.enums.Role;
+import dev.syntax.global.auth.dto.UserContext;
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.exception.CoreApiException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoreAsyncExecutorTest {
+
+	private final ExecutorService pool = Executors.newSingleThreadExecutor();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		pool.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("호출 스레드의 인증 사용자(Core User ID)가 작업 스레드로 전달된다")
+	void supply_propagatesSecurityContext() {
+		// given
+		User user = User.builder().id(1L).email("child@test.com").password("pw").role(Role.CHILD).coreUserId(77L).build();
+		UserContext principal = new UserContext(user);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+		CoreAsyncExecutor executor = new CoreAsyncExecutor(new DelegatingSecurityContextExecutor(pool), registry);
+
+		// when
+		Long coreUserId = CoreAsyncExecutor.join(executor.supply(CoreUserIdResolver::currentCoreUserId));
+
+		// then
+		assertThat(coreUserId).isEqualTo(77L);
+	}
+
+	@Test
+	@DisplayName("join은 Core 호출 예외를 CompletionException으로 감싸지 않고 그대로 던진다")
+	void join_unwrapsCause() {
+		// given
+		CoreAsyncExecutor executor = new CoreAsyncExecutor(pool, registry);
+
+		// when
+		CompletableFuture<Object> future = executor.supply(() -> {
+			throw new BusinessException(ErrorBaseCode.NOT_FOUND_ENTITY);
+		});
+
+		// then
+		assertThatThrownBy(() -> CoreAsyncExecutor.join(future)).isInstanceOf(BusinessException.class);
+	}
+
+	@Test
+	@DisplayName("실행 풀이 작업을 거절하면 CORE_API_UNAVAILABLE로 실패한 future를 반환한다")
+	void supply_rejected_failsFast() {
+		// given
+		pool.shutdown();
+		CoreAsyncExecutor executor = new CoreAsyncExecutor(pool, registry);
+
+		// when
+		CompletableFuture<String> future = executor.supply(() -> "ok");
+
+		// then
+		assertThatThrownBy(() -> CoreAsyncExecutor.join(future)).isInstanceOf(CoreApiException.class);
+		assertThat(registry.counter("core.client.async.rejected").count()).isEqualTo(1.0);
+	}
+}
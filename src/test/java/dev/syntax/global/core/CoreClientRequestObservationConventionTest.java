@@ -0,0 +1,47 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+class CoreClientRequestObservationConventionTest {
+
+	@Test
+	@DisplayName("Core 호출은 URI 템플릿과 API 계열 태그로 core.client.requests에 기록된다")
+	void coreCall_recordedWithUriTemplate() {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setObservationRegistry(observationRegistry);
+		restTemplate.setObservationConvention(new CoreClientRequestObservationConvention());
+
+		MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+		server.expect(requestTo("http://core/core/investments/stocks/detail/005930"))
+			.andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+		// when
+		restTemplate.getForObject("http://core/core/investments/stocks/detail/{code}", String.class, "005930");
+
+		// then
+		Timer timer = meterRegistry.find(CoreClientRequestObservationConvention.METRIC_NAME).timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.getId().getTag("uri")).isEqualTo("/core/investments/stocks/detail/{code}");
+		assertThat(timer.getId().getTag("family")).isEqualTo("investments");
+		assertThat(timer.getId().getTag("method")).isEqualTo("GET");
+		assertThat(timer.getId().getTag("outcome")).isEqualTo("SUCCESS");
+	}
+}
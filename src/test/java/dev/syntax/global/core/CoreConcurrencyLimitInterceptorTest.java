@@ -0,0 +1,185 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import dev.syntax.global.exception.CoreApiException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoreConcurrencyLimitInterceptorTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final MockClientHttpRequest request =
+		new MockClientHttpRequest(HttpMethod.GET, URI.create("http://core/core/banking/account"));
+	private CoreApiProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new CoreApiProperties();
+		properties.getLimiter().setMaxQueueWait(Duration.ofMillis(20));
+	}
+
+	@Test
+	@DisplayName("동시 호출 한도에 도달하면 잠시 기다린 뒤 Core를 호출하지 않고 503으로 실패한다")
+	void limitReached_rejected() throws Exception {
+		// given
+		properties.getLimiter().setInitialLimit(1);
+		properties.getLimiter().setMinLimit(1);
+		CoreConcurrencyLimitInterceptor interceptor = new CoreConcurrencyLimitInterceptor(properties, registry);
+
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+			try {
+				interceptor.intercept(request, new byte[0], (req, body) -> {
+					entered.countDown();
+					await(release);
+					return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+				}).close();
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], ok()))
+			.isInstanceOf(CoreApiException.class)
+			.extracting("errorCode").isEqualTo(ErrorBaseCode.CORE_API_UNAVAILABLE);
+		assertThat(registry.counter("core.client.rejected", "family", "accounts", "reason", "limit").count())
+			.isEqualTo(1.0);
+
+		release.countDown();
+		first.get(1, TimeUnit.SECONDS);
+		assertThat(interceptor.getInflight()).isZero();
+	}
+
+	@Test
+	@DisplayName("타임아웃과 5xx 응답은 한도를 줄이고, 4xx 응답은 줄이지 않는다")
+	void overloadSignals_shrinkLimit() throws Exception {
+		// given
+		properties.getLimiter().setInitialLimit(40);
+		properties.getLimiter().setBackoffRatio(0.5);
+		CoreConcurrencyLimitInterceptor interceptor = new CoreConcurrencyLimitInterceptor(properties, registry);
+
+		// when
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], (req, body) -> {
+			throw new SocketTimeoutException("Read timed out");
+		})).isInstanceOf(SocketTimeoutException.class);
+		int afterTimeout = interceptor.getLimit();
+
+		interceptor.intercept(request, new byte[0], status(HttpStatus.SERVICE_UNAVAILABLE)).close();
+		int afterServerError = interceptor.getLimit();
+
+		interceptor.intercept(request, new byte[0], status(HttpStatus.NOT_FOUND)).close();
+
+		// then
+		assertThat(afterTimeout).isEqualTo(20);
+		assertThat(afterServerError).isEqualTo(10);
+		assertThat(interceptor.getLimit()).isEqualTo(10);
+		assertThat(registry.get("core.client.limit").gauge().value()).isEqualTo(10.0);
+	}
+
+	@Test
+	@DisplayName("응답 본문을 읽는 동안에는 자리를 반납하지 않고, 응답을 닫을 때 한 번만 반납한다")
+	void permitHeldUntilClose() throws Exception {
+		// given
+		properties.getLimiter().setInitialLimit(1);
+		properties.getLimiter().setMinLimit(1);
+		CoreConcurrencyLimitInterceptor interceptor = new CoreConcurrencyLimitInterceptor(properties, registry);
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+			(req, body) -> new MockClientHttpResponse("{\"balance\": 1000}".getBytes(), HttpStatus.OK));
+
+		// when
+		int firstByte = response.getBody().read();
+
+		// then
+		assertThat(firstByte).isEqualTo('{');
+		assertThat(interceptor.getInflight()).isEqualTo(1);
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], ok()))
+			.isInstanceOf(CoreApiException.class);
+
+		response.close();
+		response.close();
+		assertThat(interceptor.getInflight()).isZero();
+	}
+
+	@Test
+	@DisplayName("응답 본문을 읽는 중 발생한 I/O 예외는 과부하 신호로 보고 한도를 줄인다")
+	void bodyReadFailure_shrinksLimit() throws Exception {
+		// given
+		properties.getLimiter().setInitialLimit(40);
+		properties.getLimiter().setBackoffRatio(0.5);
+		CoreConcurrencyLimitInterceptor interceptor = new CoreConcurrencyLimitInterceptor(properties, registry);
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+			(req, body) -> new MockClientHttpResponse(new FailingStream(), HttpStatus.OK));
+
+		// when
+		assertThatThrownBy(() -> response.getBody().read()).isInstanceOf(SocketTimeoutException.class);
+		response.close();
+
+		// then
+		assertThat(interceptor.getLimit()).isEqualTo(20);
+		assertThat(interceptor.getInflight()).isZero();
+	}
+
+	@Test
+	@DisplayName("Core 경로가 아닌 외부 API 호출은 한도를 적용하지 않는다")
+	void nonCorePath_passThrough() throws Exception {
+		// given
+		properties.getLimiter().setInitialLimit(0);
+		properties.getLimiter().setMinLimit(0);
+		CoreConcurrencyLimitInterceptor interceptor = new CoreConcurrencyLimitInterceptor(properties, registry);
+		MockClientHttpRequest kakao = new MockClientHttpRequest(HttpMethod.POST, URI.create("https://kauth.kakao.com/oauth/token"));
+
+		// when & then
+		assertThat(interceptor.intercept(kakao, new byte[0], ok()).getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+
+	private static ClientHttpRequestExecution ok() {
+		return status(HttpStatus.OK);
+	}
+
+	private static ClientHttpRequestExecution status(HttpStatus status) {
+		return (req, body) -> new MockClientHttpResponse(new byte[0], status);
+	}
+
+	/**
+	 * 읽는 중 타임아웃이 발생하는 응답 본문
+	 */
+	private static class FailingStream extends InputStream {
+
+		@Override
+		public int read() throws IOException {
+			throw new SocketTimeoutException("Read timed out");
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
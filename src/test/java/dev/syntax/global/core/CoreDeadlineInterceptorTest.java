@@ -0,0 +1,112 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import dev.syntax.global.exception.CoreApiException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoreDeadlineInterceptorTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final AtomicInteger executed = new AtomicInteger();
+	private final ClientHttpRequestExecution execution = (request, body) -> {
+		executed.incrementAndGet();
+		return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+	};
+	private CoreDeadlineInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		interceptor = new CoreDeadlineInterceptor(new CoreApiProperties(), registry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestDeadline.clear();
+	}
+
+	@Test
+	@DisplayName("요청 마감 시각까지 남은 시간을 X-Request-Deadline 헤더로 전달한다")
+	void withinDeadline_forwardsRemainingMillis() throws IOException {
+		// given
+		RequestDeadline.start(Duration.ofSeconds(2));
+		MockClientHttpRequest request = request("/core/banking/account");
+
+		// when
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		long forwarded = Long.parseLong(request.getHeaders().getFirst(RequestDeadline.HEADER));
+		assertThat(forwarded).isBetween(1L, 2_000L);
+	}
+
+	@Test
+	@DisplayName("남은 시간이 최소 시간보다 적으면 Core를 호출하지 않고 504로 실패한다")
+	void deadlineExhausted_failsFast() {
+		// given
+		RequestDeadline.start(Duration.ofMillis(10));
+		MockClientHttpRequest request = request("/core/transaction/1");
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+			.isInstanceOf(CoreApiException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorBaseCode.CORE_API_DEADLINE_EXCEEDED);
+		assertThat(executed).hasValue(0);
+		assertThat(registry.counter("core.client.rejected",
+			"family", "transactions", "reason", "deadline").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("요청 마감 시각이 없으면 헤더 없이 그대로 호출한다")
+	void noDeadline_passesThrough() throws IOException {
+		// given
+		MockClientHttpRequest request = request("/core/banking/account");
+
+		// when
+		interceptor.intercept(request, new byte[0], execution);
+
+		// then
+		assertThat(executed).hasValue(1);
+		assertThat(request.getHeaders().containsKey(RequestDeadline.HEADER)).isFalse();
+	}
+
+	@Test
+	@DisplayName("감싼 작업은 다른 스레드에서도 같은 마감 시각을 사용한다")
+	void wrap_propagatesDeadlineToOtherThread() {
+		// given
+		RequestDeadline.start(Duration.ofSeconds(2));
+
+		// when
+		Duration remaining = CompletableFuture.supplyAsync(RequestDeadline.wrap(RequestDeadline::remaining)).join();
+		Duration unwrapped = CompletableFuture.supplyAsync(RequestDeadline::remaining).join();
+
+		// then
+		assertThat(remaining).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(2));
+		assertThat(unwrapped).isNull();
+	}
+
+	private MockClientHttpRequest request(String path) {
+		return new MockClientHttpRequest(HttpMethod.GET, URI.create("http://core" + path));
+	}
+}
@@ -0,0 +1,154 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoreHedgingInterceptorTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private CoreApiProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new CoreApiProperties();
+		properties.getHedge().setEnabled(true);
+		properties.getHedge().setInitialDelay(Duration.ofMillis(20));
+		properties.getHedge().setMinDelay(Duration.ofMillis(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("첫 요청이 지연되면 헤지 요청을 보내고 먼저 도착한 응답을 사용한다")
+	void slowPrimary_hedgeWins() throws Exception {
+		// given
+		ClientHttpResponse slow = mock(ClientHttpResponse.class);
+		ClientHttpResponse fast = mock(ClientHttpResponse.class);
+		CountDownLatch release = new CountDownLatch(1);
+		StubExecution execution = new StubExecution(List.of(
+			() -> {
+				release.await(1, TimeUnit.SECONDS);
+				return slow;
+			},
+			() -> fast));
+		CoreHedgingInterceptor interceptor = new CoreHedgingInterceptor(properties, executor, registry);
+
+		// when
+		ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET, "/core/banking/account"),
+			new byte[0], execution);
+		release.countDown();
+
+		// then
+		assertThat(response).isSameAs(fast);
+		assertThat(execution.calls.get()).isEqualTo(2);
+		verify(slow, timeout(1000)).close();
+		assertThat(registry.counter("core.client.hedge.fired", "family", "accounts").count()).isEqualTo(1.0);
+		assertThat(registry.counter("core.client.hedge.won", "family", "accounts").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("헤지 예산이 없으면 헤지하지 않고 첫 요청의 응답을 기다린다")
+	void budgetExhausted_noHedge() throws Exception {
+		// given
+		properties.getHedge().setBudgetBurst(0);
+		ClientHttpResponse slow = mock(ClientHttpResponse.class);
+		StubExecution execution = new StubExecution(List.of(
+			() -> {
+				Thread.sleep(100);
+				return slow;
+			}));
+		CoreHedgingInterceptor interceptor = new CoreHedgingInterceptor(properties, executor, registry);
+
+		// when
+		ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET, "/core/transaction/account/1"),
+			new byte[0], execution);
+
+		// then
+		assertThat(response).isSameAs(slow);
+		assertThat(execution.calls.get()).isEqualTo(1);
+		assertThat(registry.counter("core.client.hedge.throttled", "family", "transactions").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("상태 변경 호출은 헤지하지 않고 호출 스레드에서 그대로 실행한다")
+	void post_passThrough() throws Exception {
+		// given
+		ClientHttpResponse ok = mock(ClientHttpResponse.class);
+		Thread caller = Thread.currentThread();
+		StubExecution execution = new StubExecution(List.of(
+			() -> {
+				assertThat(Thread.currentThread()).isSameAs(caller);
+				return ok;
+			}));
+		CoreHedgingInterceptor interceptor = new CoreHedgingInterceptor(properties, executor, registry);
+
+		// when
+		ClientHttpResponse response = interceptor.intercept(request(HttpMethod.POST, "/core/investments/trade/buy"),
+			new byte[0], execution);
+
+		// then
+		assertThat(response).isSameAs(ok);
+		assertThat(execution.calls.get()).isEqualTo(1);
+	}
+
+	private MockClientHttpRequest request(HttpMethod method, String path) {
+		return new MockClientHttpRequest(method, URI.create("http://core" + path));
+	}
+
+	@FunctionalInterface
+	private interface Step {
+		ClientHttpResponse run() throws Exception;
+	}
+
+	/**
+	 * 호출 순서대로 미리 정해진 동작을 실행하는 실행 체인
+	 */
+	private static class StubExecution implements ClientHttpRequestExecution {
+
+		private final List<Step> steps;
+		private final AtomicInteger calls = new AtomicInteger();
+
+		StubExecution(List<Step> steps) {
+			this.steps = steps;
+		}
+
+		@Override
+		public ClientHttpResponse execute(HttpRequest request, byte[] body) throws IOException {
+			try {
+				return steps.get(calls.getAndIncrement()).run();
+			} catch (IOException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketException;
+import java.net.URI;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import dev.syntax.global.exception.CoreApiException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoreResilienceInterceptorTest {
+
+	private final MockClientHttpRequest request =
+		new MockClientHttpRequest(HttpMethod.GET, URI.create("http://core/core/banking/account"));
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+	private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+		.maxConcurrentCalls(1)
+		.build());
+	private final CoreResilienceInterceptor interceptor =
+		new CoreResilienceInterceptor(circuitBreakerRegistry, bulkheadRegistry, new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("응답을 닫기 전까지는 벌크헤드 자리를 반납하지 않는다")
+	void bulkheadHeldUntilClose() throws Exception {
+		// given
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+			(req, body) -> new MockClientHttpResponse("{}".getBytes(), HttpStatus.OK));
+		Bulkhead bulkhead = bulkheadRegistry.bulkhead(CoreApiFamily.ACCOUNTS.instanceName());
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CoreApiFamily.ACCOUNTS.instanceName());
+
+		// when & then
+		assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isZero();
+		assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0],
+			(req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK)))
+			.isInstanceOf(CoreApiException.class);
+
+		response.close();
+		response.close();
+		assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+		assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("응답 본문을 읽는 중 발생한 I/O 예외는 서킷 브레이커에 실패로 기록한다")
+	void bodyReadFailure_recordedAsError() throws Exception {
+		// given
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+			(req, body) -> new MockClientHttpResponse(new ResetStream(), HttpStatus.OK));
+
+		// when
+		assertThatThrownBy(() -> response.getBody().readAllBytes()).isInstanceOf(SocketException.class);
+		response.close();
+
+		// then
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CoreApiFamily.ACCOUNTS.instanceName());
+		assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+		assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isZero();
+	}
+
+	/**
+	 * 읽는 중 연결이 끊기는 응답 본문
+	 */
+	private static class ResetStream extends InputStream {
+
+		@Override
+		public int read() throws IOException {
+			throw new SocketException("Connection reset");
+		}
+	}
+}
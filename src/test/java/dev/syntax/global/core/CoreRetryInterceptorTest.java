@@ -0,0 +1,151 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoreRetryInterceptorTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private CoreRetryInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		CoreApiProperties properties = new CoreApiProperties();
+		properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+		properties.getRetry().setMaxBackoff(Duration.ofMillis(2));
+		interceptor = new CoreRetryInterceptor(properties, registry);
+	}
+
+	@Test
+	@DisplayName("상태 변경 호출은 연결 실패 시 같은 멱등 키로 재시도한다")
+	void post_retriedWithSameIdempotencyKey() throws IOException {
+		// given
+		MockClientHttpRequest request = request(HttpMethod.POST, "/core/banking/auto-transfer/create");
+		ScriptedExecution execution = new ScriptedExecution(
+			new ConnectException("Connection refused"),
+			new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+		// when
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(execution.idempotencyKeys).hasSize(2).doesNotContainNull();
+		assertThat(execution.idempotencyKeys.get(0)).isEqualTo(execution.idempotencyKeys.get(1));
+		assertThat(registry.counter("core.client.retries",
+			"family", "auto-transfer", "method", "POST", "outcome", "retried").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수를 넘기면 마지막 실패를 그대로 던진다")
+	void post_exhausted_throwsLastFailure() {
+		// given
+		MockClientHttpRequest request = request(HttpMethod.POST, "/core/investments/trade/buy");
+		ScriptedExecution execution = new ScriptedExecution(
+			new ConnectException("refused-1"), new ConnectException("refused-2"), new ConnectException("refused-3"));
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+			.isInstanceOf(ConnectException.class)
+			.hasMessage("refused-3");
+		assertThat(execution.idempotencyKeys).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("Core가 이미 처리했을 수 있는 실패(읽기 타임아웃, 연결 리셋)는 재시도하지 않는다")
+	void post_sentFailure_notRetried() {
+		// given
+		MockClientHttpRequest timeoutRequest = request(HttpMethod.POST, "/core/investments/trade/buy");
+		ScriptedExecution timeout = new ScriptedExecution(new SocketTimeoutException("Read timed out"));
+		MockClientHttpRequest resetRequest = request(HttpMethod.POST, "/core/banking/goal/create");
+		ScriptedExecution reset = new ScriptedExecution(new SocketException("Connection reset"));
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.intercept(timeoutRequest, new byte[0], timeout))
+			.isInstanceOf(SocketTimeoutException.class);
+		assertThatThrownBy(() -> interceptor.intercept(resetRequest, new byte[0], reset))
+			.isInstanceOf(SocketException.class);
+		assertThat(timeout.idempotencyKeys).hasSize(1);
+		assertThat(reset.idempotencyKeys).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("5xx 응답은 재시도하지 않고 그대로 반환한다")
+	void post_serverError_notRetried() throws IOException {
+		// given
+		MockClientHttpRequest request = request(HttpMethod.POST, "/core/banking/init");
+		ScriptedExecution execution = new ScriptedExecution(
+			new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+
+		// when
+		ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(execution.idempotencyKeys).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("조회(GET) 호출은 재시도하지 않고 멱등 키도 붙이지 않는다")
+	void get_notRetried() {
+		// given
+		MockClientHttpRequest request = request(HttpMethod.GET, "/core/banking/account");
+		ScriptedExecution execution = new ScriptedExecution(new SocketException("reset"));
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+			.isInstanceOf(SocketException.class);
+		assertThat(execution.idempotencyKeys).containsExactly((String)null);
+	}
+
+	private MockClientHttpRequest request(HttpMethod method, String path) {
+		return new MockClientHttpRequest(method, URI.create("http://core" + path));
+	}
+
+	/**
+	 * 미리 정해진 순서대로 예외 또는 응답을 돌려주는 실행 체인
+	 */
+	private static class ScriptedExecution implements ClientHttpRequestExecution {
+
+		private final Queue<Object> script;
+		private final List<String> idempotencyKeys = new ArrayList<>();
+
+		ScriptedExecution(Object... results) {
+			this.script = new LinkedList<>(List.of(results));
+		}
+
+		@Override
+		public ClientHttpResponse execute(org.springframework.http.HttpRequest request, byte[] body)
+			throws IOException {
+			idempotencyKeys.add(request.getHeaders().getFirst(CoreRetryInterceptor.IDEMPOTENCY_KEY_HEADER));
+			Object next = script.remove();
+			if (next instanceof IOException e) {
+				throw e;
+			}
+			return (ClientHttpResponse)next;
+		}
+	}
+}
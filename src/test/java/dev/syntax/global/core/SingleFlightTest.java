@@ -0,0 +1,95 @@
+package dev.syntax.global.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import dev.syntax.global.exception.BusinessException;
+import dev.syntax.global.response.error.ErrorBaseCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final Counter coalesced = registry.counter("test.coalesced");
+	private final SingleFlight<Long, String> flight = new SingleFlight<>(coalesced);
+
+	@Test
+	@DisplayName("같은 키의 동시 호출은 한 번만 실행되고 결과를 공유한다")
+	void concurrentCallsWithSameKey_shareSingleExecution() throws Exception {
+		// given
+		int callers = 5;
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+		// when
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> flight.execute(1L, () -> {
+			executions.incrementAndGet();
+			started.countDown();
+			await(release);
+			return "accounts";
+		})));
+		started.await(1, TimeUnit.SECONDS);
+		for (int i = 1; i < callers; i++) {
+			results.add(executor.submit(() -> flight.execute(1L, () -> {
+				executions.incrementAndGet();
+				return "other";
+			})));
+		}
+		while (coalesced.count() < callers - 1) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		// then
+		for (Future<String> result : results) {
+			assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("accounts");
+		}
+		assertThat(executions.get()).isEqualTo(1);
+		assertThat(coalesced.count()).isEqualTo(callers - 1);
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("호출이 끝난 뒤의 같은 키 호출은 새로 실행된다")
+	void sequentialCalls_areNotCached() {
+		AtomicInteger executions = new AtomicInteger();
+
+		flight.execute(1L, () -> "v" + executions.incrementAndGet());
+		String second = flight.execute(1L, () -> "v" + executions.incrementAndGet());
+
+		assertThat(second).isEqualTo("v2");
+		assertThat(coalesced.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("실제 호출의 예외는 그대로 전달된다")
+	void exception_isPropagated() {
+		assertThatThrownBy(() -> flight.execute(1L, () -> {
+			throw new BusinessException(ErrorBaseCode.CORE_API_UNAVAILABLE);
+		})).isInstanceOf(BusinessException.class);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
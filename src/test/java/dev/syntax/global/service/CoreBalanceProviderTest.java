@@ -0,0 +1,182 @@
+package dev.syntax.global.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import dev.syntax.domain.account.client.CoreAccountAsyncClient;
+import dev.syntax.domain.account.client.CoreAccountClient;
+import dev.syntax.domain.account.client.CoreAccountSnapshotCache;
+import dev.syntax.domain.account.dto.core.CoreAccountItemRes;
+import dev.syntax.domain.account.dto.core.CoreChildAccountInfoRes;
+import dev.syntax.domain.account.dto.core.CoreUserAccountListRes;
+import dev.syntax.domain.account.enums.AccountType;
+import dev.syntax.domain.user.entity.User;
+import dev.syntax.domain.user.entity.UserRelationship;
+import dev.syntax.domain.user.enums.Role;
+import dev.syntax.domain.user.repository.UserRepository;
+import dev.syntax.global.core.CoreApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CoreBalanceProviderTest {
+
+	private static final long PARENT_CORE_ID = 100L;
+	private static final long CHILD1_CORE_ID = 101L;
+	private static final long CHILD2_CORE_ID = 102L;
+
+	@Mock
+	private CoreAccountClient coreAccountClient;
+
+	@Mock
+	private CoreAccountAsyncClient coreAccountAsyncClient;
+
+	@Mock
+	private UserRepository userRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CoreAccountSnapshotCache snapshotCache;
+	private CoreBalanceProvider balanceProvider;
+
+	@BeforeEach
+	void setUp() {
+		CoreApiProperties properties = new CoreApiProperties();
+		meterRegistry = new SimpleMeterRegistry();
+		snapshotCache = new CoreAccountSnapshotCache(properties, Runnable::run, meterRegistry);
+		balanceProvider = new CoreBalanceProvider(coreAccountClient, coreAccountAsyncClient, snapshotCache,
+			userRepository, properties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("자녀 잔액 조회 시 부모 기준으로 Core에서 한 번 조회하고 형제 자녀 잔액은 캐시에서 응답한다")
+	void getBalancesByType_fetchesOncePerFamily() {
+		// given
+		User parent = User.builder().id(1L).role(Role.PARENT).coreUserId(PARENT_CORE_ID).build();
+		User child1 = childOf(parent, 2L, CHILD1_CORE_ID);
+		User child2 = childOf(parent, 3L, CHILD2_CORE_ID);
+		given(coreAccountClient.getLatestUserAccounts(PARENT_CORE_ID)).willReturn(familyAccounts());
+
+		// when
+		Map<AccountType, Long> first = balanceProvider.getBalancesByType(child1);
+		long second = balanceProvider.getUserBalanceByType(child2, AccountType.ALLOWANCE);
+		long parentTotal = balanceProvider.getUserTotalBalance(parent);
+
+		// then
+		assertThat(first).containsEntry(AccountType.ALLOWANCE, 10_000L).containsEntry(AccountType.GOAL, 3_000L);
+		assertThat(first).doesNotContainKey(AccountType.INVEST);
+		assertThat(second).isEqualTo(5_000L);
+		assertThat(parentTotal).isEqualTo(50_000L);
+		verify(coreAccountClient, times(1)).getLatestUserAccounts(anyLong());
+		// 계좌 목록 스냅샷(stale-while-revalidate)을 거치지 않음
+		verify(coreAccountClient, never()).getUserAccounts(anyLong());
+		assertThat(meterRegistry.counter("core.balance.family.fetches").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("여러 사용자 잔액 배치 조회 시 가족마다 Core 계좌 목록을 한 번씩만 조회한다")
+	void getBalancesForUsers_groupsByFamily() {
+		// given
+		long otherParentCoreId = 200L;
+		long otherChildCoreId = 201L;
+		given(userRepository.findCoreUserIdsWithParent(List.of(2L, 3L, 4L, 5L))).willReturn(List.of(
+			new Row(2L, CHILD1_CORE_ID, PARENT_CORE_ID),
+			new Row(3L, CHILD2_CORE_ID, PARENT_CORE_ID),
+			new Row(4L, otherChildCoreId, otherParentCoreId),
+			new Row(5L, null, null)
+		));
+		given(coreAccountAsyncClient.getLatestUserAccounts(PARENT_CORE_ID))
+			.willReturn(CompletableFuture.completedFuture(familyAccounts()));
+		given(coreAccountAsyncClient.getLatestUserAccounts(otherParentCoreId))
+			.willReturn(CompletableFuture.completedFuture(new CoreUserAccountListRes(List.of(), List.of(
+				new CoreChildAccountInfoRes(otherChildCoreId, List.of(account(AccountType.ALLOWANCE, "7000")))
+			))));
+
+		// when
+		Map<Long, Long> balances = balanceProvider.getBalancesForUsers(List.of(2L, 3L, 4L, 5L));
+
+		// then
+		assertThat(balances).containsExactly(
+			Map.entry(2L, 13_000L),
+			Map.entry(3L, 5_000L),
+			Map.entry(4L, 7_000L),
+			Map.entry(5L, 0L)
+		);
+		verify(coreAccountAsyncClient, times(2)).getLatestUserAccounts(anyLong());
+		verify(coreAccountClient, never()).getLatestUserAccounts(anyLong());
+	}
+
+	@Test
+	@DisplayName("계좌 목록 스냅샷이 무효화되면 캐시된 잔액도 다시 조회한다")
+	void snapshotEviction_invalidatesBalances() {
+		// given
+		User parent = User.builder().id(1L).role(Role.PARENT).coreUserId(PARENT_CORE_ID).build();
+		User child = childOf(parent, 2L, CHILD1_CORE_ID);
+		given(coreAccountClient.getLatestUserAccounts(PARENT_CORE_ID)).willReturn(familyAccounts());
+		balanceProvider.getBalancesByType(child);
+
+		// when
+		snapshotCache.evictFamily(child);
+		balanceProvider.getBalancesByType(child);
+
+		// then
+		verify(coreAccountClient, times(2)).getLatestUserAccounts(PARENT_CORE_ID);
+	}
+
+	private static User childOf(User parent, Long id, Long coreUserId) {
+		User child = User.builder().id(id).role(Role.CHILD).coreUserId(coreUserId).build();
+		UserRelationship relationship = UserRelationship.builder().parent(parent).child(child).build();
+		child.getParents().add(relationship);
+		parent.getChildren().add(relationship);
+		return child;
+	}
+
+	private static CoreUserAccountListRes familyAccounts() {
+		return new CoreUserAccountListRes(
+			List.of(account(AccountType.DEPOSIT, "50000")),
+			List.of(
+				new CoreChildAccountInfoRes(CHILD1_CORE_ID, List.of(
+					account(AccountType.ALLOWANCE, "10000"),
+					account(AccountType.GOAL, "3000")
+				)),
+				new CoreChildAccountInfoRes(CHILD2_CORE_ID, List.of(account(AccountType.ALLOWANCE, "5000")))
+			)
+		);
+	}
+
+	private static CoreAccountItemRes account(AccountType type, String balance) {
+		return new CoreAccountItemRes(1L, "1234-5678", type, new BigDecimal(balance));
+	}
+
+	private record Row(Long userId, Long coreUserId, Long parentCoreUserId) implements UserRepository.CoreUserIdView {
+
+		@Override
+		public Long getUserId() {
+			return userId;
+		}
+
+		@Override
+		public Long getCoreUserId() {
+			return coreUserId;
+		}
+
+		@Override
+		public Long getParentCoreUserId() {
+			return parentCoreUserId;
+		}
+	}
+}